@@ -0,0 +1,104 @@
+/*
+ * 클래스 설명 : 새 키워드와 유사한 게시판을 찾을 때 게시판 수에 따른 비용 비교 벤치마크 (./gradlew jmh)
+ * - linearScan : 기존 방식. 모든 게시판과 비교하면서 비교마다 교집합, 합집합 HashSet을 생성
+ * - minHashIndex : BoardSimilarityIndex. LSH 버킷으로 찾은 후보만 실제 Jaccard 유사도를 계산
+ * - 게시판 이름은 고정 seed로 만든 2~4개 단어의 조합이며, 검색 키워드도 같은 방식으로 만든다
+ */
+package com.trend_now.backend.board;
+
+import com.trend_now.backend.board.cache.BoardSimilarityIndex;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BoardSimilarityBenchmark {
+
+    private static final double SIMILARITY_THRESHOLD = 0.3;
+    private static final int VOCABULARY_SIZE = 5000;
+    private static final int KEYWORD_COUNT = 100;
+
+    @Param({"1000", "10000", "100000"})
+    private int boardCount;
+
+    private List<Set<String>> boardWords;
+    private List<Set<String>> keywords;
+    private BoardSimilarityIndex boardSimilarityIndex;
+    private int keywordIndex;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        boardWords = new ArrayList<>(boardCount);
+        boardSimilarityIndex = new BoardSimilarityIndex();
+        for (int i = 0; i < boardCount; i++) {
+            Set<String> words = randomWords(random);
+            boardWords.add(words);
+            boardSimilarityIndex.add((long) i, String.join(" ", words), words);
+        }
+
+        keywords = new ArrayList<>(KEYWORD_COUNT);
+        for (int i = 0; i < KEYWORD_COUNT; i++) {
+            keywords.add(randomWords(random));
+        }
+    }
+
+    @Benchmark
+    public Long linearScan() {
+        Set<String> newSet = nextKeyword();
+        for (int boardId = 0; boardId < boardWords.size(); boardId++) {
+            Set<String> originSet = boardWords.get(boardId);
+            Set<String> intersection = new HashSet<>(newSet);
+            intersection.retainAll(originSet);
+
+            Set<String> union = new HashSet<>(newSet);
+            union.addAll(originSet);
+
+            double similarity = (double) intersection.size() / union.size();
+            if (similarity < 1.0 && similarity > SIMILARITY_THRESHOLD) {
+                return (long) boardId;
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public Long minHashIndex() {
+        return boardSimilarityIndex.findMostSimilar(nextKeyword(), SIMILARITY_THRESHOLD)
+            .map(BoardSimilarityIndex.SimilarBoard::boardId)
+            .orElse(null);
+    }
+
+    private Set<String> nextKeyword() {
+        keywordIndex = (keywordIndex + 1) % KEYWORD_COUNT;
+        return keywords.get(keywordIndex);
+    }
+
+    private static Set<String> randomWords(Random random) {
+        int wordCount = 2 + random.nextInt(3);
+        Set<String> words = new HashSet<>();
+        while (words.size() < wordCount) {
+            words.add("단어" + random.nextInt(VOCABULARY_SIZE));
+        }
+        return words;
+    }
+}
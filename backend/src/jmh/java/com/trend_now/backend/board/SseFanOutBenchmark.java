@@ -0,0 +1,94 @@
+/*
+ * 클래스 설명 : 실시간 검색어 SSE 전송 시 클라이언트 수에 따른 인코딩 비용 비교 벤치마크 (./gradlew jmh)
+ * - perClientSerialization : 기존 방식. 클라이언트마다 SseEmitter.event()를 만들고 Jackson으로 데이터를 다시 직렬화
+ * - sharedFrame : SseEvent로 프레임을 한 번만 인코딩하고 모든 클라이언트에게 같은 바이트를 쓰기
+ * - 실제 소켓 대신 OutputStream.nullOutputStream()에 써서 직렬화/인코딩 비용만 비교한다
+ */
+package com.trend_now.backend.board;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trend_now.backend.board.application.SseEventDispatcher.SseEvent;
+import com.trend_now.backend.board.dto.RankChangeType;
+import com.trend_now.backend.board.dto.Top10WithChange;
+import com.trend_now.backend.board.dto.Top10WithDiff;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SseFanOutBenchmark {
+
+    private static final String SIGNAL_KEYWORD_LIST_EMITTER_NAME = "signalKeywordList";
+
+    @Param({"1000", "10000", "50000"})
+    private int clientCount;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final OutputStream socket = OutputStream.nullOutputStream();
+    private Top10WithChange top10WithChange;
+    private List<String> clientIds;
+
+    @Setup
+    public void setUp() {
+        List<Top10WithDiff> top10WithDiffs = new ArrayList<>();
+        for (int rank = 1; rank <= 10; rank++) {
+            top10WithDiffs.add(new Top10WithDiff(rank, "실시간 검색어 " + rank, (long) rank,
+                RankChangeType.UP, rank));
+        }
+        top10WithChange = new Top10WithChange(System.currentTimeMillis(), top10WithDiffs, 1L);
+
+        clientIds = new ArrayList<>(clientCount);
+        for (int i = 0; i < clientCount; i++) {
+            clientIds.add("client-" + i);
+        }
+    }
+
+    @Benchmark
+    public void perClientSerialization() throws IOException {
+        for (String clientId : clientIds) {
+            for (DataWithMediaType data : SseEmitter.event()
+                .name(SIGNAL_KEYWORD_LIST_EMITTER_NAME)
+                .id(clientId)
+                .data(top10WithChange, MediaType.APPLICATION_JSON)
+                .build()) {
+                if (data.getData() instanceof String text) {
+                    socket.write(text.getBytes(StandardCharsets.UTF_8));
+                } else {
+                    // writeValue(OutputStream)는 AUTO_CLOSE_TARGET으로 공유 스트림을 닫으므로 바이트로 직렬화한 후 쓴다
+                    socket.write(objectMapper.writeValueAsBytes(data.getData()));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void sharedFrame() throws IOException {
+        SseEvent event = SseEvent.latestOnly(SIGNAL_KEYWORD_LIST_EMITTER_NAME,
+            objectMapper.writeValueAsBytes(top10WithChange));
+        for (int i = 0; i < clientIds.size(); i++) {
+            socket.write(event.frame());
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * 클래스 설명 : SSE 연결 방식별로 연결당 힙 사용량을 비교하는 부하 테스트 도구 (테스트 소스가 아닌 loadTest 소스셋의 main 실행)
+ * - 실행 중인 서버에 SSE 연결을 N개 맺고, 연결 전후의 힙 사용량(actuator jvm.memory.used, area=heap)을 비교한다
+ * - emitter : 기존 SseEmitter 방식 (/api/v1/subscribe), stream : 리액티브 스트림 방식 (/api/v1/subscribe/stream)
+ * - 측정 오차를 줄이기 위해 서버는 -Xms와 -Xmx를 같게 두고, 연결 후 안정화 시간 동안 GC가 한 번 이상 일어나도록 한다
+ *
+ * 실행 예시 (actuator는 관리자 권한이 필요하므로 관리자 Access Token 전달)
+ *   ACCESS_TOKEN=... ./gradlew sseLoadTest -PbaseUrl=http://localhost:8080 -Pmode=stream -Pconnections=10000
+ */
+package com.trend_now.backend.load;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class SseConnectionLoadHarness {
+
+    private static final Pattern METRIC_VALUE_PATTERN = Pattern.compile("\"value\"\\s*:\\s*([0-9.E+-]+)");
+    private static final String HEAP_METRIC_PATH = "/actuator/metrics/jvm.memory.used?tag=area:heap";
+    private static final long BYTES_PER_GB = 1024L * 1024 * 1024;
+    private static final int MAX_CONCURRENT_CONNECTS = 500;
+    private static final Duration SETTLE_TIME = Duration.ofSeconds(30);
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        String mode = args.length > 1 ? args[1] : "stream";
+        int connectionCount = args.length > 2 ? Integer.parseInt(args[2]) : 10_000;
+        String accessToken = System.getenv("ACCESS_TOKEN");
+
+        // HTTP/2 다중화 없이 SSE 하나당 TCP 연결 하나를 사용하도록 HTTP/1.1 고정
+        HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+        double heapBefore = readHeapUsed(httpClient, baseUrl, accessToken);
+        List<CompletableFuture<HttpResponse<InputStream>>> connections = openConnections(
+            httpClient, baseUrl, mode, connectionCount);
+        Thread.sleep(SETTLE_TIME.toMillis());
+        double heapAfter = readHeapUsed(httpClient, baseUrl, accessToken);
+
+        long opened = connections.stream()
+            .filter(connection -> connection.isDone() && !connection.isCompletedExceptionally())
+            .count();
+        double bytesPerConnection = (heapAfter - heapBefore) / Math.max(opened, 1);
+        System.out.printf("mode=%s, 연결 성공=%d/%d, 힙 증가=%.1fMB, 연결당 %.1fKB, 1GB당 약 %.0f개 연결%n",
+            mode, opened, connectionCount, (heapAfter - heapBefore) / (1024 * 1024),
+            bytesPerConnection / 1024, BYTES_PER_GB / Math.max(bytesPerConnection, 1));
+
+        connections.forEach(connection -> connection.cancel(true));
+        System.exit(0);
+    }
+
+    private static List<CompletableFuture<HttpResponse<InputStream>>> openConnections(
+        HttpClient httpClient, String baseUrl, String mode, int connectionCount)
+        throws InterruptedException {
+        Semaphore connecting = new Semaphore(MAX_CONCURRENT_CONNECTS);
+        List<CompletableFuture<HttpResponse<InputStream>>> connections = new ArrayList<>();
+        for (int i = 0; i < connectionCount; i++) {
+            connecting.acquire();
+            HttpRequest request = HttpRequest.newBuilder(URI.create(subscribeUrl(baseUrl, mode)))
+                .header("Accept", "text/event-stream")
+                .GET()
+                .build();
+            // 응답 헤더를 받으면 연결이 성립된 것으로 보고, 본문(InputStream)은 열어둔 채로 유지한다
+            connections.add(httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream())
+                .whenComplete((response, e) -> connecting.release()));
+        }
+        return connections;
+    }
+
+    private static String subscribeUrl(String baseUrl, String mode) {
+        if ("emitter".equals(mode)) {
+            return baseUrl + "/api/v1/subscribe?clientId=load-" + UUID.randomUUID();
+        }
+        return baseUrl + "/api/v1/subscribe/stream";
+    }
+
+    private static double readHeapUsed(HttpClient httpClient, String baseUrl, String accessToken)
+        throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + HEAP_METRIC_PATH))
+            .GET();
+        if (accessToken != null) {
+            request.header("Authorization", "Bearer " + accessToken);
+        }
+        String body = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString()).body();
+        Matcher matcher = METRIC_VALUE_PATTERN.matcher(body);
+        if (!matcher.find()) {
+            throw new IllegalStateException("힙 사용량 메트릭을 읽을 수 없습니다: " + body);
+        }
+        return Double.parseDouble(matcher.group(1));
+    }
+}
@@ -0,0 +1,226 @@
+package com.trend_now.backend.board.application;
+
+import com.trend_now.backend.board.dto.BoardCountDto;
+import com.trend_now.backend.board.dto.RealtimeBoardDto;
+import com.trend_now.backend.board.repository.BoardRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 게시판 단위 조회수/좋아요 수 집계를 Redis Hash(board_aggregate:{boardId})로 관리하는 서비스
+ * - Hash에는 DB 집계값(synced_views, synced_likes)과 아직 DB에 반영되지 않은 증감분(views, likes)을 저장하고,
+ *   조회 시 두 값을 합산하므로 목록 조회마다 DB에서 조회수 합계/좋아요 수를 집계하지 않는다
+ * - DB 집계값이 없는 게시판(최초 조회, 만료)만 DB에서 집계하여 채운다
+ * - DB 동기화(Quartz) 트랜잭션이 커밋되면 반영된 만큼 증감분을 DB 집계값으로 옮긴다 (롤백 시에는 증감분을 유지)
+ * - 변경될 때마다 실시간 게시판의 유지 시간만큼 만료 시간을 갱신한다
+ * - 좋아요 증감분은 좋아요 토글 Lua 스크립트(post_like_toggle.lua)에서 함께 증가시킨다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BoardAggregateService {
+
+    private static final String BOARD_AGGREGATE_KEY_PREFIX = "board_aggregate:";
+    private static final String VIEW_COUNT_FIELD = "views";
+    public static final String LIKE_COUNT_FIELD = "likes";
+    private static final String SYNCED_VIEW_COUNT_FIELD = "synced_views";
+    private static final String SYNCED_LIKE_COUNT_FIELD = "synced_likes";
+    public static final Duration AGGREGATE_TTL = Duration.ofSeconds(BoardRedisService.KEY_LIVE_TIME);
+    private static final int VIEW_COUNT_IDX = 0;
+    private static final int LIKE_COUNT_IDX = 1;
+    private static final int SYNCED_VIEW_COUNT_IDX = 2;
+    private static final int SYNCED_LIKE_COUNT_IDX = 3;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final BoardRepository boardRepository;
+    private final RedisScript<Long> boardAggregateSyncScript;
+
+    public void incrementViewCount(Long boardId) {
+        String key = generateAggregateKey(boardId);
+        redisTemplate.executePipelined(new SessionCallback<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                operations.opsForHash().increment(key, VIEW_COUNT_FIELD, 1);
+                operations.expire(key, AGGREGATE_TTL);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * DB에 동기화된 조회수 증가분을 게시판별 증감분에서 DB 집계값으로 옮긴다
+     */
+    public void moveSyncedViewCounts(Map<Long, Long> syncedViewCountByBoard) {
+        moveSyncedCountsAfterCommit(VIEW_COUNT_FIELD, SYNCED_VIEW_COUNT_FIELD,
+            syncedViewCountByBoard);
+    }
+
+    /**
+     * DB에 동기화된 좋아요 증감분을 게시판별 증감분에서 DB 집계값으로 옮긴다
+     */
+    public void moveSyncedLikeCounts(Map<Long, Long> syncedLikeCountByBoard) {
+        moveSyncedCountsAfterCommit(LIKE_COUNT_FIELD, SYNCED_LIKE_COUNT_FIELD,
+            syncedLikeCountByBoard);
+    }
+
+    /**
+     * 동기화 트랜잭션이 롤백되면 DB에 반영되지 않으므로, 커밋된 후에만 증감분을 옮긴다
+     */
+    private void moveSyncedCountsAfterCommit(String field, String syncedField,
+        Map<Long, Long> syncedCountByBoard) {
+        Map<Long, Long> movedCountByBoard = syncedCountByBoard.entrySet().stream()
+            .filter(entry -> entry.getValue() != 0)
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        if (movedCountByBoard.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            moveSyncedCounts(field, syncedField, movedCountByBoard);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                moveSyncedCounts(field, syncedField, movedCountByBoard);
+            }
+        });
+    }
+
+    private void moveSyncedCounts(String field, String syncedField,
+        Map<Long, Long> movedCountByBoard) {
+        List<String> keys = new ArrayList<>(movedCountByBoard.size());
+        List<String> args = new ArrayList<>(movedCountByBoard.size() + 2);
+        args.add(field);
+        args.add(syncedField);
+        movedCountByBoard.forEach((boardId, count) -> {
+            keys.add(generateAggregateKey(boardId));
+            args.add(String.valueOf(count));
+        });
+        redisTemplate.execute(boardAggregateSyncScript, keys, args.toArray());
+    }
+
+    /**
+     * 게시판 목록에 Redis 게시판 집계 Hash의 조회수/좋아요 수를 파이프라인 1번으로 채운다
+     * - DB 집계값이 없는 게시판만 DB에서 집계하여 Hash에 채운다
+     * - Redis 장애 시에는 DB 집계값을 그대로 사용한다
+     */
+    public void applyAggregates(List<RealtimeBoardDto> realtimeBoardList) {
+        if (realtimeBoardList.isEmpty()) {
+            return;
+        }
+
+        List<Object> results;
+        try {
+            results = redisTemplate.executePipelined(new SessionCallback<>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) throws DataAccessException {
+                    realtimeBoardList.forEach(board -> operations.opsForHash()
+                        .multiGet(generateAggregateKey(board.getBoardId()),
+                            List.of(VIEW_COUNT_FIELD, LIKE_COUNT_FIELD, SYNCED_VIEW_COUNT_FIELD,
+                                SYNCED_LIKE_COUNT_FIELD)));
+                    return null;
+                }
+            });
+        } catch (DataAccessException e) {
+            log.warn("게시판 집계 조회에 실패하여 DB 집계값을 사용합니다.", e);
+            applyDatabaseAggregates(realtimeBoardList, false);
+            return;
+        }
+
+        List<RealtimeBoardDto> unsyncedBoardList = new ArrayList<>();
+        for (int i = 0; i < realtimeBoardList.size(); i++) {
+            RealtimeBoardDto board = realtimeBoardList.get(i);
+            List<?> counts = results.get(i) instanceof List<?> list ? list : List.of();
+            long pendingViewCount = parseCount(counts, VIEW_COUNT_IDX);
+            long pendingLikeCount = parseCount(counts, LIKE_COUNT_IDX);
+            if (counts.size() <= SYNCED_LIKE_COUNT_IDX || counts.get(SYNCED_VIEW_COUNT_IDX) == null
+                || counts.get(SYNCED_LIKE_COUNT_IDX) == null) {
+                // DB 집계값을 채운 후 증감분을 더한다
+                board.applyAggregateCounts(pendingViewCount, pendingLikeCount);
+                unsyncedBoardList.add(board);
+                continue;
+            }
+            board.applyAggregateCounts(
+                parseCount(counts, SYNCED_VIEW_COUNT_IDX) + pendingViewCount,
+                parseCount(counts, SYNCED_LIKE_COUNT_IDX) + pendingLikeCount);
+        }
+        applyDatabaseAggregates(unsyncedBoardList, true);
+    }
+
+    /**
+     * 게시판들의 DB 조회수 합계/좋아요 수를 IN 쿼리 한 번씩으로 집계하여 더하고, cache가 true라면 Hash에 채운다
+     */
+    private void applyDatabaseAggregates(List<RealtimeBoardDto> realtimeBoardList, boolean cache) {
+        if (realtimeBoardList.isEmpty()) {
+            return;
+        }
+        List<Long> boardIds = realtimeBoardList.stream().map(RealtimeBoardDto::getBoardId).toList();
+        Map<Long, Long> viewCountByBoard = toCountMap(
+            boardRepository.sumViewCountsByBoardIdIn(boardIds));
+        Map<Long, Long> likeCountByBoard = toCountMap(
+            boardRepository.countLikesByBoardIdIn(boardIds));
+
+        realtimeBoardList.forEach(board -> {
+            long pendingViewCount = board.getViewCount() == null ? 0L : board.getViewCount();
+            long pendingLikeCount = board.getLikeCount() == null ? 0L : board.getLikeCount();
+            board.applyAggregateCounts(
+                viewCountByBoard.getOrDefault(board.getBoardId(), 0L) + pendingViewCount,
+                likeCountByBoard.getOrDefault(board.getBoardId(), 0L) + pendingLikeCount);
+        });
+        if (!cache) {
+            return;
+        }
+
+        try {
+            redisTemplate.executePipelined(new SessionCallback<>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) throws DataAccessException {
+                    boardIds.forEach(boardId -> {
+                        String key = generateAggregateKey(boardId);
+                        // 다른 노드가 먼저 채운 값이 있다면 유지한다
+                        operations.opsForHash().putIfAbsent(key, SYNCED_VIEW_COUNT_FIELD,
+                            String.valueOf(viewCountByBoard.getOrDefault(boardId, 0L)));
+                        operations.opsForHash().putIfAbsent(key, SYNCED_LIKE_COUNT_FIELD,
+                            String.valueOf(likeCountByBoard.getOrDefault(boardId, 0L)));
+                        operations.expire(key, AGGREGATE_TTL);
+                    });
+                    return null;
+                }
+            });
+        } catch (DataAccessException e) {
+            log.warn("게시판 DB 집계값을 Redis에 저장하지 못했습니다.", e);
+        }
+    }
+
+    private static Map<Long, Long> toCountMap(List<BoardCountDto> boardCounts) {
+        return boardCounts.stream()
+            .collect(Collectors.toMap(BoardCountDto::getBoardId, BoardCountDto::getCount));
+    }
+
+    private static long parseCount(List<?> counts, int index) {
+        if (counts.size() <= index || counts.get(index) == null) {
+            return 0L;
+        }
+        return Long.parseLong(String.valueOf(counts.get(index)));
+    }
+
+    public static String generateAggregateKey(Long boardId) {
+        return BOARD_AGGREGATE_KEY_PREFIX + boardId;
+    }
+}
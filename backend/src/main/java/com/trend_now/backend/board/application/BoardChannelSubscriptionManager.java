@@ -0,0 +1,130 @@
+/*
+ * 클래스 설명 : 게시판별 Redis 채널(실시간 게시판 만료/시간 증가)을 이 노드의 SSE 구독 상황에 맞게 구독/해제하는 클래스
+ * - 특정 게시판만 구독한 SSE가 있다면 해당 게시판 채널({채널}:{boardId})만 구독한다
+ * - 모든 게시판을 구독한 SSE가 하나라도 있다면 패턴({채널}:*)으로 구독하고, 같은 메시지를 두 번 받지 않도록 게시판별 채널은 해제한다
+ * - 패턴과 게시판별 채널을 전환할 때는 새 구독을 먼저 추가한 후 이전 구독을 해제하여, 전환 중에 발행된 이벤트를 놓치지 않는다
+ * - 구독자가 없는 게시판의 이벤트는 이 노드로 전달되지 않으므로 노드 간 트래픽은 관심 있는 게시판 수에 비례한다
+ * 메소드 설명
+ * - join() : SSE가 연결될 때 게시판별 구독 수를 증가시키고, 처음 관심이 생긴 채널을 구독하는 메소드
+ * - leave() : SSE가 종료될 때 게시판별 구독 수를 감소시키고, 더 이상 관심이 없는 채널을 해제하는 메소드
+ * - onMessage() : 게시판별 채널로 발행된 이벤트를 해당 게시판을 구독한 SSE에게 전송하는 메소드
+ */
+package com.trend_now.backend.board.application;
+
+import static com.trend_now.backend.config.RedisConfig.parseBoardId;
+import static com.trend_now.backend.config.RedisConfig.toAllBoardChannelPattern;
+import static com.trend_now.backend.config.RedisConfig.toBoardChannel;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trend_now.backend.board.dto.RealTimeBoardKeyExpiredEvent;
+import com.trend_now.backend.board.dto.RealTimeBoardTimeUpEvent;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BoardChannelSubscriptionManager implements MessageListener {
+
+    private final RedisMessageListenerContainer redisMessageListener;
+    private final ChannelTopic realTimeBoardEventTopic;
+    private final ChannelTopic realTimeBoardTimeUpEventTopic;
+    private final SseEmitterService sseEmitterService;
+    private final ObjectMapper objectMapper;
+
+    // 게시판 ID -> 해당 게시판만 구독한 SSE 수
+    private final Map<Long, Integer> boardSubscriberCounts = new HashMap<>();
+    // 모든 게시판을 구독한 SSE 수
+    private int allBoardSubscriberCount = 0;
+
+    /**
+     * @param boardIds 구독할 게시판 ID 목록 (비어있다면 모든 게시판)
+     */
+    public synchronized void join(Set<Long> boardIds) {
+        if (boardIds.isEmpty()) {
+            allBoardSubscriberCount++;
+            if (allBoardSubscriberCount == 1) {
+                addListener(allBoardTopics());
+                boardSubscriberCounts.keySet().forEach(boardId -> removeListener(boardTopics(boardId)));
+            }
+            return;
+        }
+        for (Long boardId : boardIds) {
+            int count = boardSubscriberCounts.merge(boardId, 1, Integer::sum);
+            if (count == 1 && allBoardSubscriberCount == 0) {
+                addListener(boardTopics(boardId));
+            }
+        }
+    }
+
+    public synchronized void leave(Set<Long> boardIds) {
+        if (boardIds.isEmpty()) {
+            allBoardSubscriberCount--;
+            if (allBoardSubscriberCount == 0) {
+                boardSubscriberCounts.keySet().forEach(boardId -> addListener(boardTopics(boardId)));
+                removeListener(allBoardTopics());
+            }
+            return;
+        }
+        for (Long boardId : boardIds) {
+            Integer count = boardSubscriberCounts.computeIfPresent(boardId,
+                (id, current) -> current == 1 ? null : current - 1);
+            if (count == null && allBoardSubscriberCount == 0) {
+                removeListener(boardTopics(boardId));
+            }
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        try {
+            Long boardId = parseBoardId(channel);
+            if (channel.startsWith(realTimeBoardTimeUpEventTopic.getTopic())) {
+                RealTimeBoardTimeUpEvent event = objectMapper.readValue(message.getBody(),
+                    RealTimeBoardTimeUpEvent.class);
+                log.info("게시판별 채널 {}에서 받은 실시간 게시판 시간 증가({}초)를 SSE를 통해 전송한다.", channel,
+                    event.getTimeUp());
+                sseEmitterService.sendRealTimeBoardTimeUp(boardId, event);
+                return;
+            }
+            RealTimeBoardKeyExpiredEvent event = objectMapper.readValue(message.getBody(),
+                RealTimeBoardKeyExpiredEvent.class);
+            log.info("게시판별 채널 {}에서 받은 실시간 게시판 {}의 만료를 SSE를 통해 전송한다.", channel,
+                event.getBoardName());
+            sseEmitterService.sendRealTimeBoardExpired(boardId, event);
+        } catch (Exception e) {
+            log.error("게시판별 채널 {}의 이벤트 처리 중 오류가 발생했습니다.", channel, e);
+        }
+    }
+
+    private List<Topic> boardTopics(Long boardId) {
+        return List.of(new ChannelTopic(toBoardChannel(realTimeBoardEventTopic, boardId)),
+            new ChannelTopic(toBoardChannel(realTimeBoardTimeUpEventTopic, boardId)));
+    }
+
+    private List<Topic> allBoardTopics() {
+        return List.of(new PatternTopic(toAllBoardChannelPattern(realTimeBoardEventTopic)),
+            new PatternTopic(toAllBoardChannelPattern(realTimeBoardTimeUpEventTopic)));
+    }
+
+    private void addListener(List<Topic> topics) {
+        redisMessageListener.addMessageListener(this, topics);
+    }
+
+    private void removeListener(List<Topic> topics) {
+        redisMessageListener.removeMessageListener(this, topics);
+    }
+}
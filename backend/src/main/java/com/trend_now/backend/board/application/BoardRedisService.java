@@ -12,11 +12,9 @@ import com.trend_now.backend.board.dto.RealtimeBoardDto;
 import com.trend_now.backend.board.repository.BoardRepository;
 import com.trend_now.backend.board.repository.BoardSummaryRepository;
 import com.trend_now.backend.exception.customException.NotFoundException;
-import com.trend_now.backend.post.application.PostLikesService;
-import com.trend_now.backend.post.application.PostViewService;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalTime;
-import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -24,13 +22,16 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -41,9 +42,12 @@ import org.springframework.transaction.annotation.Transactional;
 public class BoardRedisService {
 
     public static final String BOARD_RANK_KEY = "board_rank";
-    private static final String BOARD_RANK_VALID_KEY = "board_rank_valid";
+    public static final String BOARD_RANK_VALID_KEY = "board_rank_valid";
     private static final String BOARD_THRESHOLD_KEY = "board_threshold";
-    private static final String BOARD_INITIAL_COUNT = "0";
+    private static final String BOARD_POST_TOTAL_COUNT_KEY_PREFIX = "board_post_count:";
+    // DB 게시글 수와 어긋나더라도(게시글 저장 트랜잭션 롤백 등) 일정 시간 후 DB 값으로 다시 초기화되도록 TTL을 둔다
+    private static final Duration BOARD_POST_TOTAL_COUNT_TTL = Duration.ofHours(1);
+    public static final String BOARD_INITIAL_COUNT = "0";
     public static final String BOARD_KEY_DELIMITER = ":";
     public static final int BOARD_KEY_PARTS_LENGTH = 2;
     public static final int BOARD_ID_INDEX = 1;
@@ -53,16 +57,23 @@ public class BoardRedisService {
     private static final int KEY_EXPIRE = 0;
     private static final int BOARD_TIME_UP_50_THRESHOLD = 50;
     private static final int BOARD_TIME_UP_100_THRESHOLD = 100;
-    private static final int POSTS_INCREMENT_UNIT = 1;
+    private static final long NOT_EXIST_KEY_TTL = -2L;
+    private static final int POST_COUNT_RESULT_SIZE = 3;
+    private static final int POST_COUNT_IDX = 0;
+    private static final int BOARD_TTL_IDX = 1;
+    private static final int TIME_UP_IDX = 2;
 
     private static final String NOT_EXIST_BOARD = "선택하신 게시판이 존재하지 않습니다.";
 
     private final RedisTemplate<String, String> redisTemplate;
     private final RedisPublisher redisPublisher;
     private final BoardRepository boardRepository;
-    private final PostViewService postViewService;
-    private final PostLikesService postLikesService;
+    private final BoardAggregateService boardAggregateService;
     private final BoardSummaryRepository boardSummaryRepository;
+    @SuppressWarnings("rawtypes")
+    private final RedisScript<List> boardPostCountIncrementScript;
+    @SuppressWarnings("rawtypes")
+    private final RedisScript<List> boardPostCountDecrementScript;
 
     public void saveBoardRedis(BoardKeyProvider boardKeyProvider, double score) {
         String key = boardKeyProvider.getBoardName() + BOARD_KEY_DELIMITER + boardKeyProvider.getBoardId();
@@ -81,80 +92,78 @@ public class BoardRedisService {
 
     /**
      * 실시간 게시판일 때, 게시판의 게시글 수가 일정 개수 이상된다면 해당 게시판의 남은 시간이 증가
+     * - 게시글 수 증가, 임계점 확인/등록, TTL 및 board_rank score 증가, 이벤트 발행을 Lua 스크립트 한 번으로 처리한다
+     * - 임계점 등록을 SADD 결과로 판단하므로 동시에 게시글이 작성되어도 같은 임계점에서 시간은 한 번만 증가한다
+     * - 게시판 전체 게시글 수 카운터가 초기화되어 있다면 실시간 게시판 여부와 관계없이 함께 증가한다
+     * @return 게시판의 남은 시간(초), 실시간 게시판이 아니라면 -2
      */
-    public void updatePostCountAndExpireTime(Long boardId, String boardName) {
+    public long updatePostCountAndExpireTime(Long boardId, String boardName) {
         String key = boardName + BOARD_KEY_DELIMITER + boardId;
-
-        if (redisTemplate.hasKey(key)) {
-            Long currentExpireTime = redisTemplate.getExpire(key, TimeUnit.SECONDS);
-            redisTemplate.opsForValue().increment(key, POSTS_INCREMENT_UNIT);
-            log.info("{} 게시판의 증가하기 전 남은 시간은 {}입니다", boardName, currentExpireTime);
-            String postCountStr = redisTemplate.opsForValue().get(key);
-            if (postCountStr == null) {
-                return;
-            }
-
-            int postCount = Integer.parseInt(postCountStr);
-            String threshold50 = boardName + BOARD_KEY_DELIMITER + boardId + BOARD_KEY_DELIMITER
-                + BOARD_TIME_UP_50_THRESHOLD;
-            String threshold100 = boardName + BOARD_KEY_DELIMITER + boardId + BOARD_KEY_DELIMITER
-                + (postCount / BOARD_TIME_UP_100_THRESHOLD) * BOARD_TIME_UP_100_THRESHOLD;
-
-            if (postCount == BOARD_TIME_UP_50_THRESHOLD && !Boolean.TRUE.equals(
-                redisTemplate.opsForSet()
-                    .isMember(BOARD_THRESHOLD_KEY, threshold50))) {
-                log.info("{} 게시판의 게시글 수가 50개 도달, 시간 5분 추가!", boardName);
-                extendBoardExpireTime(key, currentExpireTime, BOARD_TIME_UP_50, threshold50);
-            } else if (postCount % BOARD_TIME_UP_100_THRESHOLD == 0 && !Boolean.TRUE.equals(
-                redisTemplate.opsForSet()
-                    .isMember(BOARD_THRESHOLD_KEY, threshold100))) {
-                log.info("{} 게시판의 게시글 수가 100개 도달, 시간 10분 추가!", boardName);
-                extendBoardExpireTime(key, currentExpireTime, BOARD_TIME_UP_100, threshold100);
-            }
-            log.info("{} 게시판의 증가 후 남은 시간은 {}입니다", boardName,
-                redisTemplate.getExpire(key, TimeUnit.SECONDS));
+        List<String> keys = List.of(key, BOARD_THRESHOLD_KEY, BOARD_RANK_KEY,
+            generatePostTotalCountKey(boardId));
+
+        List<?> result = redisTemplate.execute(boardPostCountIncrementScript, keys,
+            String.valueOf(BOARD_TIME_UP_50_THRESHOLD),
+            String.valueOf(BOARD_TIME_UP_100_THRESHOLD),
+            String.valueOf(BOARD_TIME_UP_50),
+            String.valueOf(BOARD_TIME_UP_100),
+            redisPublisher.getRealTimeBoardTimeUpChannel(boardId),
+            redisPublisher.toRealTimeBoardTimeUpMessage(
+                RealTimeBoardTimeUpEvent.from(boardId, boardName, BOARD_TIME_UP_50)),
+            redisPublisher.toRealTimeBoardTimeUpMessage(
+                RealTimeBoardTimeUpEvent.from(boardId, boardName, BOARD_TIME_UP_100)));
+        if (result == null || result.size() < POST_COUNT_RESULT_SIZE) {
+            return NOT_EXIST_KEY_TTL;
         }
-    }
 
-    private void extendBoardExpireTime(String key, Long currentExpireTime, long additionalSeconds,
-        String thresholdKey) {
-        // 실시간 게시판의 남은 시간(TTL)이 증가
-        redisTemplate.expire(key, currentExpireTime + additionalSeconds, TimeUnit.SECONDS);
-        redisTemplate.opsForSet().add(BOARD_THRESHOLD_KEY, thresholdKey);
-
-        // TTL이 증가하는 만큼 score도 증가
-        Double currentScore = redisTemplate.opsForZSet()
-            .score(BOARD_RANK_KEY, key); // 현재 저장된 만료 시간을 가져옴
-        if (currentScore == null) {
-            return; // 실시간 게시판이 아직 등록되지 않은 경우
+        long postCount = ((Number) result.get(POST_COUNT_IDX)).longValue();
+        long boardTtl = ((Number) result.get(BOARD_TTL_IDX)).longValue();
+        long timeUp = ((Number) result.get(TIME_UP_IDX)).longValue();
+        if (timeUp > 0) {
+            log.info("{} 게시판의 게시글 수가 {}개 도달, 시간 {}초 추가! 증가 후 남은 시간은 {}입니다",
+                boardName, postCount, timeUp, boardTtl);
         }
-
-        // 실시간 게시판의 score로 증가된 시간이 세팅
-        Instant currentExpireScore = Instant.ofEpochMilli(currentScore.longValue());
-        Instant newExpireScore = currentExpireScore.plus(additionalSeconds, ChronoUnit.SECONDS);
-        redisTemplate.opsForZSet().add(BOARD_RANK_KEY, key, newExpireScore.toEpochMilli());
-
-        String boardName = key.split(Pattern.quote(BOARD_KEY_DELIMITER))[0];
-        redisPublisher.publishRealTimeBoardTimeUpEvent(
-            RealTimeBoardTimeUpEvent.from(boardName, additionalSeconds));
+        return boardTtl;
     }
 
     /**
      * 게시판에서 게시글이 삭제될 때, Redis에서 게시판의 게시글 수를 업데이트하는 함수
+     * - 실시간 게시판 게시글 수와 게시판 전체 게시글 수 중 존재하는 키만 감소시킨다
      */
     public void decrementPostCountAndExpireTime(Long boardId, String boardName) {
         String key = boardName + BOARD_KEY_DELIMITER + boardId;
-        if (redisTemplate.hasKey(key)) {
-            Long currentExpireTime = redisTemplate.getExpire(key, TimeUnit.SECONDS);
-            redisTemplate.opsForValue().decrement(key, POSTS_INCREMENT_UNIT);
-            redisTemplate.expire(key, currentExpireTime, TimeUnit.SECONDS);
-        }
+        redisTemplate.execute(boardPostCountDecrementScript,
+            List.of(key, generatePostTotalCountKey(boardId)));
+    }
+
+    /**
+     * 게시판 전체 게시글 수를 조회하는 함수
+     * @return 카운터가 초기화되지 않았다면 null
+     */
+    public Long findPostTotalCount(Long boardId) {
+        String totalCount = redisTemplate.opsForValue().get(generatePostTotalCountKey(boardId));
+        return totalCount == null ? null : Long.parseLong(totalCount);
+    }
+
+    /**
+     * DB에서 센 게시글 수로 게시판 전체 게시글 수 카운터를 초기화하는 함수
+     * - 다른 요청이 먼저 초기화했다면 덮어쓰지 않는다
+     */
+    public void initPostTotalCount(Long boardId, long totalCount) {
+        redisTemplate.opsForValue().setIfAbsent(generatePostTotalCountKey(boardId),
+            String.valueOf(totalCount), BOARD_POST_TOTAL_COUNT_TTL);
+    }
+
+    private static String generatePostTotalCountKey(Long boardId) {
+        return BOARD_POST_TOTAL_COUNT_KEY_PREFIX + boardId;
     }
 
     public void setRankValidListTime() {
-        String validTime = Long.toString(
-            LocalTime.now().plusSeconds(KEY_LIVE_TIME).toSecondOfDay());
-        redisTemplate.opsForValue().set(BOARD_RANK_VALID_KEY, validTime);
+        redisTemplate.opsForValue().set(BOARD_RANK_VALID_KEY, calculateRankValidTime());
+    }
+
+    public static String calculateRankValidTime() {
+        return Long.toString(LocalTime.now().plusSeconds(KEY_LIVE_TIME).toSecondOfDay());
     }
 
     public void cleanUpExpiredKeys() {
@@ -189,6 +198,43 @@ public class BoardRedisService {
         return redisTemplate.hasKey(key);
     }
 
+    /**
+     * 게시판 목록의 board_rank 순위(0부터 시작)를 파이프라인 1번으로 조회한다
+     * - 반환 리스트는 boardKeyProviders와 순서가 같으며, null이거나 실시간 게시판이 아닌 경우 null이 담긴다
+     */
+    public List<Long> findBoardRanks(List<? extends BoardKeyProvider> boardKeyProviders) {
+        List<String> keys = boardKeyProviders.stream()
+            .filter(Objects::nonNull)
+            .map(boardKeyProvider -> boardKeyProvider.getBoardName() + BOARD_KEY_DELIMITER
+                + boardKeyProvider.getBoardId())
+            .toList();
+        List<Object> results = keys.isEmpty() ? List.of()
+            : redisTemplate.executePipelined(new SessionCallback<>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) throws DataAccessException {
+                    keys.forEach(key -> {
+                        operations.hasKey(key);
+                        operations.opsForZSet().rank(BOARD_RANK_KEY, key);
+                    });
+                    return null;
+                }
+            });
+
+        List<Long> ranks = new ArrayList<>();
+        int resultIdx = 0;
+        for (BoardKeyProvider boardKeyProvider : boardKeyProviders) {
+            if (boardKeyProvider == null) {
+                ranks.add(null);
+                continue;
+            }
+            boolean isRealTimeBoard = Boolean.TRUE.equals(results.get(resultIdx++));
+            Object rank = results.get(resultIdx++);
+            ranks.add(isRealTimeBoard && rank != null ? ((Number) rank).longValue() : null);
+        }
+        return ranks;
+    }
+
     // 타이머가 남아있는 게시판이면 true 반환, 고정 게시판이면 false 반환 (true 반환하면 예외 던짐)
     public boolean isNotRealTimeBoard(String boardName, Long boardId, BoardCategory boardCategory) {
         if (boardCategory == BoardCategory.FIXED) {
@@ -198,7 +244,6 @@ public class BoardRedisService {
         return !redisTemplate.hasKey(key);
     }
 
-    @Transactional // 조회수, 좋아요 개수 데이터 동기화를 하나의 트랜잭션으로 묶는다.
     public BoardPagingResponseDto findAllRealTimeBoardPaging(
         BoardPagingRequestDto boardPagingRequestDto) {
         int page = boardPagingRequestDto.getPage(); // 0
@@ -219,9 +264,8 @@ public class BoardRedisService {
             boardIdList).stream().collect(
             Collectors.toMap(RealtimeBoardDto::getBoardId, realtimeBoard -> realtimeBoard));
 
-        // 조회수와 좋아요 개수 동기화
-        postViewService.syncViewCountToDatabase();
-        postLikesService.syncLikesToDatabase();
+        // DB 집계값에 Redis의 미반영 조회수/좋아요 증감분을 합산 (DB 동기화는 Quartz 스케줄러에서만 수행)
+        boardAggregateService.applyAggregates(List.copyOf(realtimeBoardMap.values()));
 
         // realtimeBoardList에 ttl과 zScore를 매핑
         long now = Instant.now().toEpochMilli();
@@ -4,12 +4,19 @@ import com.trend_now.backend.board.domain.BoardCategory;
 import com.trend_now.backend.board.domain.Boards;
 import com.trend_now.backend.board.dto.BoardSaveDto;
 import com.trend_now.backend.board.dto.RealtimeBoardDto;
+import com.trend_now.backend.board.dto.SignalKeywordPlan;
+import com.trend_now.backend.board.dto.SignalKeywordPlan.KeywordCase;
 import com.trend_now.backend.board.dto.FixedBoardSaveDto;
 import com.trend_now.backend.board.repository.BoardRepository;
 import com.trend_now.backend.board.cache.BoardCache;
 import com.trend_now.backend.exception.customException.NotFoundException;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,15 +31,6 @@ public class BoardService {
     private final BoardRepository boardRepository;
     private final BoardCache boardCache;
 
-    @Transactional
-    public Boards saveBoard(BoardSaveDto boardSaveDto) {
-        Boards boards = Boards.builder()
-            .name(boardSaveDto.getBoardName())
-            .boardCategory(boardSaveDto.getBoardCategory())
-            .build();
-        return boardRepository.save(boards);
-    }
-
     /**
      * 게시판이 존재하지 않으면 저장, 삭제된 게시판이면 isDeleted 상태 변경 후 반환
      */
@@ -104,21 +102,69 @@ public class BoardService {
         return findBoards.getName();
     }
 
+    /**
+     * 실시간 검색어 스케줄러에서 결정된 키워드별 DB 변경 사항을 하나의 트랜잭션으로 반영
+     * - 기존 게시판은 IN 쿼리 1번으로 조회하고, 변경 감지로 이름/삭제 상태를 갱신
+     * - 새로운 게시판은 저장 후 plan에 게시판 ID를 세팅
+     * - 같은 이름의 게시판이 이미 있다면 새로 저장하지 않고 그 게시판을 사용한다
+     *   (IDENTITY 전략이라 저장이 다른 게시판의 이름 변경보다 먼저 실행되어 이름(unique)이 충돌하지 않도록)
+     * - 다른 키워드가 이미 사용하는 게시판으로 합쳐진 키워드는 반환 목록에서 제외한다
+     */
     @Transactional
-    public void updateBoardName(Long boardId, String newBoardName) {
-        Boards board = boardRepository.findById(boardId)
-            .orElseThrow(() -> new NotFoundException(BOARD_NOT_FOUND_MESSAGE + newBoardName));
-        if (!boardRepository.existsByName(newBoardName)) {
-            board.updateName(newBoardName);
-        }
-    }
+    public List<SignalKeywordPlan> applySignalKeywordPlans(List<SignalKeywordPlan> plans) {
+        List<Long> boardIds = plans.stream()
+            .filter(plan -> plan.getKeywordCase() != KeywordCase.NEW)
+            .map(SignalKeywordPlan::getBoardId)
+            .toList();
+        Map<Long, Boards> boardMap = boardRepository.findByIdIn(boardIds).stream()
+            .collect(Collectors.toMap(Boards::getId, board -> board));
+        // 게시판 이름은 unique이므로, 이미 사용 중인 이름으로는 변경하지 않는다
+        Map<String, Boards> boardByName = boardRepository.findByNameIn(
+                plans.stream().map(SignalKeywordPlan::getBoardName).toList()).stream()
+            .collect(Collectors.toMap(Boards::getName, board -> board));
+        Set<String> usedNames = new HashSet<>(boardByName.keySet());
+        Set<Long> claimedBoardIds = new HashSet<>(boardIds);
+        List<SignalKeywordPlan> appliedPlans = new ArrayList<>(plans.size());
 
-    @Transactional
-    public void updateIsDeleted(Long boardId, boolean isDeleted) {
-        Boards board = boardRepository.findById(boardId)
-            .orElseThrow(() -> new NotFoundException(BOARD_NOT_FOUND_MESSAGE + boardId));
-        if (isDeleted != board.isDeleted()) {
-            board.changeDeleted();
+        for (SignalKeywordPlan plan : plans) {
+            if (plan.getKeywordCase() == KeywordCase.NEW) {
+                Boards board = boardByName.get(plan.getBoardName());
+                if (board != null) {
+                    // 다른 키워드가 사용하는 게시판이라면 해당 키워드에 합치고, 아니라면 삭제 상태를 복원하여 사용
+                    if (!claimedBoardIds.add(board.getId())) {
+                        continue;
+                    }
+                    if (board.isDeleted()) {
+                        board.changeDeleted();
+                    }
+                    plan.setBoardId(board.getId());
+                    appliedPlans.add(plan);
+                    continue;
+                }
+                board = boardRepository.save(Boards.builder()
+                    .name(plan.getBoardName())
+                    .boardCategory(BoardCategory.REALTIME)
+                    .build());
+                plan.setBoardId(board.getId());
+                usedNames.add(plan.getBoardName());
+                boardByName.put(plan.getBoardName(), board);
+                claimedBoardIds.add(board.getId());
+                appliedPlans.add(plan);
+                continue;
+            }
+
+            Boards board = boardMap.get(plan.getBoardId());
+            if (board == null) {
+                throw new NotFoundException(BOARD_NOT_FOUND_MESSAGE + plan.getBoardId());
+            }
+            if (plan.getKeywordCase() == KeywordCase.RESTORE && board.isDeleted()) {
+                board.changeDeleted();
+            }
+            if (usedNames.add(plan.getBoardName())) {
+                board.updateName(plan.getBoardName());
+            }
+            appliedPlans.add(plan);
         }
+        return appliedPlans;
     }
 }
@@ -0,0 +1,90 @@
+/*
+ * 클래스 설명 : 리액티브 SSE 스트림(Flux<ServerSentEvent>)으로 이벤트를 전달하는 클래스
+ * - 이 노드의 브로드캐스트 이벤트를 하나의 multicast Sink로 발행하고, 모든 구독자가 같은 ServerSentEvent 객체를 공유한다
+ * - 서블릿 MVC에서는 컨트롤러가 반환한 Flux를 ReactiveTypeHandler가 연결마다 ResponseBodyEmitter로 변환하므로,
+ *   연결당 emitter는 SseEmitterRepository 방식과 동일하게 생긴다 (연결당 메모리 절감은 측정되지 않았다)
+ * - 차이는 SseEventDispatcher의 클라이언트별 큐와 전송 가상 스레드 대신 Reactor 구독자 버퍼를 사용한다는 점이다
+ * - 느린 구독자는 최근 이벤트 일부만 버퍼에 남기고 오래된 이벤트는 버린다
+ * 메소드 설명
+ * - emit() : 브로드캐스트 이벤트를 모든 리액티브 구독자에게 발행하는 메소드
+ * - emitHeartbeat() : 유휴 연결이 끊기지 않도록 heartbeat 주석을 발행하는 메소드
+ * - stream() : 구독한 게시판의 이벤트만 걸러낸 SSE 스트림을 생성하는 메소드
+ */
+package com.trend_now.backend.board.application;
+
+import com.trend_now.backend.board.application.SseEventDispatcher.SseEvent;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+@Slf4j
+@Component
+public class ReactiveSseBroadcaster {
+
+    private static final int SUBSCRIBER_BUFFER_SIZE = 32;
+    private static final String HEARTBEAT_COMMENT = "heartbeat";
+
+    private final Sinks.Many<BroadcastEvent> sink = Sinks.many().multicast().directBestEffort();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    /**
+     * @param boardId 특정 게시판의 이벤트라면 게시판 ID, 모든 구독자에게 보내는 이벤트라면 null
+     */
+    private record BroadcastEvent(Long boardId, ServerSentEvent<String> event) {
+
+    }
+
+    public void emit(SseEvent event) {
+        if (subscriberCount.get() == 0) {
+            return;
+        }
+        tryEmit(new BroadcastEvent(event.boardId(), event.toServerSentEvent()));
+    }
+
+    public void emitHeartbeat() {
+        if (subscriberCount.get() == 0) {
+            return;
+        }
+        tryEmit(new BroadcastEvent(null,
+            ServerSentEvent.<String>builder().comment(HEARTBEAT_COMMENT).build()));
+    }
+
+    /**
+     * @param boardIds     이벤트를 받을 게시판 ID 목록 (비어있다면 모든 게시판)
+     * @param firstEvents  구독 직후 가장 먼저 보낼 이벤트 (구독 성공 메시지, 재연결 시 놓친 이벤트)
+     */
+    public Flux<ServerSentEvent<String>> stream(Set<Long> boardIds,
+        List<ServerSentEvent<String>> firstEvents) {
+        Flux<ServerSentEvent<String>> broadcastEvents = sink.asFlux()
+            .filter(broadcastEvent -> broadcastEvent.boardId() == null || boardIds.isEmpty()
+                || boardIds.contains(broadcastEvent.boardId()))
+            .map(BroadcastEvent::event)
+            .onBackpressureBuffer(SUBSCRIBER_BUFFER_SIZE, BufferOverflowStrategy.DROP_OLDEST);
+
+        return Flux.fromIterable(firstEvents)
+            .concatWith(broadcastEvents)
+            .doOnSubscribe(subscription -> subscriberCount.incrementAndGet())
+            .doFinally(signalType -> subscriberCount.decrementAndGet());
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    /**
+     * Sink는 동시 발행을 허용하지 않으므로 발행을 직렬화한다
+     * - directBestEffort이므로 요청(demand)이 없는 구독자에게는 이벤트가 버려진다
+     */
+    private synchronized void tryEmit(BroadcastEvent broadcastEvent) {
+        Sinks.EmitResult result = sink.tryEmitNext(broadcastEvent);
+        if (result.isFailure() && result != Sinks.EmitResult.FAIL_ZERO_SUBSCRIBER) {
+            log.warn("리액티브 SSE 이벤트 발행에 실패했습니다. result: {}", result);
+        }
+    }
+}
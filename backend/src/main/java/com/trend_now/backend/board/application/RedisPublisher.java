@@ -5,6 +5,8 @@
  */
 package com.trend_now.backend.board.application;
 
+import static com.trend_now.backend.config.RedisConfig.toBoardChannel;
+
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.trend_now.backend.board.dto.RealTimeBoardKeyExpiredEvent;
@@ -44,30 +46,46 @@ public class RedisPublisher {
     }
 
     /**
-     * 실시간 게시판 만료 publish
+     * 실시간 게시판 만료 publish (게시판별 채널)
      */
-    public void publishRealTimeBoardExpiredEvent(RealTimeBoardKeyExpiredEvent event) {
+    public void publishRealTimeBoardExpiredEvent(Long boardId, RealTimeBoardKeyExpiredEvent event) {
         try {
             String message = objectMapper.writeValueAsString(event);
-            log.info("RedisPublisher(실시간 게시판 만료)가 채널: {}에 이벤트: {}를 발행했습니다.",
-                    realTimeBoardEventTopic.getTopic(), event);
-            redisTemplate.convertAndSend(realTimeBoardEventTopic.getTopic(), message);
+            String channel = toBoardChannel(realTimeBoardEventTopic, boardId);
+            log.info("RedisPublisher(실시간 게시판 만료)가 채널: {}에 이벤트: {}를 발행했습니다.", channel, event);
+            redisTemplate.convertAndSend(channel, message);
         } catch (JsonProcessingException e) {
             log.info("RedisPublisher(실시간 게시판 만료)에서 이벤트 변환 중 오류 발생: {}", e.getMessage(), e);
         }
     }
 
     /**
-     * 실시간 게시판 시간 증가 publish
+     * 실시간 게시판 시간 증가 publish (게시판별 채널)
      */
     public void publishRealTimeBoardTimeUpEvent(RealTimeBoardTimeUpEvent event) {
         try {
             String message = objectMapper.writeValueAsString(event);
-            log.info("RedisPublisher(실시간 게시판 시간 증가)가 채널: {}에 이벤트: {}를 발행했습니다.",
-                    realTimeBoardTimeUpEventTopic.getTopic(), event);
-            redisTemplate.convertAndSend(realTimeBoardTimeUpEventTopic.getTopic(), message);
+            String channel = getRealTimeBoardTimeUpChannel(event.getBoardId());
+            log.info("RedisPublisher(실시간 게시판 시간 증가)가 채널: {}에 이벤트: {}를 발행했습니다.", channel,
+                    event);
+            redisTemplate.convertAndSend(channel, message);
         } catch (JsonProcessingException e) {
             log.info("RedisPublisher(실시간 게시판 만료)에서 이벤트 변환 중 오류 발생: {}", e.getMessage(), e);
         }
     }
+
+    /**
+     * 실시간 게시판 시간 증가 이벤트를 메시지로 변환 (Lua 스크립트에서 PUBLISH 하기 위해 사용)
+     */
+    public String toRealTimeBoardTimeUpMessage(RealTimeBoardTimeUpEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("실시간 게시판 시간 증가 이벤트 변환 중 오류 발생", e);
+        }
+    }
+
+    public String getRealTimeBoardTimeUpChannel(Long boardId) {
+        return toBoardChannel(realTimeBoardTimeUpEventTopic, boardId);
+    }
 }
@@ -1,14 +1,19 @@
 /*
  * 클래스 설명 : SSE 이벤트가 subscriber에게 도달했을 때, SSE에 이벤트를 보내는 클래스 (Redis Pub/Sub 중 Sub에 해당)
  * 메소드 설명
- * - sendKeywordListBySubscriber() : SSE 이벤트가 subscriber에게 도달했을 때, SSE에 이벤트(실시간 검색어 순위)를 보내는 메소드
+ * - sendKeywordListBySubscriber() : SSE 이벤트가 subscriber에게 도달했을 때, 실시간 검색어 스냅샷을 갱신하고 SSE에 이벤트(실시간 검색어 순위)를 보내는 메소드
+ *   (clientId가 없는 브로드캐스트 이벤트는 이 노드에 연결된 모든 SSE에게 전송)
+ *   브로드캐스트 이벤트는 스케줄러가 게시판 이름을 변경한 후 발행되므로, 이 노드의 게시판 이름 캐시도 함께 제거한다
  */
 package com.trend_now.backend.board.application;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.trend_now.backend.board.dto.RealTimeBoardKeyExpiredEvent;
-import com.trend_now.backend.board.dto.RealTimeBoardTimeUpEvent;
+import com.trend_now.backend.board.cache.RealtimeKeywordSnapshotCache;
+import com.trend_now.backend.board.cache.RealtimeKeywordSnapshotCache.RealtimeKeywordSnapshot;
 import com.trend_now.backend.board.dto.SignalKeywordEventDto;
+import com.trend_now.backend.board.dto.Top10WithDiff;
+import com.trend_now.backend.post.application.PostLikesService;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -20,12 +25,30 @@ public class RedisSubscriber {
 
     private final ObjectMapper objectMapper;
     private final SseEmitterService sseEmitterService;
+    private final RealtimeKeywordSnapshotCache realtimeKeywordSnapshotCache;
+    private final PostLikesService postLikesService;
 
     public void sendKeywordListBySubscriber(String message) {
         try {
             SignalKeywordEventDto event = objectMapper.readValue(message,
                     SignalKeywordEventDto.class);
 
+            // 노드 메모리의 실시간 검색어 스냅샷을 이벤트의 순위로 교체
+            RealtimeKeywordSnapshot snapshot = realtimeKeywordSnapshotCache.refresh(
+                    event.getTop10WithChange());
+
+            if (event.isBroadcast()) {
+                postLikesService.evictBoardNameCache(event.getTop10WithChange().getTop10WithDiff()
+                        .stream()
+                        .map(Top10WithDiff::getBoardId)
+                        .filter(Objects::nonNull)
+                        .toList());
+                log.info("Redis Subscriber에서 받은 실시간 검색어 순위(세대: {})를 이 노드의 모든 SSE에게 전송한다.",
+                        snapshot.generation());
+                sseEmitterService.broadcastKeywordList(snapshot.body());
+                return;
+            }
+
             log.info("Redis Subscriber에서 받은 데이터 {}를 SSE를 통해 {}에게 전송한다.", event,
                     event.getClientId());
 
@@ -34,32 +57,4 @@ public class RedisSubscriber {
             log.error("Redis Subscriber에서 데이터 전송 중 오류가 발생했습니다.", e);
         }
     }
-
-    public void sendRealTimeBoardExpiredBySubscriber(String message) {
-        try {
-            RealTimeBoardKeyExpiredEvent event = objectMapper.readValue(message,
-                    RealTimeBoardKeyExpiredEvent.class);
-
-            log.info("Redis Subscriber(실시간 게시판 만료)에서 받은 데이터 {}를 SSE를 통해 게시판 {}의 만료를 전송한다.", event,
-                    event.getBoardName());
-
-            sseEmitterService.sendRealTimeBoardExpired(event);
-        } catch (Exception e) {
-            log.error("Redis Subscriber(실시간 게시판 만료)에서 데이터 전송 중 오류가 발생했습니다.", e);
-        }
-    }
-
-    public void sendRealTimeBoardTimeUpBySubscriber(String message) {
-        try {
-            RealTimeBoardTimeUpEvent event = objectMapper.readValue(message,
-                    RealTimeBoardTimeUpEvent.class);
-
-            log.info("Redis Subscriber(실시간 게시판 시간 증가)에서 받은 데이터 {}를 SSE를 통해 게시판 {}의 시간 증가({}초)를 전송한다.", event,
-                    event.getBoardName(), event.getTimeUp());
-
-            sseEmitterService.sendRealTimeBoardTimeUp(event);
-        } catch (Exception e) {
-            log.error("Redis Subscriber(실시간 게시판 시간 증가)에서 데이터 전송 중 오류가 발생햽.", e);
-        }
-    }
 }
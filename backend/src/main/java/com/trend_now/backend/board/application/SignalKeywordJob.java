@@ -3,13 +3,23 @@ package com.trend_now.backend.board.application;
 import com.trend_now.backend.board.application.board_summary.BoardSummaryTriggerService;
 import com.trend_now.backend.board.cache.BoardCache;
 import com.trend_now.backend.board.domain.Boards;
-import com.trend_now.backend.board.dto.*;
+import com.trend_now.backend.board.dto.SignalKeywordDto;
+import com.trend_now.backend.board.dto.SignalKeywordEventDto;
+import com.trend_now.backend.board.dto.SignalKeywordPlan;
+import com.trend_now.backend.board.dto.SignalKeywordPlan.KeywordCase;
+import com.trend_now.backend.board.dto.Top10;
+import com.trend_now.backend.board.dto.Top10WithChange;
 import com.trend_now.backend.board.repository.BoardRepository;
-import com.trend_now.backend.opensearch.service.OpenSearchService;
+import com.trend_now.backend.opensearch.service.SimilarKeywordLookupService;
 import com.trend_now.backend.search.dto.BoardRedisKey;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.quartz.Job;
 import org.quartz.JobExecutionContext;
@@ -33,7 +43,8 @@ public class SignalKeywordJob implements Job {
         RedisPublisher redisPublisher,
         BoardCache boardCache,
         BoardSummaryTriggerService boardSummaryTriggerService,
-        OpenSearchService openSearchService
+        SimilarKeywordLookupService similarKeywordLookupService,
+        SseConnectionLeaseService sseConnectionLeaseService
     ) {
 
     }
@@ -51,22 +62,28 @@ public class SignalKeywordJob implements Job {
         try {
             SignalKeywordDto signalKeywordDto = getSignalKeywordDto(services);
 
-            for (Top10 top10 : signalKeywordDto.getTop10()) {
-                /**
-                 *  processKeyword는 크게 4가지 경우로 나뉘어 동작한다.
-                 *  1. 실시간 게시판에 이미 똑같은 키워드가 존재하는 경우 -> Redis에 키워드 저장 및 순위 갱신
-                 *  2. 실시간 게시판에 없지만 DB에는 저장 돼 있는 경우 -> DB isDeleted 상태 변경, Redis에 키워드 저장 (복원)
-                 *  3. 똑같은 키워드가 실시간 게시판에 없지만, DB 혹은 Redis에 유사한 게시판은 존재하는 경우 -> DB 게시판 이름 업데이트, Redis에 키워드 저장 및 순위 갱신
-                 *  4. 완전히 새로운 게시판인 경우 -> DB에 게시판 생성하고 저장, Redis에 키워드 저장
-                 */
-                processKeyword(top10, services, now);
-            }
+            /**
+             * 키워드별로 OpenSearch, Redis, DB를 차례로 호출하지 않고, 단계별로 모아서 한 번에 처리한다.
+             *  1. 조회 : OpenSearch msearch 1번(로컬 캐시에 없는 키워드만) + DB 게시판 IN 조회 + Redis 파이프라인 1번으로 키워드별 처리 방식(plan) 결정
+             *  2. DB : 게시판 생성/복원/이름 변경을 하나의 트랜잭션으로 반영
+             *  3. Redis : realtime_keywords, board_rank, 게시판 TTL을 파이프라인 1번으로 반영
+             *  4. OpenSearch : _bulk 요청 1번으로 재색인
+             */
+            List<SignalKeywordPlan> plans = services.boardService().applySignalKeywordPlans(
+                planKeywords(signalKeywordDto.getTop10(), services, now));
+            services.signalKeywordService()
+                .saveRealtimeKeywords(plans, signalKeywordDto.getNow());
+            services.similarKeywordLookupService().saveKeywords(plans);
+
+            // 인메모리 캐시에 게시판 정보 갱신 (게시판 이름 색인은 한 번만 다시 생성)
+            services.boardCache().addRealtimeBoardCaches(plans);
+            plans.forEach(plan -> {
+                // 새로 생성되거나 삭제 되었다가 다시 생성된 게시판은 게시판 요약 생성
+                if (plan.isNewRealtimeKeyword()) {
+                    services.boardSummaryTriggerService().triggerSummaryUpdate(plan);
+                }
+            });
 
-            // Redis(realtime_keywords)에 저장된 이전 실시간 검색어 순위 리스트 삭제
-            services.signalKeywordService().deleteOldRealtimeKeywords();
-            // Redis(board_rank_valid)의 유효시간 갱신
-            services.boardRedisService().setRankValidListTime();
-            services.signalKeywordService().updateLastUpdatedTime(signalKeywordDto.getNow());
             // 실시간 이슈 키워드 변경 SSE 이벤트 발행
             publishRealtimeKeywordsEvent(services);
         } catch (Exception e) {
@@ -101,7 +118,8 @@ public class SignalKeywordJob implements Job {
             applicationContext.getBean(RedisPublisher.class),
             applicationContext.getBean(BoardCache.class),
             applicationContext.getBean(BoardSummaryTriggerService.class),
-            applicationContext.getBean(OpenSearchService.class)
+            applicationContext.getBean(SimilarKeywordLookupService.class),
+            applicationContext.getBean(SseConnectionLeaseService.class)
         );
     }
 
@@ -116,119 +134,88 @@ public class SignalKeywordJob implements Job {
     }
 
     /**
-     * 실시간 검색어 키워드 처리 메인 로직
+     * 실시간 검색어 키워드별 처리 방식 결정
+     *  1. 실시간 게시판에 비슷하거나 같은 키워드가 존재하는 경우 (REALTIME) -> 게시판 이름, 순위 갱신
+     *  2. 실시간 게시판에 없지만 DB에는 저장 돼 있는 경우 (RESTORE) -> DB isDeleted 상태 변경 및 이름 갱신 (복원)
+     *  3. 완전히 새로운 게시판인 경우 (NEW) -> DB에 게시판 생성
      */
-    private void processKeyword(Top10 top10, Services services, Instant now) {
-        // signal.bz의 top10 객체를 BoardSaveDto 객체로 변환
-        BoardSaveDto boardSaveDto = BoardSaveDto.from(top10);
-
-        BoardRedisKey openSearchRedisKey = services.openSearchService().findSimilarKeyword(
-            boardSaveDto.getBoardName());
-        double score = calculateScore(now, top10.getRank());
-
-        // DB에 비슷하거나 같은 게시판이 존재하는 경우
-        if (openSearchRedisKey != null) {
-            boolean isRealTimeBoard = services.boardRedisService()
-                .isRealTimeBoard(openSearchRedisKey);
-            boardSaveDto.setBoardId(openSearchRedisKey.getBoardId());
-            log.info("새로 들어온 키워드: {} \n 비슷하거나 같은 키워드: {} \n 실시간 여부: {}",
-                boardSaveDto.getBoardName(), openSearchRedisKey.getBoardName(), isRealTimeBoard);
-            // case 1 - OpenSearch에서 찾은 게시판이 실시간 게시판에 존재하는 경우
-            if (isRealTimeBoard) {
-                updateExistingRealtimeBoard(openSearchRedisKey, boardSaveDto, top10.getRank(),
-                    score, services);
-                services.boardService()
-                    .updateBoardName(openSearchRedisKey.getBoardId(), boardSaveDto.getBoardName());
-                return;
+    private List<SignalKeywordPlan> planKeywords(List<Top10> top10List, Services services,
+        Instant now) {
+        // 같은 키워드가 여러 번 들어온 경우, 순위가 높은 키워드 하나만 반영한다 (같은 이름의 게시판을 두 번 만들지 않도록)
+        Set<String> distinctKeywords = new HashSet<>();
+        top10List = top10List.stream()
+            .filter(top10 -> distinctKeywords.add(top10.getKeyword()))
+            .toList();
+        List<String> keywords = top10List.stream().map(Top10::getKeyword).toList();
+
+        // 키워드별 유사 게시판을 한 번에 조회 (최근 조회한 키워드는 로컬 캐시, 나머지만 OpenSearch에서 조회)
+        List<BoardRedisKey> similarBoards = services.similarKeywordLookupService()
+            .findSimilarKeywords(keywords);
+        // OpenSearch에서 찾지 못했지만 같은 이름의 게시판이 DB에 존재하는 경우를 위해 이름으로 한 번에 조회
+        Map<String, Long> boardIdByName = services.boardRepository().findByNameIn(keywords)
+            .stream()
+            .collect(Collectors.toMap(Boards::getName, Boards::getId));
+
+        // 같은 이름의 게시판이 있는 키워드가 먼저 그 게시판을 사용한다
+        // - 유사한 게시판이 다른 키워드에 먼저 매칭되어 같은 이름의 게시판을 새로 만들면, 이름(unique)이 충돌하여 트랜잭션 전체가 실패한다
+        List<BoardRedisKey> matchedBoards = new ArrayList<>();
+        Set<Long> matchedBoardIds = new HashSet<>();
+        for (String keyword : keywords) {
+            Long boardId = boardIdByName.get(keyword);
+            matchedBoards.add(boardId != null && matchedBoardIds.add(boardId)
+                ? new BoardRedisKey(boardId, keyword) : null);
+        }
+        for (int i = 0; i < top10List.size(); i++) {
+            BoardRedisKey similarBoard = similarBoards.get(i);
+            if (matchedBoards.get(i) != null || similarBoard == null) {
+                continue;
+            }
+            // 같은 게시판에 여러 키워드가 매칭된 경우, 먼저 매칭된 키워드만 해당 게시판을 사용한다
+            if (matchedBoardIds.add(similarBoard.getBoardId())) {
+                matchedBoards.set(i, similarBoard);
+            } else {
+                log.info("이미 다른 키워드에 매칭된 게시판입니다. 새로운 게시판으로 처리 - keyword: {}",
+                    keywords.get(i));
             }
-            // case 2 - OpenSearch에서 찾은 게시판이 실시간 게시판에 존재하지 않는 경우
-            restoreDeletedBoard(boardSaveDto, top10.getRank(), score, services);
-            services.boardService()
-                .updateBoardName(openSearchRedisKey.getBoardId(), boardSaveDto.getBoardName());
-            return;
         }
 
-        // case 3 - DB에 비슷하거나 같은 게시판이 없다면 완전히 새로운 게시판 생성
-        handleNewBoard(boardSaveDto, top10.getRank(), score, services);
-    }
-
-    /**
-     * CASE 1: 기존 실시간 게시판 키워드 순위 갱신
-     */
-    private void updateExistingRealtimeBoard(BoardKeyProvider oldBoardKey, BoardSaveDto newBoardKey,
-        int rank, double score,
-        Services services) {
-
-        log.info("기존 실시간 게시판 키워드 순위 갱신 - boardId: {}, boardName: {}",
-            oldBoardKey.getBoardId(), oldBoardKey.getBoardName());
-
-        // realtime_keywords에 저장 (사이드바)
-        services.signalKeywordService().addRealtimeKeywordWithRankTracking(oldBoardKey.getBoardId(),
-            oldBoardKey.getBoardName(), newBoardKey.getBoardName(), rank);
-        services.boardRedisService().deleteKeyInBoardRank(oldBoardKey);
-        // board_rank(정렬용)와 value(TTL)에 저장
-        services.boardRedisService().saveBoardRedis(newBoardKey, score);
-        services.boardCache().addRealtimeBoardCache(newBoardKey);
-        // 새로운 이름으로 opensearch 문서 변경
-        services.openSearchService().saveKeyword(newBoardKey);
-    }
-
-    /**
-     * CASE 2: 삭제 되었다가 다시 생성된 게시판 복원
-     */
-    private void restoreDeletedBoard(BoardKeyProvider newBoardRedisKey, int rank, double score,
-        Services services) {
-
-        log.info("삭제 되었다가 다시 생성된 게시판 복원 처리 - boardId: {}, boardName: {}",
-            newBoardRedisKey.getBoardId(), newBoardRedisKey.getBoardName());
-
-        // Quartz Job에서 조회된 엔티티는 Detached 상태이므로 트랜잭션 내에서 조회 후 수정해야 함
-        services.boardService().updateIsDeleted(newBoardRedisKey.getBoardId(), false);
-        // 삭제 되었다가 다시 생성된 게시판이므로 게시판 요약 재생성
-        services.boardSummaryTriggerService().triggerSummaryUpdate(newBoardRedisKey);
-        // realtime_keywords에 NEW로 저장
-        services.signalKeywordService().addNewRealtimeKeyword(newBoardRedisKey, rank);
-        services.boardCache().addRealtimeBoardCache(newBoardRedisKey);
-        services.boardRedisService().saveBoardRedis(newBoardRedisKey, score);
-        // 새로운 이름으로 opensearch 문서 변경
-        services.openSearchService().saveKeyword(newBoardRedisKey);
-    }
-
-    /**
-     * CASE 3: 완전히 새로운 게시판 생성
-     */
-    private void handleNewBoard(BoardSaveDto boardSaveDto, int rank, double score,
-        Services services) {
-
-        log.info("완전히 새로운 게시판 생성 - boardName: {}", boardSaveDto.getBoardName());
-
-        // 게시판 생성 후 저장
-        Boards board = services.boardService().saveBoard(boardSaveDto);
-        boardSaveDto.setBoardId(board.getId());
-        // 게시판 요약 생성
-        services.boardSummaryTriggerService().triggerSummaryUpdate(boardSaveDto);
-        // realtime_keywords에 저장
-        services.signalKeywordService().addNewRealtimeKeyword(boardSaveDto, rank);
-        // board_rank에 저장
-        services.boardRedisService().saveBoardRedis(boardSaveDto, score);
-        // 인메모리 캐시에 게시판 정보 갱신
-        services.boardCache().addRealtimeBoardCache(boardSaveDto);
-        // OpenSearch에 인덱싱
-        services.openSearchService().saveKeyword(boardSaveDto);
+        // 매칭된 게시판의 실시간 게시판 여부와 이전 순위를 Redis 파이프라인으로 한 번에 조회
+        List<Long> previousRanks = services.boardRedisService().findBoardRanks(matchedBoards);
+
+        List<SignalKeywordPlan> plans = new ArrayList<>();
+        for (int i = 0; i < top10List.size(); i++) {
+            Top10 top10 = top10List.get(i);
+            BoardRedisKey matchedBoard = matchedBoards.get(i);
+            Long previousRank = previousRanks.get(i);
+
+            KeywordCase keywordCase = matchedBoard == null ? KeywordCase.NEW
+                : previousRank != null ? KeywordCase.REALTIME : KeywordCase.RESTORE;
+            log.info("새로 들어온 키워드: {}, 비슷하거나 같은 키워드: {}, 처리 방식: {}", top10.getKeyword(),
+                matchedBoard == null ? null : matchedBoard.getBoardName(), keywordCase);
+
+            plans.add(SignalKeywordPlan.builder()
+                .rank(top10.getRank())
+                .boardName(top10.getKeyword())
+                .boardId(matchedBoard == null ? null : matchedBoard.getBoardId())
+                .keywordCase(keywordCase)
+                .previousBoardName(matchedBoard == null ? null : matchedBoard.getBoardName())
+                .previousRank(previousRank)
+                .score(calculateScore(now, top10.getRank()))
+                .build());
+        }
+        return plans;
     }
 
     /**
      * 실시간 이슈 키워드 변경 SSE 이벤트 발행
+     * - 구독자 수와 관계없이 clientId가 없는 브로드캐스트 이벤트를 한 번만 발행하고,
+     *   각 노드가 자신에게 연결된 SSE에게 전송한다
      */
     private void publishRealtimeKeywordsEvent(Services services) {
         Top10WithChange top10WithChange = services.signalKeywordService().getRealTimeKeyword();
-
-        Set<String> allClientId = services.signalKeywordService().findAllClientId();
-        for (String clientId : allClientId) {
-            log.info("스케줄러에서 clientId: {}에게 이벤트 발행", clientId);
-            SignalKeywordEventDto event = new SignalKeywordEventDto(clientId,
-                SIGNAL_KEYWORD_LIST_EVENT_MESSAGE, top10WithChange);
-            services.redisPublisher().publishSignalKeywordEvent(event);
-        }
+        log.info("실시간 검색어 이벤트 발행, 전체 SSE 연결 수: {}",
+            services.sseConnectionLeaseService().countAllConnections());
+        services.redisPublisher().publishSignalKeywordEvent(
+            SignalKeywordEventDto.broadcast(SIGNAL_KEYWORD_LIST_EVENT_MESSAGE, top10WithChange));
     }
 }
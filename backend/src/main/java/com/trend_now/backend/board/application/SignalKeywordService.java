@@ -1,26 +1,38 @@
 package com.trend_now.backend.board.application;
 
+import static com.trend_now.backend.board.application.BoardRedisService.BOARD_INITIAL_COUNT;
+import static com.trend_now.backend.board.application.BoardRedisService.BOARD_KEY_DELIMITER;
 import static com.trend_now.backend.board.application.BoardRedisService.BOARD_RANK_KEY;
+import static com.trend_now.backend.board.application.BoardRedisService.BOARD_RANK_VALID_KEY;
+import static com.trend_now.backend.board.application.BoardRedisService.KEY_LIVE_TIME;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.trend_now.backend.board.dto.BoardKeyProvider;
 import com.trend_now.backend.board.dto.MsgFormat;
 import com.trend_now.backend.board.dto.RankChangeType;
 import com.trend_now.backend.board.dto.SignalKeywordDto;
+import com.trend_now.backend.board.dto.SignalKeywordPlan;
+import com.trend_now.backend.board.dto.SignalKeywordPlan.KeywordCase;
 import com.trend_now.backend.board.dto.Top10WithChange;
 import com.trend_now.backend.board.dto.Top10WithDiff;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClient.Builder;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Slf4j
@@ -34,16 +46,18 @@ public class SignalKeywordService {
     private static final String SERVER_ERROR_MESSAGE = "5xx";
     private static final String JSON_PARSE_ERROR_MESSAGE = "JSON 파싱에 오류가 생겼습니다.";
     private static final String FETCH_KEYWORD_ERROR_MESSAGE = "실시간 검색어 순위 리스트가 존재하지 않습니다.";
-    private static final String NOT_FOUND_PREVIOUS_KEYWORD_ERROR_MESSAGE = "기존에 저장 돼 있던 랭킹 정보를 찾을 수 없습니다.";
     private static final String REALTIME_KEYWORD_LAST_UPDATED_KEY = "realtime_keywords:last_updated";
-    private static final String CLIENT_ID_KEY = "clientId";
     private static final String SUBSCRIPTION_SUCCESS_EMITTER_NAME = "subscriptionSuccess";
     public static final String SIGNAL_KEYWORD_LIST = "realtime_keywords";
+    private static final String SIGNAL_KEYWORD_STAGING_LIST = "realtime_keywords:staging";
+    private static final String REALTIME_KEYWORD_GENERATION_KEY = "realtime_keywords:generation";
 
     private final Builder webClientBuilder;
     private final ObjectMapper objectMapper;
     private final RedisTemplate<String, String> redisTemplate;
     private final SseEmitterService sseEmitterService;
+    private final BoardChannelSubscriptionManager boardChannelSubscriptionManager;
+    private final RedisScript<Long> realtimeKeywordsSwapScript;
 
     public Mono<SignalKeywordDto> fetchRealTimeKeyword() {
         WebClient webClient = webClientBuilder.baseUrl(SIGNAL_BZ_BASE_URL).build();
@@ -68,36 +82,66 @@ public class SignalKeywordService {
             });
     }
 
-    // 실시간 검색어가 마지막으로 갱신된 시간 업데이트
-    public void updateLastUpdatedTime(long timestamp) {
-        redisTemplate.opsForValue()
-            .set(REALTIME_KEYWORD_LAST_UPDATED_KEY, String.valueOf(timestamp));
-    }
+    /**
+     * 실시간 검색어 스케줄러의 결과를 Redis 파이프라인 1번으로 반영
+     * - board_rank(정렬용)와 게시판 value(TTL), board_rank_valid
+     * - REALTIME인 경우 이전 이름의 게시판 키는 삭제하고 새로운 이름으로 다시 저장한다
+     * - realtime_keywords(사이드바)는 스테이징 키에 다음 세대를 만든 뒤, Lua 스크립트의 RENAME으로
+     *   마지막 갱신 시간, 세대 번호와 함께 교체하여 조회 시 이전/다음 세대가 섞여 보이지 않도록 한다
+     *   (파이프라인 안의 MULTI/EXEC는 EXEC 오류가 드러나지 않으므로 교체는 파이프라인 밖에서 실행한다)
+     */
+    public void saveRealtimeKeywords(List<SignalKeywordPlan> plans, long lastUpdatedTime) {
+        if (plans.isEmpty()) {
+            return;
+        }
+        String rankValidTime = BoardRedisService.calculateRankValidTime();
+        String[] realtimeKeywords = plans.stream()
+            .map(plan -> toTop10WithDiff(plan).toRealtimeKeywordsKey())
+            .toArray(String[]::new);
+
+        redisTemplate.executePipelined(new SessionCallback<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                for (SignalKeywordPlan plan : plans) {
+                    if (plan.getKeywordCase() == KeywordCase.REALTIME) {
+                        String oldKey = plan.getPreviousBoardName() + BOARD_KEY_DELIMITER
+                            + plan.getBoardId();
+                        operations.delete(oldKey);
+                        operations.opsForZSet().remove(BOARD_RANK_KEY, oldKey);
+                    }
+                    String key = plan.getBoardName() + BOARD_KEY_DELIMITER + plan.getBoardId();
+                    operations.opsForValue().set(key, BOARD_INITIAL_COUNT,
+                        Duration.ofSeconds(KEY_LIVE_TIME));
+                    operations.opsForZSet().add(BOARD_RANK_KEY, key, plan.getScore());
+                }
+                operations.opsForValue().set(BOARD_RANK_VALID_KEY, rankValidTime);
 
-    public void addNewRealtimeKeyword(BoardKeyProvider boardKeyProvider, int currRank) {
-        // 새로 들어온 키워드를 realtime_keywords에 추가
-        Top10WithDiff top10WithDiff = new Top10WithDiff(currRank, boardKeyProvider.getBoardName(),
-            boardKeyProvider.getBoardId(), RankChangeType.NEW, 0);
-        redisTemplate.opsForList()
-            .rightPush(SIGNAL_KEYWORD_LIST, top10WithDiff.toRealtimeKeywordsKey());
-    }
+                // 다음 세대의 실시간 검색어 순위 리스트를 스테이징 키에 생성
+                operations.delete(SIGNAL_KEYWORD_STAGING_LIST);
+                operations.opsForList().rightPushAll(SIGNAL_KEYWORD_STAGING_LIST, realtimeKeywords);
+                return null;
+            }
+        });
 
-    public void addRealtimeKeywordWithRankTracking(Long boardId, String oldBoardName, String newBoardName, int currRank) {
-        String key = oldBoardName + ":" + boardId;
+        // 리스트 교체, 마지막 갱신 시간, 세대 번호 증가를 원자적으로 반영 (실패 시 예외 발생)
+        redisTemplate.execute(realtimeKeywordsSwapScript,
+            List.of(SIGNAL_KEYWORD_STAGING_LIST, SIGNAL_KEYWORD_LIST,
+                REALTIME_KEYWORD_LAST_UPDATED_KEY, REALTIME_KEYWORD_GENERATION_KEY),
+            String.valueOf(lastUpdatedTime));
+    }
 
-        Long preRank = redisTemplate.opsForZSet().rank(BOARD_RANK_KEY, key);
-        if (preRank == null) {
-            throw new RuntimeException(NOT_FOUND_PREVIOUS_KEYWORD_ERROR_MESSAGE);
+    private Top10WithDiff toTop10WithDiff(SignalKeywordPlan plan) {
+        if (plan.isNewRealtimeKeyword()) {
+            return new Top10WithDiff(plan.getRank(), plan.getBoardName(), plan.getBoardId(),
+                RankChangeType.NEW, 0);
         }
-        // currRank는 1부터 시작, preRank는 0부터 시작하므로 preRank에 1을 더해서 계산
-        long diffRank = (preRank + 1) - currRank;
+        // currRank는 1부터 시작, previousRank는 0부터 시작하므로 previousRank에 1을 더해서 계산
+        long diffRank = (plan.getPreviousRank() + 1) - plan.getRank();
         RankChangeType rankChangeType = diffRank == 0 ? RankChangeType.SAME
             : diffRank < 0 ? RankChangeType.DOWN : RankChangeType.UP;
-
-        Top10WithDiff top10WithDiff = new Top10WithDiff(currRank, newBoardName,
-            boardId, rankChangeType, Math.abs((int) diffRank));
-        redisTemplate.opsForList()
-            .rightPush(SIGNAL_KEYWORD_LIST, top10WithDiff.toRealtimeKeywordsKey());
+        return new Top10WithDiff(plan.getRank(), plan.getBoardName(), plan.getBoardId(),
+            rankChangeType, Math.abs((int) diffRank));
     }
 
     // 실시간 검색어가 마지막으로 갱신된 시간 조회
@@ -109,16 +153,34 @@ public class SignalKeywordService {
         return Long.parseLong(lastUpdated);
     }
 
+    /**
+     * 실시간 검색어 순위 리스트, 마지막 갱신 시간, 세대 번호를 MULTI로 한 번에 조회하여 항상 같은 세대의 스냅샷을 반환
+     */
     public Top10WithChange getRealTimeKeyword() {
-        List<String> realtimeKeywordList = redisTemplate.opsForList()
-            .range(SIGNAL_KEYWORD_LIST, 0, -1);
-        if (realtimeKeywordList == null || realtimeKeywordList.isEmpty()) {
+        List<Object> results = redisTemplate.execute(new SessionCallback<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public List<Object> execute(RedisOperations operations) throws DataAccessException {
+                operations.multi();
+                operations.opsForList().range(SIGNAL_KEYWORD_LIST, 0, -1);
+                operations.opsForValue().get(REALTIME_KEYWORD_LAST_UPDATED_KEY);
+                operations.opsForValue().get(REALTIME_KEYWORD_GENERATION_KEY);
+                return operations.exec();
+            }
+        });
+        if (results == null || !(results.get(0) instanceof List<?> realtimeKeywordList)
+            || realtimeKeywordList.isEmpty()) {
             throw new RuntimeException(FETCH_KEYWORD_ERROR_MESSAGE);
         }
-        long lastUpdatedTime = getLastUpdatedTime();
+        long lastUpdatedTime = parseLongOrZero(results.get(1));
+        long generation = parseLongOrZero(results.get(2));
         List<Top10WithDiff> top10WithDiffList = realtimeKeywordList.stream()
-            .map(Top10WithDiff::from).toList();
-        return new Top10WithChange(lastUpdatedTime, top10WithDiffList);
+            .map(realtimeKeyword -> Top10WithDiff.from(String.valueOf(realtimeKeyword))).toList();
+        return new Top10WithChange(lastUpdatedTime, top10WithDiffList, generation);
+    }
+
+    private static long parseLongOrZero(Object value) {
+        return value == null ? 0L : Long.parseLong(String.valueOf(value));
     }
 
     private Map<String, Integer> getRealtimeKeywordMap() {
@@ -134,35 +196,43 @@ public class SignalKeywordService {
         return previousRankMap;
     }
 
-    private void saveClientId(String clientId) {
-        redisTemplate.opsForSet().add(CLIENT_ID_KEY, clientId);
-    }
-
-    public void deleteClientId(String clientId) {
-        redisTemplate.opsForSet().remove(CLIENT_ID_KEY, clientId);
-    }
-
-    public void deleteOldRealtimeKeywords() {
-        redisTemplate.opsForList().trim(SIGNAL_KEYWORD_LIST, -10, -1);
-    }
-
-    public Set<String> findAllClientId() {
-        return redisTemplate.opsForSet().members(CLIENT_ID_KEY);
+    /**
+     * 구독 취소 요청 시 이 노드에 연결된 SSE라면 종료한다
+     * - 다른 노드의 연결은 다음 전송(heartbeat 포함) 실패 시 정리된다
+     */
+    public void unsubscribe(String clientId) {
+        sseEmitterService.completeEmitter(clientId);
     }
 
-    public SseEmitter subscribe(String clientId) {
-        saveClientId(clientId);
-        SseEmitter sseEmitter = sseEmitterService.createEmitter(clientId);
+    /**
+     * SSE 구독
+     * - boardIds가 있다면 해당 게시판의 만료/시간 증가 이벤트만 받고, 없다면 모든 게시판의 이벤트를 받는다
+     * - 재연결인 경우(Last-Event-ID 존재) 끊겨 있던 동안 놓친 이벤트를 이 노드의 이벤트 버퍼에서 다시 보낸다
+     */
+    public SseEmitter subscribe(String clientId, Set<Long> boardIds, String lastEventId) {
+        SseEmitter sseEmitter = sseEmitterService.createEmitter(clientId, boardIds);
+        boardChannelSubscriptionManager.join(boardIds);
 
         sseEmitter.onTimeout(sseEmitter::complete);
         sseEmitter.onError((e) -> sseEmitter.complete());
         sseEmitter.onCompletion(() -> {
-            sseEmitterService.deleteEmitter(clientId);
-            redisTemplate.opsForSet().remove(CLIENT_ID_KEY, clientId);
+            sseEmitterService.deleteEmitter(clientId, sseEmitter);
+            boardChannelSubscriptionManager.leave(boardIds);
         });
 
         sseEmitterService.send(MsgFormat.SUBSCRIBE, SUBSCRIPTION_SUCCESS_EMITTER_NAME, clientId,
             sseEmitter);
+        sseEmitterService.replay(clientId, lastEventId);
         return sseEmitter;
     }
+
+    /**
+     * 리액티브 SSE 스트림 구독 (전송 큐와 가상 스레드 대신 공유 Sink의 Reactor 구독자 버퍼로 이벤트를 전달)
+     * - 구독/종료 시점에 게시판별 채널 구독 수를 함께 관리한다
+     */
+    public Flux<ServerSentEvent<String>> stream(Set<Long> boardIds, String lastEventId) {
+        return sseEmitterService.stream(boardIds, lastEventId)
+            .doOnSubscribe(subscription -> boardChannelSubscriptionManager.join(boardIds))
+            .doFinally(signalType -> boardChannelSubscriptionManager.leave(boardIds));
+    }
 }
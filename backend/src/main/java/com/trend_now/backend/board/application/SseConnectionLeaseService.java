@@ -0,0 +1,104 @@
+/*
+ * 클래스 설명 : 노드별 SSE 연결 수를 TTL이 있는 Redis 키(lease)로 공유하는 클래스
+ * - SSE 연결(clientId) 목록은 각 노드의 SseEmitterRepository(리액티브 스트림은 ReactiveSseBroadcaster)에만 존재하고, Redis에는 노드별 연결 수만 저장한다
+ * - 노드는 주기적으로 lease를 갱신하며, 노드가 비정상 종료되면 TTL이 지나 자동으로 사라진다
+ * 메소드 설명
+ * - renewLease() : 이 노드의 연결 수를 TTL과 함께 갱신하는 메소드
+ * - countAllConnections() : 살아있는 모든 노드의 연결 수를 합산하는 메소드
+ */
+package com.trend_now.backend.board.application;
+
+import com.trend_now.backend.board.repository.SseEmitterRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SseConnectionLeaseService {
+
+    private static final String SSE_NODES_KEY = "sse_nodes";
+    private static final String SSE_CONNECTION_LEASE_KEY_PREFIX = "sse_connections:";
+    private static final long LEASE_RENEW_INTERVAL_MILLIS = 30_000L;
+    // 갱신 주기의 3배 동안 갱신이 없으면 죽은 노드로 판단
+    private static final Duration LEASE_TTL = Duration.ofMillis(LEASE_RENEW_INTERVAL_MILLIS * 3);
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final SseEmitterRepository sseEmitterRepository;
+    private final ReactiveSseBroadcaster reactiveSseBroadcaster;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Scheduled(fixedRate = LEASE_RENEW_INTERVAL_MILLIS)
+    public void renewLease() {
+        String connectionCount = String.valueOf(
+            sseEmitterRepository.count() + reactiveSseBroadcaster.getSubscriberCount());
+        redisTemplate.executePipelined(new SessionCallback<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                operations.opsForSet().add(SSE_NODES_KEY, nodeId);
+                operations.opsForValue().set(generateLeaseKey(nodeId), connectionCount, LEASE_TTL);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 노드 수만큼의 키만 조회하므로 연결 수와 관계없이 비용이 일정하다
+     * - lease가 만료된 노드는 sse_nodes에서 함께 정리한다
+     */
+    public long countAllConnections() {
+        Set<String> nodeIds = redisTemplate.opsForSet().members(SSE_NODES_KEY);
+        if (nodeIds == null || nodeIds.isEmpty()) {
+            return 0L;
+        }
+
+        List<String> nodeIdList = new ArrayList<>(nodeIds);
+        List<String> connectionCounts = redisTemplate.opsForValue()
+            .multiGet(nodeIdList.stream().map(SseConnectionLeaseService::generateLeaseKey).toList());
+        if (connectionCounts == null) {
+            return 0L;
+        }
+
+        long totalCount = 0L;
+        List<String> expiredNodeIds = new ArrayList<>();
+        for (int i = 0; i < nodeIdList.size(); i++) {
+            String connectionCount = connectionCounts.get(i);
+            if (connectionCount == null) {
+                expiredNodeIds.add(nodeIdList.get(i));
+                continue;
+            }
+            totalCount += Long.parseLong(connectionCount);
+        }
+        if (!expiredNodeIds.isEmpty()) {
+            redisTemplate.opsForSet().remove(SSE_NODES_KEY, expiredNodeIds.toArray());
+        }
+        return totalCount;
+    }
+
+    @PreDestroy
+    public void releaseLease() {
+        try {
+            redisTemplate.delete(generateLeaseKey(nodeId));
+            redisTemplate.opsForSet().remove(SSE_NODES_KEY, nodeId);
+        } catch (DataAccessException e) {
+            log.warn("SSE 연결 lease 해제에 실패했습니다. TTL 만료 후 정리됩니다. nodeId: {}", nodeId, e);
+        }
+    }
+
+    private static String generateLeaseKey(String nodeId) {
+        return SSE_CONNECTION_LEASE_KEY_PREFIX + nodeId;
+    }
+}
@@ -1,27 +1,41 @@
 /*
  * 클래스 설명 : SSE에 대한 로직을 정의한 클래스
+ *             구독 응답을 제외한 이벤트는 SseEventDispatcher를 통해 클라이언트별 큐에 넣고 비동기로 전송한다
  * 메소드 설명
  * - createEmitter : SSE 연결을 생성하는 메소드
  * - deleteEmitter : SSE 연결을 삭제하는 메소드
+ * - completeEmitter : 이 노드의 SSE 연결을 종료하는 메소드
  * - sendKeywordList : clientId에 대한 SSE 연결이 존재하면 keywordList를 전송하는 메소드
+ * - broadcastKeywordList : 이미 직렬화된 keywordList를 이 노드에 연결된 모든 SSE에게 전송하는 메소드
+ * - replay : 재연결한 SSE에게 Last-Event-ID 이후 놓친 이벤트를 다시 전송하는 메소드
+ * - stream : SseEmitter 대신 리액티브 SSE 스트림(Flux<ServerSentEvent>)으로 구독하는 메소드
+ * - sendHeartbeat : 유휴 SSE 연결이 끊기지 않도록 주기적으로 heartbeat 주석을 전송하는 메소드
  * - send : SSE에서 데이터를 전송할 때 사용되는 메소드
  */
 package com.trend_now.backend.board.application;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trend_now.backend.board.application.SseEventDispatcher.SseEvent;
+import com.trend_now.backend.board.dto.MsgFormat;
 import com.trend_now.backend.board.dto.RealTimeBoardKeyExpiredEvent;
 import com.trend_now.backend.board.dto.RealTimeBoardTimeUpEvent;
 import com.trend_now.backend.board.dto.SignalKeywordEventDto;
-import com.trend_now.backend.board.dto.Top10WithChange;
 import com.trend_now.backend.board.repository.SseEmitterRepository;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
 
 @Slf4j
 @Service
@@ -31,59 +45,136 @@ public class SseEmitterService {
     private static final String SIGNAL_KEYWORD_LIST_EMITTER_NAME = "signalKeywordList";
     private static final String REALTIME_BOARD_EXPIRED_EMITTER_NAME = "realtimeBoardExpired";
     private static final String REALTIME_BOARD_TIMEUP_EMITTER_NAME = "realtimeBoardTimeUp";
-    private static final String CLIENT_ID_KEY = "clientId";
+    private static final String SUBSCRIPTION_SUCCESS_EMITTER_NAME = "subscriptionSuccess";
+    private static final long HEARTBEAT_INTERVAL_MILLIS = 30_000L;
 
     @Value("${sse.timeout}")
     private Long timeout;
 
     private final SseEmitterRepository sseEmitterRepository;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final SseEventDispatcher sseEventDispatcher;
+    private final SseEventHistory sseEventHistory;
+    private final ReactiveSseBroadcaster reactiveSseBroadcaster;
+    private final ObjectMapper objectMapper;
 
-    public SseEmitter createEmitter(String clientId) {
-        return sseEmitterRepository.save(clientId, new SseEmitter(timeout));
+    /**
+     * @param boardIds 실시간 게시판 만료/시간 증가 이벤트를 받을 게시판 ID 목록 (비어있다면 모든 게시판)
+     */
+    public SseEmitter createEmitter(String clientId, Set<Long> boardIds) {
+        SseEmitter previous = sseEmitterRepository.findById(clientId).orElse(null);
+        SseEmitter sseEmitter = sseEmitterRepository.save(clientId, new SseEmitter(timeout),
+                boardIds);
+        // 같은 clientId로 재연결한 경우 이전 연결은 종료한다 (이전 연결의 종료 콜백은 새 연결을 삭제하지 않는다)
+        if (previous != null) {
+            previous.complete();
+        }
+        return sseEmitter;
+    }
+
+    /**
+     * clientId에 저장된 SSE가 sseEmitter일 때만 삭제한다 (재연결한 새 SSE는 유지)
+     */
+    public void deleteEmitter(String clientId, SseEmitter sseEmitter) {
+        if (sseEmitterRepository.deleteById(clientId, sseEmitter)) {
+            sseEventDispatcher.remove(clientId);
+        }
     }
 
-    public void deleteEmitter(String clientId) {
-        sseEmitterRepository.deleteById(clientId);
+    /**
+     * 이 노드에 clientId의 SSE 연결이 있다면 종료한다 (종료 시 onCompletion에서 deleteEmitter 호출)
+     */
+    public void completeEmitter(String clientId) {
+        sseEmitterRepository.findById(clientId).ifPresent(SseEmitter::complete);
     }
 
     public void sendKeywordList(SignalKeywordEventDto event) {
-        Top10WithChange top10WithChange = event.getTop10WithChange();
-        String clientId = event.getClientId();
+        sseEventDispatcher.dispatch(event.getClientId(),
+                SseEvent.latestOnly(SIGNAL_KEYWORD_LIST_EMITTER_NAME,
+                        toJson(event.getTop10WithChange())));
+    }
+
+    /**
+     * 연결된 모든 SSE에게 실시간 검색어 순위를 보내는 메서드
+     * - 직렬화된 JSON 바이트를 그대로 전송하므로 SSE 수와 관계없이 직렬화는 한 번만 일어난다
+     * - 느린 클라이언트에게는 밀린 이전 순위 대신 최신 순위만 전송된다
+     */
+    public void broadcastKeywordList(byte[] serializedTop10WithChange) {
+        SseEvent event = sseEventHistory.append(SIGNAL_KEYWORD_LIST_EMITTER_NAME, null,
+                serializedTop10WithChange, true);
+        sseEventDispatcher.dispatchAll(event);
+        reactiveSseBroadcaster.emit(event);
+    }
+
+    /**
+     * 해당 게시판을 구독한 SSE에게 실시간 게시판 만료 이벤트를 보내는 메서드
+     */
+    public void sendRealTimeBoardExpired(Long boardId, RealTimeBoardKeyExpiredEvent event) {
+        sendBoardEvent(boardId, sseEventHistory.append(REALTIME_BOARD_EXPIRED_EMITTER_NAME, boardId,
+                toJson(event), false));
+    }
+
+    /**
+     * 해당 게시판을 구독한 SSE에게 실시간 게시판 시간 증가 이벤트를 보내는 메서드
+     */
+    public void sendRealTimeBoardTimeUp(Long boardId, RealTimeBoardTimeUpEvent event) {
+        sendBoardEvent(boardId, sseEventHistory.append(REALTIME_BOARD_TIMEUP_EMITTER_NAME, boardId,
+                toJson(event), false));
+    }
 
-        sseEmitterRepository.findById(clientId)
-                .ifPresent(sseEmitter -> send(top10WithChange, SIGNAL_KEYWORD_LIST_EMITTER_NAME,
-                        clientId, sseEmitter));
+    private void sendBoardEvent(Long boardId, SseEvent event) {
+        sseEventDispatcher.dispatchAll(sseEmitterRepository.findClientIdsByBoardId(boardId), event);
+        reactiveSseBroadcaster.emit(event);
     }
 
     /**
-     * 연결된 모든 SSE에게 실시간 게시판 만료 이벤트를 보내는 메서드
+     * 재연결한 클라이언트에게 Last-Event-ID 이후 놓친 이벤트를 다시 보내는 메서드
+     * - 처음 연결하는 경우(Last-Event-ID 없음)에는 보내지 않는다
      */
-    public void sendRealTimeBoardExpired(RealTimeBoardKeyExpiredEvent event) {
-        Set<String> allClientId = sseEmitterRepository.findAllClientId();
-        if (allClientId.isEmpty()) {
-            log.info("연결된 SSE가 없으므로 실시간 게시판 만료를 보낼 곳이 없습니다.");
+    public void replay(String clientId, String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
             return;
         }
+        List<SseEvent> replayEvents = sseEventHistory.findReplayEvents(lastEventId);
+        log.info("clientId: {}의 Last-Event-ID: {} 이후 이벤트 {}개를 다시 전송합니다.", clientId, lastEventId,
+                replayEvents.size());
+        replayEvents.stream()
+                .filter(event -> event.boardId() == null
+                        || sseEmitterRepository.isSubscribedBoard(clientId, event.boardId()))
+                .forEach(event -> sseEventDispatcher.dispatch(clientId, event));
+    }
 
-        for (String clientId : allClientId) {
-            sseEmitterRepository.findById(clientId)
-                    .ifPresent(sseEmitter -> send(event, REALTIME_BOARD_EXPIRED_EMITTER_NAME,
-                            clientId, sseEmitter));
+    /**
+     * 리액티브 SSE 스트림 구독
+     * - 구독 성공 메시지와 재연결 시 놓친 이벤트를 먼저 보낸 뒤, 이 노드의 브로드캐스트 이벤트를 이어서 보낸다
+     */
+    public Flux<ServerSentEvent<String>> stream(Set<Long> boardIds, String lastEventId) {
+        List<ServerSentEvent<String>> firstEvents = new ArrayList<>();
+        firstEvents.add(ServerSentEvent.builder(new String(toJson(MsgFormat.SUBSCRIBE),
+                StandardCharsets.UTF_8)).event(SUBSCRIPTION_SUCCESS_EMITTER_NAME).build());
+        if (lastEventId != null && !lastEventId.isBlank()) {
+            sseEventHistory.findReplayEvents(lastEventId).stream()
+                    .filter(event -> event.boardId() == null || boardIds.isEmpty()
+                            || boardIds.contains(event.boardId()))
+                    .map(SseEvent::toServerSentEvent)
+                    .forEach(firstEvents::add);
         }
+        return reactiveSseBroadcaster.stream(boardIds, firstEvents);
     }
 
-    public void sendRealTimeBoardTimeUp(RealTimeBoardTimeUpEvent event) {
-        Set<String> allClientId = sseEmitterRepository.findAllClientId();
-        if (allClientId.isEmpty()) {
-            log.info("연결된 SSE가 없으므로 실시간 게시판 시간 증가를 보낼 곳이 없습니다.");
-            return;
-        }
+    /**
+     * 프록시/로드밸런서가 유휴 SSE 연결을 끊지 않도록 주기적으로 주석 프레임을 보내는 메서드
+     */
+    @Scheduled(fixedRate = HEARTBEAT_INTERVAL_MILLIS)
+    public void sendHeartbeat() {
+        sseEventDispatcher.dispatchAll(SseEvent.heartbeat());
+        reactiveSseBroadcaster.emitHeartbeat();
+    }
 
-        for (String clientId : allClientId) {
-            sseEmitterRepository.findById(clientId)
-                    .ifPresent(sseEmitter -> send(event, REALTIME_BOARD_TIMEUP_EMITTER_NAME,
-                            clientId, sseEmitter));
+    private byte[] toJson(Object data) {
+        try {
+            return objectMapper.writeValueAsBytes(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("SSE 이벤트 직렬화 중 오류 발생", e);
         }
     }
 
@@ -0,0 +1,256 @@
+/*
+ * 클래스 설명 : SSE 이벤트를 연결된 클라이언트들에게 비동기로 전달하는 클래스
+ * - 이벤트는 SSE 프레임 바이트로 한 번만 인코딩되고, 모든 클라이언트에게 같은 바이트를 쓴다
+ * - 클라이언트마다 크기가 제한된 큐를 두고, 가상 스레드가 큐를 비우면서 SseEmitter.send를 호출한다
+ * - Redis 리스너 스레드는 큐에 넣기만 하므로 느리거나 끊어진 클라이언트가 다른 클라이언트와 리스너를 막지 않는다
+ * - 최신 값만 의미가 있는 이벤트(실시간 검색어 순위)는 큐 대신 1칸짜리 슬롯에 덮어써서 밀린 이전 값은 버린다
+ * - 큐가 가득 찬 클라이언트는 따라오지 못하는 것으로 보고 연결을 종료한다
+ * 메소드 설명
+ * - dispatch() : 특정 클라이언트에게 이벤트를 전달하는 메소드
+ * - dispatchAll() : 이 노드에 연결된 모든(또는 지정한) 클라이언트에게 이벤트를 전달하는 메소드
+ * - remove() : 연결이 종료된 클라이언트의 큐를 삭제하는 메소드
+ */
+package com.trend_now.backend.board.application;
+
+import com.trend_now.backend.board.repository.SseEmitterRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Slf4j
+@Component
+public class SseEventDispatcher {
+
+    private static final int CLIENT_QUEUE_CAPACITY = 32;
+    private static final String LATENCY_METRIC_NAME = "sse.dispatch.latency";
+    private static final String EVENT_TAG = "event";
+    private static final byte[] FRAME_END = "\n\n".getBytes(StandardCharsets.UTF_8);
+    private static final String HEARTBEAT_EVENT_NAME = "heartbeat";
+    private static final byte[] HEARTBEAT_FRAME = ":heartbeat\n\n".getBytes(StandardCharsets.UTF_8);
+
+    private final SseEmitterRepository sseEmitterRepository;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, ClientQueue> clientQueues = new ConcurrentHashMap<>();
+    private final Map<String, Timer> latencyTimers = new ConcurrentHashMap<>();
+    private final ExecutorService dispatchExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Counter coalescedCounter;
+    private final Counter evictedCounter;
+
+    public SseEventDispatcher(SseEmitterRepository sseEmitterRepository,
+            MeterRegistry meterRegistry) {
+        this.sseEmitterRepository = sseEmitterRepository;
+        this.meterRegistry = meterRegistry;
+        this.coalescedCounter = Counter.builder("sse.dispatch.coalesced")
+                .description("최신 값으로 덮어써져 전송되지 않은 SSE 이벤트 수")
+                .register(meterRegistry);
+        this.evictedCounter = Counter.builder("sse.dispatch.evicted")
+                .description("큐가 가득 차서 연결이 종료된 SSE 클라이언트 수")
+                .register(meterRegistry);
+        meterRegistry.gauge("sse.dispatch.clients", clientQueues, Map::size);
+    }
+
+    /**
+     * 전송할 SSE 이벤트
+     * - 생성 시점에 "id:", "event:", "data:" 줄을 포함한 SSE 프레임 전체를 UTF-8 바이트로 한 번만 인코딩하고,
+     *   모든 클라이언트에게 같은 바이트를 그대로 쓴다 (클라이언트 수와 관계없이 직렬화는 1번)
+     *
+     * @param id       브로드캐스트 이벤트의 번호 (Last-Event-ID 재전송용, 유니캐스트 이벤트는 null)
+     * @param boardId  특정 게시판의 이벤트인 경우 게시판 ID (재전송 시 구독한 게시판인지 확인용)
+     * @param frame    인코딩된 SSE 프레임 (id, event, data 줄과 빈 줄까지 포함)
+     * @param coalesce true이면 아직 전송되지 않은 같은 종류의 이전 이벤트를 버리고 최신 이벤트만 전송한다
+     */
+    public record SseEvent(String id, String name, Long boardId, byte[] frame, boolean coalesce,
+                           long createdAtNanos) {
+
+        public static SseEvent latestOnly(String name, byte[] json) {
+            return withId(null, name, null, json, true);
+        }
+
+        public static SseEvent withId(String id, String name, Long boardId, byte[] json,
+            boolean coalesce) {
+            return new SseEvent(id, name, boardId, encodeFrame(id, name, json), coalesce,
+                System.nanoTime());
+        }
+
+        /**
+         * 프록시가 유휴 연결을 끊지 않도록 보내는 주석(":") 프레임 (클라이언트 EventSource는 무시한다)
+         */
+        public static SseEvent heartbeat() {
+            return new SseEvent(null, HEARTBEAT_EVENT_NAME, null, HEARTBEAT_FRAME, true,
+                System.nanoTime());
+        }
+
+        public static byte[] encodeFrame(String id, String name, byte[] json) {
+            byte[] header = encodeHeader(id, name);
+            byte[] frame = new byte[header.length + json.length + FRAME_END.length];
+            System.arraycopy(header, 0, frame, 0, header.length);
+            System.arraycopy(json, 0, frame, header.length, json.length);
+            System.arraycopy(FRAME_END, 0, frame, header.length + json.length, FRAME_END.length);
+            return frame;
+        }
+
+        /**
+         * 리액티브 SSE 스트림(ReactiveSseBroadcaster)에서 사용할 ServerSentEvent로 변환
+         */
+        public ServerSentEvent<String> toServerSentEvent() {
+            int headerLength = encodeHeader(id, name).length;
+            String data = new String(frame, headerLength,
+                frame.length - headerLength - FRAME_END.length, StandardCharsets.UTF_8);
+            return ServerSentEvent.builder(data).id(id).event(name).build();
+        }
+
+        private static byte[] encodeHeader(String id, String name) {
+            String idLine = id == null ? "" : "id:" + id + "\n";
+            return (idLine + "event:" + name + "\ndata:").getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    public void dispatch(String clientId, SseEvent event) {
+        if (sseEmitterRepository.findById(clientId).isEmpty()) {
+            return;
+        }
+        ClientQueue clientQueue = clientQueues.computeIfAbsent(clientId, id -> new ClientQueue());
+        if (!clientQueue.offer(event)) {
+            evict(clientId);
+            return;
+        }
+        schedule(clientId, clientQueue);
+    }
+
+    public void dispatchAll(SseEvent event) {
+        dispatchAll(sseEmitterRepository.findAllClientId(), event);
+    }
+
+    public void dispatchAll(Collection<String> clientIds, SseEvent event) {
+        for (String clientId : clientIds) {
+            dispatch(clientId, event);
+        }
+    }
+
+    public void remove(String clientId) {
+        clientQueues.remove(clientId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatchExecutor.shutdownNow();
+    }
+
+    private void schedule(String clientId, ClientQueue clientQueue) {
+        if (clientQueue.draining.compareAndSet(false, true)) {
+            dispatchExecutor.execute(() -> drain(clientId, clientQueue));
+        }
+    }
+
+    /**
+     * 큐가 빌 때까지 이벤트를 전송한다
+     * - 큐가 비어 종료하려는 순간 새 이벤트가 들어온 경우를 놓치지 않도록, 종료 표시 후 한 번 더 확인한다
+     */
+    private void drain(String clientId, ClientQueue clientQueue) {
+        while (true) {
+            SseEvent event = clientQueue.poll();
+            if (event == null) {
+                clientQueue.draining.set(false);
+                if (clientQueue.isEmpty() || !clientQueue.draining.compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+            if (!send(clientId, event)) {
+                clientQueues.remove(clientId);
+                return;
+            }
+        }
+    }
+
+    private boolean send(String clientId, SseEvent event) {
+        SseEmitter sseEmitter = sseEmitterRepository.findById(clientId).orElse(null);
+        if (sseEmitter == null) {
+            return false;
+        }
+        try {
+            sseEmitter.send(Set.of(new DataWithMediaType(event.frame(), MediaType.TEXT_PLAIN)));
+            latencyTimer(event.name())
+                    .record(System.nanoTime() - event.createdAtNanos(), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.error("SSE 전송 중 오류가 발생했습니다. clientId: {}", clientId, e);
+            sseEmitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private void evict(String clientId) {
+        log.warn("SSE 전송 큐가 가득 차서 clientId: {}의 연결을 종료합니다.", clientId);
+        evictedCounter.increment();
+        clientQueues.remove(clientId);
+        sseEmitterRepository.findById(clientId).ifPresent(SseEmitter::complete);
+    }
+
+    /**
+     * 이벤트 생성부터 클라이언트에게 전송 완료까지 걸린 시간 (이벤트 종류별)
+     */
+    private Timer latencyTimer(String eventName) {
+        return latencyTimers.computeIfAbsent(eventName, name -> Timer.builder(LATENCY_METRIC_NAME)
+                .description("SSE 이벤트 생성부터 클라이언트 전송 완료까지의 시간")
+                .tag(EVENT_TAG, name)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry));
+    }
+
+    private class ClientQueue {
+
+        private final BlockingQueue<SseEvent> queue = new ArrayBlockingQueue<>(
+                CLIENT_QUEUE_CAPACITY);
+        private final Map<String, AtomicReference<SseEvent>> latestEvents = new ConcurrentHashMap<>();
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+
+        private boolean offer(SseEvent event) {
+            if (!event.coalesce()) {
+                return queue.offer(event);
+            }
+            SseEvent previous = latestEvents
+                    .computeIfAbsent(event.name(), name -> new AtomicReference<>())
+                    .getAndSet(event);
+            if (previous != null) {
+                coalescedCounter.increment();
+            }
+            return true;
+        }
+
+        private SseEvent poll() {
+            for (AtomicReference<SseEvent> latestEvent : latestEvents.values()) {
+                SseEvent event = latestEvent.getAndSet(null);
+                if (event != null) {
+                    return event;
+                }
+            }
+            return queue.poll();
+        }
+
+        private boolean isEmpty() {
+            return queue.isEmpty()
+                    && latestEvents.values().stream().allMatch(latest -> latest.get() == null);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * 클래스 설명 : 이 노드에서 브로드캐스트한 SSE 이벤트를 번호를 붙여 최근 N개만 보관하는 링 버퍼
+ * - 이벤트 ID는 "{노드 시작 시각}-{순번}" 형식으로, 재연결한 클라이언트의 Last-Event-ID 이후 이벤트만 다시 보내는 데 사용한다
+ * - 다른 노드(또는 재시작 이전)의 ID이거나 버퍼에서 밀려난 ID라면 최신 값만 의미가 있는 이벤트(실시간 검색어 순위)의
+ *   가장 최근 이벤트만 다시 보낸다
+ * 메소드 설명
+ * - append() : 이벤트에 다음 번호를 붙여 버퍼에 저장하는 메소드
+ * - findReplayEvents() : Last-Event-ID 이후에 놓친 이벤트를 조회하는 메소드
+ */
+package com.trend_now.backend.board.application;
+
+import com.trend_now.backend.board.application.SseEventDispatcher.SseEvent;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SseEventHistory {
+
+    private static final int BUFFER_SIZE = 256;
+    private static final String EVENT_ID_DELIMITER = "-";
+
+    private final String nodeEpoch = String.valueOf(System.currentTimeMillis());
+    private final SseEvent[] buffer = new SseEvent[BUFFER_SIZE];
+    // 최신 값만 의미가 있는 이벤트의 종류별 최신 이벤트 (버퍼로 이어서 보낼 수 없을 때 사용)
+    private final Map<String, SseEvent> latestEvents = new LinkedHashMap<>();
+    private long sequence = 0L;
+
+    /**
+     * @param boardId 특정 게시판의 이벤트라면 게시판 ID, 모든 SSE에게 보내는 이벤트라면 null
+     */
+    public synchronized SseEvent append(String name, Long boardId, byte[] json, boolean coalesce) {
+        sequence++;
+        SseEvent event = SseEvent.withId(nodeEpoch + EVENT_ID_DELIMITER + sequence, name, boardId,
+            json, coalesce);
+        buffer[(int) (sequence % BUFFER_SIZE)] = event;
+        if (coalesce) {
+            latestEvents.put(name, event);
+        }
+        return event;
+    }
+
+    /**
+     * Last-Event-ID 이후에 발생한 이벤트를 순서대로 반환한다
+     * - 이어서 보낼 수 없는 ID라면 최신 값만 의미가 있는 이벤트의 종류별 최신 이벤트만 반환한다
+     */
+    public synchronized List<SseEvent> findReplayEvents(String lastEventId) {
+        long lastSequence = parseSequence(lastEventId);
+        if (lastSequence < 0 || lastSequence > sequence || sequence - lastSequence >= BUFFER_SIZE) {
+            return new ArrayList<>(latestEvents.values());
+        }
+
+        List<SseEvent> replayEvents = new ArrayList<>((int) (sequence - lastSequence));
+        for (long seq = lastSequence + 1; seq <= sequence; seq++) {
+            replayEvents.add(buffer[(int) (seq % BUFFER_SIZE)]);
+        }
+        return replayEvents;
+    }
+
+    /**
+     * 이 노드에서 발급한 ID가 아니면 -1을 반환한다
+     */
+    private long parseSequence(String lastEventId) {
+        String prefix = nodeEpoch + EVENT_ID_DELIMITER;
+        if (lastEventId == null || !lastEventId.startsWith(prefix)) {
+            return -1L;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+}
@@ -6,18 +6,18 @@ import static com.trend_now.backend.board.application.BoardRedisService.KEY_LIVE
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Scheduler;
 import com.trend_now.backend.board.dto.BoardKeyProvider;
 import com.trend_now.backend.board.domain.BoardCategory;
 import com.trend_now.backend.board.domain.Boards;
 import com.trend_now.backend.board.repository.BoardRepository;
-import com.trend_now.backend.opensearch.service.OpenSearchService;
 import com.trend_now.backend.search.dto.BoardRedisKey;
 import jakarta.annotation.PostConstruct;
 import java.util.Arrays;
-import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import lombok.Getter;
@@ -40,15 +40,27 @@ public class BoardCache {
 
 
     private final BoardRepository boardRepository;
-    private final OpenSearchService openSearchService;
     private final RedisTemplate<String, String> redisTemplate;
 
+    // 게시판 이름 유사도 검색용 MinHash/LSH 색인 (실시간 게시판 캐시와 함께 갱신)
+    private final BoardSimilarityIndex boardSimilarityIndex = new BoardSimilarityIndex();
+
     @Getter
     private final Cache<Long, BoardCacheEntry> boardCacheEntryMap = Caffeine.newBuilder()
         // write 작업이 일어난 이후 30분 뒤 캐시 만료
         .expireAfterWrite(EXPIRATION_TIME, TimeUnit.SECONDS)
         // 캐시의 최대 크기 설정
         .maximumSize(MAXIMUM_SIZE)
+        // 만료된 게시판이 검색 색인에 남지 않도록, 캐시 접근이 없어도 만료 시점에 제거하고 색인을 다시 생성
+        .scheduler(Scheduler.systemScheduler())
+        .removalListener((Long boardId, BoardCacheEntry entry, RemovalCause cause) -> {
+            if (cause.wasEvicted()) {
+                rebuildRealtimeBoardSearchIndex();
+            }
+        })
+        // 만료된 게시판을 유사도 색인에서 제거 (캐시에서 제거되는 시점에 동기적으로 실행)
+        .evictionListener((Long boardId, BoardCacheEntry entry, RemovalCause cause) ->
+            boardSimilarityIndex.remove(boardId))
         .build();
 
     @Getter
@@ -57,19 +69,51 @@ public class BoardCache {
         .maximumSize(MAXIMUM_SIZE)
         .build();
 
+    // 게시판 이름 검색용 역색인 (캐시가 변경될 때마다 새로 만들어 교체)
+    private volatile BoardSearchIndex realtimeBoardSearchIndex = BoardSearchIndex.EMPTY;
+    private volatile BoardSearchIndex fixedBoardSearchIndex = BoardSearchIndex.EMPTY;
+
     public void addRealtimeBoardCache(BoardKeyProvider boardKeyProvider) {
-        boardCacheEntryMap.put(boardKeyProvider.getBoardId(), BoardCacheEntry.builder()
+        putRealtimeBoardCache(boardKeyProvider);
+        rebuildRealtimeBoardSearchIndex();
+    }
+
+    /**
+     * 여러 게시판을 캐시에 추가한 후 검색 색인은 한 번만 다시 생성
+     */
+    public void addRealtimeBoardCaches(List<? extends BoardKeyProvider> boardKeyProviders) {
+        boardKeyProviders.forEach(this::putRealtimeBoardCache);
+        rebuildRealtimeBoardSearchIndex();
+    }
+
+    private void putRealtimeBoardCache(BoardKeyProvider boardKeyProvider) {
+        putRealtimeBoardCacheEntry(boardKeyProvider.getBoardId(), BoardCacheEntry.builder()
             .boardName(boardKeyProvider.getBoardName())
-            .splitBoardNameByBlank(Arrays.stream(
-                    boardKeyProvider.getBoardName().replaceAll(SPECIAL_CHAR_PATTERN, "").split(BLANK))
-                .collect(Collectors.toSet()))
+            .splitBoardNameByBlank(splitByBlank(boardKeyProvider.getBoardName()))
             .build());
     }
 
+    /**
+     * 실시간 게시판 캐시와 유사도 색인에 함께 추가
+     */
+    private void putRealtimeBoardCacheEntry(Long boardId, BoardCacheEntry boardCacheEntry) {
+        boardCacheEntryMap.put(boardId, boardCacheEntry);
+        boardSimilarityIndex.add(boardId, boardCacheEntry.getBoardName(),
+            boardCacheEntry.getSplitBoardNameByBlank());
+    }
+
+    /**
+     * 실시간 게시판 캐시와 유사도 색인을 함께 비우기
+     */
+    private void clearRealtimeBoardCache() {
+        boardCacheEntryMap.invalidateAll();
+        boardSimilarityIndex.clear();
+    }
+
     @Async
     public void setBoardInfo(Set<String> boardRank) {
         // 실시간 게시판 캐시 초기화
-        boardCacheEntryMap.invalidateAll();
+        clearRealtimeBoardCache();
 
         // 캐시 생성
         List<Long> boardCacheIdList = boardRank.stream().map(
@@ -77,21 +121,19 @@ public class BoardCache {
         ).toList();
         List<Boards> boardsList = boardRepository.findByIdIn(boardCacheIdList);
         boardsList.forEach(boards ->
-            boardCacheEntryMap.put(boards.getId(), BoardCacheEntry.builder()
+            putRealtimeBoardCacheEntry(boards.getId(), BoardCacheEntry.builder()
                 .boardName(boards.getName())
-                .splitBoardNameByBlank(Arrays.stream(
-                        boards.getName().replaceAll(SPECIAL_CHAR_PATTERN, "").split(BLANK))
-                    .collect(Collectors.toSet()))
+                .splitBoardNameByBlank(splitByBlank(boards.getName()))
                 .createdAt(boards.getCreatedAt())
                 .updatedAt(boards.getUpdatedAt())
                 .build())
         );
+        rebuildRealtimeBoardSearchIndex();
     }
 
     @PostConstruct
     public void init() {
-        // OpenSearch 인덱스 생성
-        openSearchService.initIndex();
+        // OpenSearch 인덱스 생성과 기존 게시판 색인은 시작을 막지 않도록 KeywordIndexBootstrapService에서 비동기로 처리
         initRealtimeBoard();
         initFixedBoard();
     }
@@ -99,11 +141,12 @@ public class BoardCache {
     // 실시간 게시판 초기화
     public void initRealtimeBoard() {
         // 실시간 게시판 캐시 초기화
-        boardCacheEntryMap.invalidateAll();
+        clearRealtimeBoardCache();
 
         // 만약 redis에 저장된 실시간 게시판 순위가 없다면 캐싱 작업 중단
         Set<String> boardRankList = redisTemplate.opsForZSet().range(BOARD_RANK_KEY, 0, -1);
         if (boardRankList == null || boardRankList.isEmpty()) {
+            rebuildRealtimeBoardSearchIndex();
             return;
         }
 
@@ -113,7 +156,7 @@ public class BoardCache {
                 String[] split = boardRankValue.split(BOARD_KEY_DELIMITER);
                 String boardKeyword = split[0];
                 long boardId = Long.parseLong(split[1]);
-                boardCacheEntryMap.put(boardId,
+                putRealtimeBoardCacheEntry(boardId,
                     BoardCacheEntry.builder()
                         .boardName(boardKeyword)
                         .splitBoardNameByBlank(
@@ -123,6 +166,7 @@ public class BoardCache {
                 );
             }
         );
+        rebuildRealtimeBoardSearchIndex();
     }
 
     // 고정 게시판 초기화
@@ -139,6 +183,43 @@ public class BoardCache {
                     .build()
             )
         );
+        fixedBoardSearchIndex = BoardSearchIndex.build(Map.copyOf(fixedBoardCacheMap.asMap()));
+    }
+
+    /**
+     * 이름에 검색어가 포함된 실시간 게시판을 순위대로 조회 (공백과 대소문자는 무시)
+     */
+    public List<BoardRedisKey> searchRealtimeBoards(String keyword, int limit) {
+        return realtimeBoardSearchIndex.search(keyword, limit);
+    }
+
+    /**
+     * 이름에 검색어가 포함된 고정 게시판을 순위대로 조회 (공백과 대소문자는 무시)
+     */
+    public List<BoardRedisKey> searchFixedBoards(String keyword, int limit) {
+        return fixedBoardSearchIndex.search(keyword, limit);
+    }
+
+    /**
+     * 입력 중인 검색어(자모, 초성 포함)와 일치하는 실시간 게시판을 순위대로 조회
+     */
+    public List<BoardRedisKey> autocompleteRealtimeBoards(String keyword, int limit) {
+        return realtimeBoardSearchIndex.autocomplete(keyword, limit);
+    }
+
+    /**
+     * 입력 중인 검색어(자모, 초성 포함)와 일치하는 고정 게시판을 순위대로 조회
+     */
+    public List<BoardRedisKey> autocompleteFixedBoards(String keyword, int limit) {
+        return fixedBoardSearchIndex.autocomplete(keyword, limit);
+    }
+
+    /**
+     * 캐시의 현재 상태로 검색 색인을 다시 만들어 교체
+     * - 동시에 여러 번 호출되어도 마지막으로 교체되는 색인이 가장 최근 상태가 되도록 직렬화한다
+     */
+    private synchronized void rebuildRealtimeBoardSearchIndex() {
+        realtimeBoardSearchIndex = BoardSearchIndex.build(Map.copyOf(boardCacheEntryMap.asMap()));
     }
 
     public boolean isInBoardCache(Long boardId) {
@@ -147,34 +228,23 @@ public class BoardCache {
 
     /**
      * 키워드와 유사한 게시판 이름이 존재하는지 확인하고, 유사한 게시판이 있으면 해당 이름을 반환. 유사한 게시판이 없으면 입력 값으로 들어온 키워드를 그대로 반환.
+     * - 모든 게시판과 비교하지 않고 MinHash/LSH 색인으로 찾은 후보 중 Jaccard 유사도가 가장 높은 게시판을 반환한다
      */
     public BoardRedisKey findKeywordSimilarity(String newKeyword) {
-        Set<String> newSet = Arrays.stream(newKeyword
-                .replaceAll(SPECIAL_CHAR_PATTERN, "")
-                .split(BLANK)
-            ).collect(Collectors.toSet());
-
-        ConcurrentMap<Long, BoardCacheEntry> cacheMap = boardCacheEntryMap.asMap();
-        for (Long boardId : cacheMap.keySet()) {
-            BoardCacheEntry boardCacheEntry = cacheMap.get(boardId);
-            Set<String> originSet = boardCacheEntry.getSplitBoardNameByBlank();
-            // 교집합
-            Set<String> intersection = new HashSet<>(newSet);
-            intersection.retainAll(originSet);
-
-            // 합집합
-            Set<String> union = new HashSet<>(newSet);
-            union.addAll(originSet);
-
-            double similarity = (double) intersection.size() / union.size();
-
-            if (similarity < 1.0 && similarity > SIMILARITY_THRESHOLD) {
+        return boardSimilarityIndex.findMostSimilar(splitByBlank(newKeyword), SIMILARITY_THRESHOLD)
+            .map(similarBoard -> {
                 log.info("유사한 게시판 발견 - 새로운 키워드: {}, 기존 키워드: {}, 유사도: {}", newKeyword,
-                    boardCacheEntry.getBoardName(), similarity);
-                return new BoardRedisKey(boardId, boardCacheEntry.getBoardName());
-            }
-        }
+                    similarBoard.boardName(), similarBoard.similarity());
+                return new BoardRedisKey(similarBoard.boardId(), similarBoard.boardName());
+            })
+            .orElseGet(() -> new BoardRedisKey(null, newKeyword));
+    }
 
-        return new BoardRedisKey(null, newKeyword);
+    /**
+     * 문자열 유사도 비교를 위해 특수문자를 제거하고 공백 기준으로 나눈 단어 집합
+     */
+    private static Set<String> splitByBlank(String text) {
+        return Arrays.stream(text.replaceAll(SPECIAL_CHAR_PATTERN, "").split(BLANK))
+            .collect(Collectors.toSet());
     }
 }
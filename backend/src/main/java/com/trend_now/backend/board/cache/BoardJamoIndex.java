@@ -0,0 +1,180 @@
+/*
+ * 클래스 설명 : 한글 입력 중인 검색어(자모, 초성)로 게시판 이름을 찾는 불변 자동완성 색인
+ * - 게시판 이름의 글자마다 그 위치에서 시작하는 자판 입력 단위 자모 문자열과 초성 문자열을 접미사 배열(정렬된 long[])로 저장한다
+ * - 검색어를 같은 방식으로 분해한 뒤 이진 탐색으로 검색어로 시작하는 접미사 구간을 찾으므로, 검색 시 게시판 이름은 분해하지 않는다
+ * - 자음으로만 이루어진 검색어("ㅇㅅ")는 초성 배열에서, 그 외의 검색어("한구", "닭")는 자모 배열에서 찾는다
+ * - 글자 위치마다 접미사가 있으므로 완성된 글자의 검색 결과는 contains와 같고, 마지막 글자가 입력 중이어도 일치한다
+ * 메소드 설명
+ * - build() : 정규화된 게시판 이름으로 색인을 생성하는 메소드
+ * - search() : 검색어와 일치하는 게시판 번호를 순위(일치 위치가 앞일수록, 이름이 짧을수록 우선)대로 조회하는 메소드
+ */
+package com.trend_now.backend.board.cache;
+
+import com.trend_now.backend.search.util.SearchKeywordUtil;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+final class BoardJamoIndex {
+
+    // 접미사 : [게시판 번호 32bit][분해된 문자열의 시작 위치 16bit][게시판 이름의 글자 위치 16bit]
+    private static final int DOC_SHIFT = 32;
+    private static final int OFFSET_SHIFT = 16;
+    private static final int FIELD_MASK = 0xFFFF;
+    // 한 글자는 최대 5개의 자모로 분해되므로 분해된 위치가 16bit를 넘지 않는 길이까지만 색인한다
+    private static final int MAX_INDEXED_LENGTH = FIELD_MASK / 5;
+    // 순위 키 : [일치 위치 12bit][이름 길이 12bit][게시판 번호 32bit]
+    private static final int RANK_FIELD_MAX = 0xFFF;
+    private static final int POSITION_SHIFT = 44;
+    private static final int LENGTH_SHIFT = 32;
+    private static final long DOC_MASK = 0xFFFF_FFFFL;
+
+    private final int[] nameLengths;
+    private final char[][] keystrokeNames;
+    private final long[] keystrokeSuffixes;
+    private final char[][] chosungNames;
+    private final long[] chosungSuffixes;
+
+    private BoardJamoIndex(int[] nameLengths, char[][] keystrokeNames, long[] keystrokeSuffixes,
+        char[][] chosungNames, long[] chosungSuffixes) {
+        this.nameLengths = nameLengths;
+        this.keystrokeNames = keystrokeNames;
+        this.keystrokeSuffixes = keystrokeSuffixes;
+        this.chosungNames = chosungNames;
+        this.chosungSuffixes = chosungSuffixes;
+    }
+
+    /**
+     * @param normalizedNames 공백을 제거하고 소문자로 바꾼 게시판 이름 (배열 번호가 게시판 번호)
+     */
+    static BoardJamoIndex build(char[][] normalizedNames) {
+        int size = normalizedNames.length;
+        int[] nameLengths = new int[size];
+        char[][] keystrokeNames = new char[size][];
+        char[][] chosungNames = new char[size][];
+        List<Long> keystrokeSuffixes = new ArrayList<>();
+        List<Long> chosungSuffixes = new ArrayList<>();
+
+        for (int doc = 0; doc < size; doc++) {
+            char[] name = normalizedNames[doc];
+            int length = Math.min(name.length, MAX_INDEXED_LENGTH);
+            StringBuilder keystrokes = new StringBuilder(length * 3);
+            char[] chosung = new char[length];
+            for (int position = 0; position < length; position++) {
+                keystrokeSuffixes.add(suffix(doc, keystrokes.length(), position));
+                chosungSuffixes.add(suffix(doc, position, position));
+                SearchKeywordUtil.appendKeystrokes(name[position], keystrokes);
+                chosung[position] = SearchKeywordUtil.toChosung(name[position]);
+            }
+            nameLengths[doc] = name.length;
+            keystrokeNames[doc] = keystrokes.toString().toCharArray();
+            chosungNames[doc] = chosung;
+        }
+
+        return new BoardJamoIndex(nameLengths, keystrokeNames,
+            sortSuffixes(keystrokeSuffixes, keystrokeNames), chosungNames,
+            sortSuffixes(chosungSuffixes, chosungNames));
+    }
+
+    /**
+     * @param normalizedKeyword 공백을 제거하고 소문자로 바꾼 검색어
+     * @return 일치하는 게시판 번호 (순위순, 최대 limit개)
+     */
+    int[] search(String normalizedKeyword, int limit) {
+        if (normalizedKeyword.isEmpty() || nameLengths.length == 0 || limit <= 0) {
+            return new int[0];
+        }
+
+        boolean chosungOnly = SearchKeywordUtil.isChosungOnly(normalizedKeyword);
+        char[][] names = chosungOnly ? chosungNames : keystrokeNames;
+        long[] suffixes = chosungOnly ? chosungSuffixes : keystrokeSuffixes;
+        char[] query = chosungOnly ? normalizedKeyword.toCharArray()
+            : SearchKeywordUtil.disassembleToKeystrokes(normalizedKeyword).toCharArray();
+
+        // 검색어로 시작하는 접미사는 정렬된 배열에서 연속된 구간을 이룬다
+        int from = lowerBound(suffixes, names, query);
+        int to = from;
+        while (to < suffixes.length && compare(names, suffixes[to], query) == 0) {
+            to++;
+        }
+
+        long[] ranks = new long[to - from];
+        for (int i = from; i < to; i++) {
+            int doc = (int) (suffixes[i] >>> DOC_SHIFT);
+            ranks[i - from] =
+                ((long) Math.min(position(suffixes[i]), RANK_FIELD_MAX) << POSITION_SHIFT)
+                    | ((long) Math.min(nameLengths[doc], RANK_FIELD_MAX) << LENGTH_SHIFT)
+                    | doc;
+        }
+        Arrays.sort(ranks);
+
+        // 한 게시판 이름에서 여러 위치가 일치할 수 있으므로 가장 앞의 위치만 남긴다
+        boolean[] found = new boolean[nameLengths.length];
+        int[] docs = new int[Math.min(ranks.length, limit)];
+        int count = 0;
+        for (int i = 0; i < ranks.length && count < docs.length; i++) {
+            int doc = (int) (ranks[i] & DOC_MASK);
+            if (!found[doc]) {
+                found[doc] = true;
+                docs[count++] = doc;
+            }
+        }
+        return count == docs.length ? docs : Arrays.copyOf(docs, count);
+    }
+
+    /**
+     * 검색어보다 작지 않은(검색어로 시작하거나 사전순으로 뒤인) 첫 접미사의 위치
+     */
+    private static int lowerBound(long[] suffixes, char[][] names, char[] query) {
+        int low = 0;
+        int high = suffixes.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(names, suffixes[mid], query) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 접미사와 검색어를 사전순으로 비교 (접미사가 검색어로 시작하면 0)
+     */
+    private static int compare(char[][] names, long suffix, char[] query) {
+        char[] name = names[(int) (suffix >>> DOC_SHIFT)];
+        int offset = offset(suffix);
+        int length = Math.min(name.length - offset, query.length);
+        for (int i = 0; i < length; i++) {
+            if (name[offset + i] != query[i]) {
+                return Character.compare(name[offset + i], query[i]);
+            }
+        }
+        return name.length - offset < query.length ? -1 : 0;
+    }
+
+    private static long[] sortSuffixes(List<Long> suffixes, char[][] names) {
+        Comparator<Long> bySuffix = (first, second) -> {
+            char[] firstName = names[(int) (first >>> DOC_SHIFT)];
+            char[] secondName = names[(int) (second >>> DOC_SHIFT)];
+            return Arrays.compare(firstName, offset(first), firstName.length,
+                secondName, offset(second), secondName.length);
+        };
+        suffixes.sort(bySuffix);
+        return suffixes.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static long suffix(int doc, int offset, int position) {
+        return ((long) doc << DOC_SHIFT) | ((long) offset << OFFSET_SHIFT) | position;
+    }
+
+    private static int offset(long suffix) {
+        return (int) (suffix >>> OFFSET_SHIFT) & FIELD_MASK;
+    }
+
+    private static int position(long suffix) {
+        return (int) suffix & FIELD_MASK;
+    }
+}
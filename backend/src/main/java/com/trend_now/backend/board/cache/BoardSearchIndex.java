@@ -0,0 +1,289 @@
+/*
+ * 클래스 설명 : 게시판 이름 검색(자동완성)을 위한 불변 역색인
+ * - 게시판 이름을 공백 제거, 소문자로 정규화한 뒤 글자 bigram(한 글자 검색어는 unigram) -> 게시판 번호 목록(int[])으로 색인한다
+ * - 검색 시 검색어의 bigram 중 게시판 수가 가장 적은 목록만 확인하고, 후보마다 실제 포함 여부를 확인하므로 결과는 contains와 같다
+ * - 검색 중에는 문자열을 만들지 않으며, 정렬용 long[] 1개와 결과 리스트 외에는 할당하지 않는다
+ * - 한글 입력 중인 자동완성 검색어(자모, 초성)는 함께 생성한 BoardJamoIndex에서 찾는다
+ * - 색인은 만든 후 변경하지 않고, BoardCache가 변경될 때 새로 만들어 참조를 교체한다
+ * 메소드 설명
+ * - build() : 게시판 캐시로 역색인을 생성하는 메소드
+ * - search() : 검색어가 포함된 게시판을 순위(일치 위치가 앞일수록, 이름이 짧을수록 우선)대로 조회하는 메소드
+ * - autocomplete() : 입력 중인 검색어(ex. "ㅇㅅ", "한구")와 일치하는 게시판을 같은 순위로 조회하는 메소드
+ */
+package com.trend_now.backend.board.cache;
+
+import com.trend_now.backend.search.dto.BoardRedisKey;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+final class BoardSearchIndex {
+
+    static final BoardSearchIndex EMPTY = build(Map.of());
+
+    // 순위 키 : [일치 위치 12bit][이름 길이 12bit][게시판 번호 32bit]
+    private static final int RANK_FIELD_MAX = 0xFFF;
+    private static final int POSITION_SHIFT = 44;
+    private static final int LENGTH_SHIFT = 32;
+    private static final long DOC_MASK = 0xFFFF_FFFFL;
+
+    private final long[] boardIds;
+    private final String[] boardNames;
+    private final char[][] normalizedNames;
+    private final Postings unigramPostings;
+    private final Postings bigramPostings;
+    private final BoardJamoIndex jamoIndex;
+
+    private BoardSearchIndex(long[] boardIds, String[] boardNames, char[][] normalizedNames,
+        Postings unigramPostings, Postings bigramPostings, BoardJamoIndex jamoIndex) {
+        this.boardIds = boardIds;
+        this.boardNames = boardNames;
+        this.normalizedNames = normalizedNames;
+        this.unigramPostings = unigramPostings;
+        this.bigramPostings = bigramPostings;
+        this.jamoIndex = jamoIndex;
+    }
+
+    static BoardSearchIndex build(Map<Long, BoardCacheEntry> boardCacheEntries) {
+        int size = boardCacheEntries.size();
+        long[] boardIds = new long[size];
+        String[] boardNames = new String[size];
+        char[][] normalizedNames = new char[size][];
+        Map<Integer, IntArrayBuilder> unigrams = new HashMap<>();
+        Map<Integer, IntArrayBuilder> bigrams = new HashMap<>();
+
+        int doc = 0;
+        for (Map.Entry<Long, BoardCacheEntry> entry : boardCacheEntries.entrySet()) {
+            String boardName = entry.getValue().getBoardName();
+            char[] normalizedName = normalize(boardName);
+            boardIds[doc] = entry.getKey();
+            boardNames[doc] = boardName;
+            normalizedNames[doc] = normalizedName;
+            for (int i = 0; i < normalizedName.length; i++) {
+                unigrams.computeIfAbsent((int) normalizedName[i], key -> new IntArrayBuilder())
+                    .add(doc);
+                if (i > 0) {
+                    bigrams.computeIfAbsent(bigramKey(normalizedName[i - 1], normalizedName[i]),
+                        key -> new IntArrayBuilder()).add(doc);
+                }
+            }
+            doc++;
+        }
+        return new BoardSearchIndex(boardIds, boardNames, normalizedNames,
+            Postings.of(unigrams), Postings.of(bigrams), BoardJamoIndex.build(normalizedNames));
+    }
+
+    /**
+     * @param keyword 검색어 (공백과 대소문자는 무시)
+     * @param limit   최대 결과 수
+     */
+    List<BoardRedisKey> search(CharSequence keyword, int limit) {
+        int keywordLength = normalizedLength(keyword);
+        if (keywordLength == 0 || boardIds.length == 0 || limit <= 0) {
+            return List.of();
+        }
+
+        int[] candidates = findRarestPostings(keyword, keywordLength);
+        if (candidates == null) {
+            return List.of();
+        }
+
+        long[] ranks = new long[candidates.length];
+        int count = 0;
+        for (int doc : candidates) {
+            int position = indexOf(normalizedNames[doc], keyword, keywordLength);
+            if (position >= 0) {
+                ranks[count++] = ((long) Math.min(position, RANK_FIELD_MAX) << POSITION_SHIFT)
+                    | ((long) Math.min(normalizedNames[doc].length, RANK_FIELD_MAX) << LENGTH_SHIFT)
+                    | doc;
+            }
+        }
+        Arrays.sort(ranks, 0, count);
+
+        int resultSize = Math.min(count, limit);
+        List<BoardRedisKey> result = new ArrayList<>(resultSize);
+        for (int i = 0; i < resultSize; i++) {
+            int doc = (int) (ranks[i] & DOC_MASK);
+            result.add(new BoardRedisKey(boardIds[doc], boardNames[doc]));
+        }
+        return result;
+    }
+
+    /**
+     * @param keyword 입력 중인 검색어 (공백과 대소문자는 무시)
+     * @param limit   최대 결과 수
+     */
+    List<BoardRedisKey> autocomplete(CharSequence keyword, int limit) {
+        int[] docs = jamoIndex.search(new String(normalize(keyword)), limit);
+        List<BoardRedisKey> result = new ArrayList<>(docs.length);
+        for (int doc : docs) {
+            result.add(new BoardRedisKey(boardIds[doc], boardNames[doc]));
+        }
+        return result;
+    }
+
+    /**
+     * 검색어의 bigram 중 게시판 수가 가장 적은 목록을 반환 (목록이 없는 bigram이 있다면 일치하는 게시판이 없으므로 null)
+     */
+    private int[] findRarestPostings(CharSequence keyword, int keywordLength) {
+        if (keywordLength == 1) {
+            return unigramPostings.get(normalizedCharAt(keyword, 0));
+        }
+        int[] rarest = null;
+        char previous = 0;
+        int normalizedIndex = 0;
+        for (int i = 0; i < keyword.length(); i++) {
+            char c = keyword.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            c = Character.toLowerCase(c);
+            if (normalizedIndex++ > 0) {
+                int[] postings = bigramPostings.get(bigramKey(previous, c));
+                if (postings == null) {
+                    return null;
+                }
+                if (rarest == null || postings.length < rarest.length) {
+                    rarest = postings;
+                }
+            }
+            previous = c;
+        }
+        return rarest;
+    }
+
+    /**
+     * 정규화된 게시판 이름에서 검색어가 처음 나타나는 위치 (없다면 -1)
+     */
+    private static int indexOf(char[] name, CharSequence keyword, int keywordLength) {
+        for (int start = 0; start + keywordLength <= name.length; start++) {
+            if (matchesAt(name, start, keyword)) {
+                return start;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean matchesAt(char[] name, int start, CharSequence keyword) {
+        int offset = start;
+        for (int i = 0; i < keyword.length(); i++) {
+            char c = keyword.charAt(i);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            if (name[offset++] != Character.toLowerCase(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static char[] normalize(CharSequence text) {
+        char[] normalized = new char[text.length()];
+        int length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                normalized[length++] = Character.toLowerCase(c);
+            }
+        }
+        return Arrays.copyOf(normalized, length);
+    }
+
+    private static int normalizedLength(CharSequence text) {
+        int length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (!Character.isWhitespace(text.charAt(i))) {
+                length++;
+            }
+        }
+        return length;
+    }
+
+    private static char normalizedCharAt(CharSequence text, int normalizedIndex) {
+        int index = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c) && index++ == normalizedIndex) {
+                return Character.toLowerCase(c);
+            }
+        }
+        throw new IndexOutOfBoundsException(normalizedIndex);
+    }
+
+    private static int bigramKey(char first, char second) {
+        return (first << Character.SIZE) | second;
+    }
+
+    /**
+     * int 키 -> 게시판 번호 목록(int[])의 open addressing 해시 테이블 (조회 시 박싱하지 않기 위해 사용)
+     */
+    private static final class Postings {
+
+        private final int[] keys;
+        private final int[][] values;
+        private final int mask;
+
+        private Postings(int capacity) {
+            this.keys = new int[capacity];
+            this.values = new int[capacity][];
+            this.mask = capacity - 1;
+        }
+
+        static Postings of(Map<Integer, IntArrayBuilder> builders) {
+            // 충돌을 줄이기 위해 키 개수의 2배 이상인 2의 거듭제곱 크기로 생성
+            int capacity = Integer.highestOneBit(Math.max(builders.size(), 1) * 2 - 1) << 1;
+            Postings postings = new Postings(capacity);
+            builders.forEach((key, builder) -> postings.put(key, builder.toArray()));
+            return postings;
+        }
+
+        int[] get(int key) {
+            for (int slot = hash(key) & mask; values[slot] != null; slot = (slot + 1) & mask) {
+                if (keys[slot] == key) {
+                    return values[slot];
+                }
+            }
+            return null;
+        }
+
+        private void put(int key, int[] value) {
+            int slot = hash(key) & mask;
+            while (values[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            values[slot] = value;
+        }
+
+        private static int hash(int key) {
+            int hash = key * 0x9E3779B9;
+            return hash ^ (hash >>> 16);
+        }
+    }
+
+    /**
+     * 색인 생성 시 게시판 번호를 모으는 가변 int 배열 (같은 게시판 번호가 연속으로 들어오면 한 번만 저장)
+     */
+    private static final class IntArrayBuilder {
+
+        private int[] values = new int[4];
+        private int size = 0;
+
+        void add(int value) {
+            if (size > 0 && values[size - 1] == value) {
+                return;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
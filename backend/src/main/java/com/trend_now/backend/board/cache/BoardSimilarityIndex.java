@@ -0,0 +1,182 @@
+/*
+ * 클래스 설명 : 게시판 이름(공백 기준 단어 집합)의 Jaccard 유사도 검색을 위한 MinHash/LSH 색인
+ * - 게시판마다 단어 집합의 MinHash 서명(해시 함수 64개의 최솟값)을 만들고, 서명을 2개씩 32개 밴드로 나눠 밴드별 버킷에 게시판 번호를 저장한다
+ * - 검색 시 같은 버킷에 들어간 게시판만 후보로 보고, 후보마다 실제 Jaccard 유사도를 계산해 가장 유사한 게시판을 반환한다
+ * - 밴드 1개에서 두 집합이 같은 버킷에 들어갈 확률은 J^2 이므로, 유사도 0.3인 게시판이 후보가 될 확률은 1 - (1 - 0.09)^32 = 약 95%,
+ *   0.5 이상이면 99.99% 이상이다
+ * - 게시판 추가/삭제 시 해당 게시판의 버킷만 갱신한다 (전체 재생성 없음)
+ * - 추가/삭제는 직렬화하고 검색은 잠금 없이 수행한다 (검색 중 변경된 후보는 실제 유사도를 다시 계산하므로 잘못된 결과를 반환하지 않는다)
+ * 메소드 설명
+ * - add() : 게시판의 서명을 계산해 버킷에 추가하는 메소드 (이미 있는 게시판이면 교체)
+ * - remove() : 게시판을 버킷에서 제거하는 메소드
+ * - clear() : 모든 게시판을 제거하는 메소드
+ * - findMostSimilar() : 유사도가 (minSimilarity, 1.0) 범위인 게시판 중 가장 유사한 게시판을 찾는 메소드
+ */
+package com.trend_now.backend.board.cache;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class BoardSimilarityIndex {
+
+    private static final int BAND_COUNT = 32;
+    private static final int ROWS_PER_BAND = 2;
+    private static final int HASH_COUNT = BAND_COUNT * ROWS_PER_BAND;
+    // 해시 함수마다 사용하는 seed (실행할 때마다 같은 결과가 나오도록 고정값에서 생성)
+    private static final int[] HASH_SEEDS = createHashSeeds();
+
+    private final Map<Long, IndexedBoard> boards = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * 유사도 검색 결과
+     */
+    public record SimilarBoard(Long boardId, String boardName, double similarity) {
+
+    }
+
+    private record IndexedBoard(String boardName, Set<String> words, long[] bandKeys) {
+
+    }
+
+    public synchronized void add(Long boardId, String boardName, Set<String> words) {
+        IndexedBoard indexedBoard = new IndexedBoard(boardName, Set.copyOf(words),
+            toBandKeys(words));
+        IndexedBoard previous = boards.put(boardId, indexedBoard);
+        if (previous != null) {
+            removeFromBuckets(boardId, previous);
+        }
+        for (long bandKey : indexedBoard.bandKeys()) {
+            buckets.computeIfAbsent(bandKey, key -> ConcurrentHashMap.newKeySet()).add(boardId);
+        }
+    }
+
+    public synchronized void remove(Long boardId) {
+        IndexedBoard previous = boards.remove(boardId);
+        if (previous != null) {
+            removeFromBuckets(boardId, previous);
+        }
+    }
+
+    public synchronized void clear() {
+        boards.clear();
+        buckets.clear();
+    }
+
+    public int size() {
+        return boards.size();
+    }
+
+    /**
+     * 유사도가 같다면 게시판 번호가 작은 게시판을 반환하므로 결과는 저장 순서와 관계없이 항상 같다
+     *
+     * @param minSimilarity 이 값보다 유사도가 높은 게시판만 반환 (유사도 1.0인 같은 이름은 제외)
+     */
+    public Optional<SimilarBoard> findMostSimilar(Set<String> words, double minSimilarity) {
+        Long bestBoardId = null;
+        IndexedBoard bestBoard = null;
+        double bestSimilarity = 0.0;
+
+        for (long bandKey : toBandKeys(words)) {
+            Set<Long> bucket = buckets.get(bandKey);
+            if (bucket == null) {
+                continue;
+            }
+            for (Long boardId : bucket) {
+                IndexedBoard candidate = boards.get(boardId);
+                if (candidate == null) {
+                    continue;
+                }
+                double similarity = jaccard(words, candidate.words());
+                if (similarity <= minSimilarity || similarity >= 1.0) {
+                    continue;
+                }
+                if (bestBoardId == null || similarity > bestSimilarity
+                    || (similarity == bestSimilarity && boardId < bestBoardId)) {
+                    bestBoardId = boardId;
+                    bestBoard = candidate;
+                    bestSimilarity = similarity;
+                }
+            }
+        }
+
+        if (bestBoardId == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new SimilarBoard(bestBoardId, bestBoard.boardName(), bestSimilarity));
+    }
+
+    private void removeFromBuckets(Long boardId, IndexedBoard indexedBoard) {
+        for (long bandKey : indexedBoard.bandKeys()) {
+            buckets.computeIfPresent(bandKey, (key, bucket) -> {
+                bucket.remove(boardId);
+                return bucket.isEmpty() ? null : bucket;
+            });
+        }
+    }
+
+    /**
+     * 교집합, 합집합 Set을 만들지 않고 작은 집합 기준으로 교집합 크기만 센다
+     */
+    private static double jaccard(Set<String> first, Set<String> second) {
+        Set<String> smaller = first.size() <= second.size() ? first : second;
+        Set<String> larger = smaller == first ? second : first;
+        int intersection = 0;
+        for (String word : smaller) {
+            if (larger.contains(word)) {
+                intersection++;
+            }
+        }
+        int union = first.size() + second.size() - intersection;
+        return union == 0 ? 0.0 : (double) intersection / union;
+    }
+
+    /**
+     * MinHash 서명을 밴드별 버킷 키로 변환 (밴드 번호를 함께 섞어 다른 밴드의 버킷과 겹치지 않게 한다)
+     */
+    private static long[] toBandKeys(Set<String> words) {
+        int[] signature = new int[HASH_COUNT];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (String word : words) {
+            int wordHash = word.hashCode();
+            for (int i = 0; i < HASH_COUNT; i++) {
+                signature[i] = Math.min(signature[i], mix(wordHash ^ HASH_SEEDS[i]));
+            }
+        }
+
+        long[] bandKeys = new long[BAND_COUNT];
+        for (int band = 0; band < BAND_COUNT; band++) {
+            long bandKey = band;
+            for (int row = 0; row < ROWS_PER_BAND; row++) {
+                bandKey = bandKey * 0x9E3779B97F4A7C15L + signature[band * ROWS_PER_BAND + row];
+            }
+            bandKeys[band] = bandKey;
+        }
+        return bandKeys;
+    }
+
+    /**
+     * murmur3 fmix32
+     */
+    private static int mix(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    private static int[] createHashSeeds() {
+        int[] seeds = new int[HASH_COUNT];
+        int seed = 0x2545F491;
+        for (int i = 0; i < HASH_COUNT; i++) {
+            seed = mix(seed + i);
+            seeds[i] = seed;
+        }
+        return seeds;
+    }
+}
@@ -0,0 +1,97 @@
+package com.trend_now.backend.board.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trend_now.backend.board.application.SignalKeywordService;
+import com.trend_now.backend.board.dto.Top10WithChange;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 실시간 검색어 순위(Top10WithChange)를 JSON으로 미리 직렬화해 노드 메모리에 보관하는 스냅샷 캐시
+ * - 실시간 검색어는 스케줄러(매시 3분, 33분)가 실행될 때만 바뀌므로, 조회 API는 Redis 조회/파싱 없이 메모리의 바이트를 그대로 응답한다
+ * - 스케줄러가 발행하는 실시간 검색어 이벤트(signalKeywordEventTopic)를 받으면 이벤트의 순위로 스냅샷을 교체한다
+ * - 세대 번호(generation)가 더 큰 경우에만 교체하여, 늦게 도착한 이전 세대가 최신 스냅샷을 덮어쓰지 않도록 한다
+ * - Pub/Sub 메시지는 유실될 수 있으므로, 주기적으로 Redis에서 다시 조회하여 놓친 세대를 반영한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RealtimeKeywordSnapshotCache {
+
+    private final SignalKeywordService signalKeywordService;
+    private final ObjectMapper objectMapper;
+
+    private static final long RELOAD_INTERVAL_MILLIS = 60_000L;
+
+    private final AtomicReference<RealtimeKeywordSnapshot> snapshot = new AtomicReference<>();
+
+    /**
+     * 캐시된 스냅샷을 반환하고, 없다면 Redis에서 조회하여 생성한다
+     */
+    public RealtimeKeywordSnapshot getSnapshot() {
+        RealtimeKeywordSnapshot current = snapshot.get();
+        if (current != null) {
+            return current;
+        }
+        return refresh(signalKeywordService.getRealTimeKeyword());
+    }
+
+    /**
+     * 새로운 실시간 검색어 순위로 스냅샷을 교체한다 (현재 스냅샷보다 이전 세대라면 무시)
+     */
+    public RealtimeKeywordSnapshot refresh(Top10WithChange top10WithChange) {
+        RealtimeKeywordSnapshot created = RealtimeKeywordSnapshot.of(top10WithChange,
+            serialize(top10WithChange));
+        return snapshot.accumulateAndGet(created, (current, next) ->
+            current == null || current.isOlderThan(next) ? next : current);
+    }
+
+    /**
+     * 이벤트를 놓친 노드가 이전 세대를 계속 응답하지 않도록 Redis의 최신 세대로 갱신한다
+     */
+    @Scheduled(fixedDelay = RELOAD_INTERVAL_MILLIS, initialDelay = RELOAD_INTERVAL_MILLIS)
+    public void reload() {
+        if (snapshot.get() == null) {
+            return;
+        }
+        try {
+            refresh(signalKeywordService.getRealTimeKeyword());
+        } catch (RuntimeException e) {
+            log.warn("실시간 검색어 스냅샷을 Redis에서 다시 조회하지 못했습니다.", e);
+        }
+    }
+
+    private byte[] serialize(Top10WithChange top10WithChange) {
+        try {
+            return objectMapper.writeValueAsBytes(top10WithChange);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("실시간 검색어 스냅샷 직렬화 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * @param body 직렬화된 Top10WithChange JSON
+     * @param eTag 세대 번호와 갱신 시간으로 만든 ETag (If-None-Match 비교용)
+     */
+    public record RealtimeKeywordSnapshot(long generation, long lastUpdatedTime, byte[] body,
+                                          String eTag) {
+
+        private static RealtimeKeywordSnapshot of(Top10WithChange top10WithChange, byte[] body) {
+            String eTag = "\"" + top10WithChange.getGeneration() + "-" + top10WithChange.getNow()
+                + "\"";
+            return new RealtimeKeywordSnapshot(top10WithChange.getGeneration(),
+                top10WithChange.getNow(), body, eTag);
+        }
+
+        private boolean isOlderThan(RealtimeKeywordSnapshot other) {
+            if (generation != other.generation) {
+                return generation < other.generation;
+            }
+            return lastUpdatedTime < other.lastUpdatedTime;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.trend_now.backend.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시판 ID별 집계 값(조회수 합계, 좋아요 수)을 IN 쿼리 한 번으로 조회할 때 사용하는 DTO Projection
+ */
+@Getter
+@AllArgsConstructor
+public class BoardCountDto {
+
+    private Long boardId;
+    private Long count;
+}
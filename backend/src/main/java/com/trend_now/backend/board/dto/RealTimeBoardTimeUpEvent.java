@@ -7,10 +7,11 @@ import lombok.Data;
 @AllArgsConstructor
 public class RealTimeBoardTimeUpEvent {
 
+    private Long boardId;
     private String boardName;
     private Long timeUp;
 
-    public static RealTimeBoardTimeUpEvent from(String boardName, Long timeUp) {
-        return new RealTimeBoardTimeUpEvent(boardName, timeUp);
+    public static RealTimeBoardTimeUpEvent from(Long boardId, String boardName, Long timeUp) {
+        return new RealTimeBoardTimeUpEvent(boardId, boardName, timeUp);
     }
 }
@@ -14,6 +14,7 @@ public class RealtimeBoardDto {
     private String boardName;
     private Long postCount;
     private Long viewCount;
+    private Long likeCount;
     @Setter
     private Long boardLiveTime;
     @Setter
@@ -21,14 +22,18 @@ public class RealtimeBoardDto {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
-    // JPQL Projection Constructor
-    public RealtimeBoardDto(Long boardId, String boardName, Long postCount, Long viewCount, LocalDateTime createdAt,
-        LocalDateTime updatedAt) {
+    // JPQL Projection Constructor (조회수/좋아요 수는 Redis 게시판 집계 Hash에서 채운다)
+    public RealtimeBoardDto(Long boardId, String boardName, Long postCount,
+        LocalDateTime createdAt, LocalDateTime updatedAt) {
         this.boardId = boardId;
         this.boardName = boardName;
         this.postCount = postCount;
-        this.viewCount = viewCount;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
     }
+
+    public void applyAggregateCounts(long viewCount, long likeCount) {
+        this.viewCount = viewCount;
+        this.likeCount = likeCount;
+    }
 }
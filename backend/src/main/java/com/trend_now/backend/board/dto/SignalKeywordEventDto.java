@@ -1,9 +1,11 @@
 /*
  * 클래스 설명 : SSE 이벤트가 발행되었을 때 누구의 SSE 인지(clientId), SSE의 용도(message)는 무엇인지,
  *             실시간 검색어 순위(signalKeywordDto)는 어떻게 되는지 알고 싶을 때 사용되는 dto
+ *             clientId가 없는 경우 모든 노드의 모든 SSE에게 전송하는 브로드캐스트 이벤트
  */
 package com.trend_now.backend.board.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
@@ -14,4 +16,13 @@ public class SignalKeywordEventDto {
     private String clientId;
     private String message;
     private Top10WithChange top10WithChange;
+
+    public static SignalKeywordEventDto broadcast(String message, Top10WithChange top10WithChange) {
+        return new SignalKeywordEventDto(null, message, top10WithChange);
+    }
+
+    @JsonIgnore
+    public boolean isBroadcast() {
+        return clientId == null;
+    }
 }
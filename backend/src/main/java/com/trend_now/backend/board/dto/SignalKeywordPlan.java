@@ -0,0 +1,40 @@
+/*
+ * 클래스 설명 : 실시간 검색어 스케줄러에서 키워드 하나를 어떻게 반영할지 결정한 결과
+ * - 스케줄러는 모든 키워드의 처리 방식을 먼저 결정(OpenSearch msearch, DB/Redis 일괄 조회)한 뒤
+ *   DB(단일 트랜잭션) -> Redis(파이프라인) -> OpenSearch(_bulk) 순서로 한 번에 반영한다
+ */
+package com.trend_now.backend.board.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Builder
+public class SignalKeywordPlan implements BoardKeyProvider {
+
+    /**
+     * REALTIME : 실시간 게시판에 이미 비슷하거나 같은 게시판이 존재 -> 게시판 이름, 순위 갱신
+     * RESTORE : 실시간 게시판에는 없지만 DB에 존재 -> 삭제 상태 복원 및 게시판 이름 갱신
+     * NEW : 완전히 새로운 게시판 -> 게시판 생성
+     */
+    public enum KeywordCase {
+        REALTIME, RESTORE, NEW
+    }
+
+    private int rank;
+    private String boardName;
+    // NEW인 경우 DB에 게시판이 저장된 이후에 세팅된다
+    @Setter
+    private Long boardId;
+    private KeywordCase keywordCase;
+    // REALTIME인 경우에만 존재하는 이전 실시간 게시판 정보 (이전 이름, 이전 순위)
+    private String previousBoardName;
+    private Long previousRank;
+    private double score;
+
+    // 실시간 검색어 목록에 NEW로 표시되고, 게시판 요약을 새로 생성해야 하는 경우
+    public boolean isNewRealtimeKeyword() {
+        return keywordCase != KeywordCase.REALTIME;
+    }
+}
@@ -10,4 +10,6 @@ public class Top10WithChange {
 
     private long now;
     private List<Top10WithDiff> top10WithDiff;
+    // 실시간 검색어 순위 리스트가 교체될 때마다 증가하는 세대 번호 (클라이언트 캐시 키로 사용 가능)
+    private long generation;
 }
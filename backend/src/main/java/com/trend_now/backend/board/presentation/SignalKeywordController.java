@@ -2,24 +2,29 @@ package com.trend_now.backend.board.presentation;
 
 import com.trend_now.backend.board.application.BoardRedisService;
 import com.trend_now.backend.board.application.SignalKeywordService;
+import com.trend_now.backend.board.cache.RealtimeKeywordSnapshotCache;
+import com.trend_now.backend.board.cache.RealtimeKeywordSnapshotCache.RealtimeKeywordSnapshot;
 import com.trend_now.backend.board.dto.SseDisconnectDto;
 import com.trend_now.backend.board.dto.TimeSyncDto;
-import com.trend_now.backend.board.dto.Top10WithChange;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
 
 @Slf4j
 @RestController
@@ -30,16 +35,23 @@ public class SignalKeywordController {
 
     private static final String SIGNAL_BZ_KEYWORD_SUCCESS_MESSAGE = "실시간 검색어 컨트롤러가 호출되었습니다.";
     private static final String TIME_SYNC_SUCCESS_MESSAGE = "시간 동기화 컨트롤러가 호출되었습니다.";
+    private static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
     private static final String UNSUBSCRIBE_SUCCESS_MESSAGE = "사용자가 서버의 SSE 구독 취소를 완료했습니다.";
 
     private final SignalKeywordService signalKeywordService;
     private final BoardRedisService boardRedisService;
+    private final RealtimeKeywordSnapshotCache realtimeKeywordSnapshotCache;
 
     @Operation(summary = "실시간 검색어 조회", description = "현재 실시간 검색어를 가져옵니다.")
     @GetMapping("/news/realtime")
-    public Top10WithChange getRealTimeNews() {
+    public ResponseEntity<byte[]> getRealTimeNews() {
         log.info(SIGNAL_BZ_KEYWORD_SUCCESS_MESSAGE);
-        return signalKeywordService.getRealTimeKeyword();
+        RealtimeKeywordSnapshot snapshot = realtimeKeywordSnapshotCache.getSnapshot();
+        // GET 요청의 ETag 응답은 Spring이 If-None-Match와 비교하여 변경이 없으면 304(Not Modified)로 응답한다
+        return ResponseEntity.status(HttpStatus.OK)
+                .eTag(snapshot.eTag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.body());
     }
 
     @Operation(summary = "서버 시간 동기화", description = "서버의 최신 시간 동기화 정보를 반환합니다.")
@@ -51,10 +63,24 @@ public class SignalKeywordController {
         return ResponseEntity.status(HttpStatus.OK).body(timeSyncDto);
     }
 
-    @Operation(summary = "SSE 연결 시도", description = "클라이언트는 클라이언트 측에서 만들어진 랜덤 값(clientId)과 함께 SSE 연결을 시도합니다.")
+    @Operation(summary = "SSE 연결 시도", description = "클라이언트는 클라이언트 측에서 만들어진 랜덤 값(clientId)과 함께 SSE 연결을 시도합니다. "
+            + "boardIds를 지정하면 해당 게시판의 만료/시간 증가 이벤트만 받습니다. "
+            + "재연결 시 Last-Event-ID 헤더가 있으면 그 이후 놓친 이벤트를 다시 전송합니다.")
     @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public ResponseEntity<SseEmitter> subscribe(@RequestParam String clientId) {
-        return ResponseEntity.status(HttpStatus.OK).body(signalKeywordService.subscribe(clientId));
+    public ResponseEntity<SseEmitter> subscribe(@RequestParam String clientId,
+            @RequestParam(required = false, defaultValue = "") Set<Long> boardIds,
+            @RequestHeader(value = LAST_EVENT_ID_HEADER, required = false) String lastEventId) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(signalKeywordService.subscribe(clientId, boardIds, lastEventId));
+    }
+
+    @Operation(summary = "SSE 스트림 연결 시도", description = "SseEmitter 대신 리액티브 스트림으로 SSE 연결을 시도합니다. clientId가 필요 없으며, "
+            + "boardIds와 Last-Event-ID는 /subscribe와 동일하게 동작합니다.")
+    @GetMapping(value = "/subscribe/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<String>> stream(
+            @RequestParam(required = false, defaultValue = "") Set<Long> boardIds,
+            @RequestHeader(value = LAST_EVENT_ID_HEADER, required = false) String lastEventId) {
+        return signalKeywordService.stream(boardIds, lastEventId);
     }
 
     @Operation(summary = "SSE 연결 중단", description = "클라이언트는 클라이언트 측에서 만들어진 랜덤 값(clientId)과 함께 SSE 연결 중단을 시도합니다.")
@@ -62,7 +88,7 @@ public class SignalKeywordController {
     public ResponseEntity<String> unsubscribe(
             @Valid @RequestBody SseDisconnectDto sseDisconnectDto) {
         String clientId = sseDisconnectDto.getClientId();
-        signalKeywordService.deleteClientId(clientId);
+        signalKeywordService.unsubscribe(clientId);
         return ResponseEntity.status(HttpStatus.OK).body(UNSUBSCRIBE_SUCCESS_MESSAGE);
     }
 }
@@ -2,11 +2,14 @@ package com.trend_now.backend.board.repository;
 
 import com.trend_now.backend.board.domain.BoardCategory;
 import com.trend_now.backend.board.domain.Boards;
+import com.trend_now.backend.board.dto.BoardCountDto;
 import com.trend_now.backend.board.dto.RealtimeBoardDto;
+import com.trend_now.backend.search.dto.BoardRedisKey;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
@@ -16,6 +19,8 @@ public interface BoardRepository extends JpaRepository<Boards, Long> {
 
     List<Boards> findByIdIn(Collection<Long> ids);
 
+    List<Boards> findByNameIn(Collection<String> names);
+
     List<Boards> findByBoardCategory(BoardCategory boardCategory);
 
     @Query("""
@@ -23,7 +28,6 @@ public interface BoardRepository extends JpaRepository<Boards, Long> {
                 b.id,
                 b.name,
                 COALESCE(COUNT(p.id), 0),
-                COALESCE(SUM(p.viewCount), 0),
                 b.createdAt,
                 b.updatedAt
             )
@@ -39,7 +43,6 @@ public interface BoardRepository extends JpaRepository<Boards, Long> {
                 b.id,
                 b.name,
                 COALESCE(COUNT(p.id), 0),
-                COALESCE(SUM(p.viewCount), 0),
                 b.createdAt,
                 b.updatedAt
             )
@@ -50,9 +53,45 @@ public interface BoardRepository extends JpaRepository<Boards, Long> {
         """)
     RealtimeBoardDto findRealtimeBoardById(Long boardId);
 
+    /**
+     * Redis 게시판 집계 Hash가 없는 게시판의 DB 조회수 합계를 채우기 위한 조회
+     */
+    @Query("""
+        SELECT new com.trend_now.backend.board.dto.BoardCountDto(p.boards.id, COALESCE(SUM(p.viewCount), 0))
+        FROM Posts p
+        WHERE p.boards.id IN :boardIds
+        GROUP BY p.boards.id
+        """)
+    List<BoardCountDto> sumViewCountsByBoardIdIn(Collection<Long> boardIds);
+
+    /**
+     * Redis 게시판 집계 Hash가 없는 게시판의 DB 좋아요 수를 채우기 위한 조회
+     */
+    @Query("""
+        SELECT new com.trend_now.backend.board.dto.BoardCountDto(pl.posts.boards.id, COUNT(pl.id))
+        FROM PostLikes pl
+        WHERE pl.posts.boards.id IN :boardIds
+        GROUP BY pl.posts.boards.id
+        """)
+    List<BoardCountDto> countLikesByBoardIdIn(Collection<Long> boardIds);
+
 
     @Query("SELECT b.name FROM Boards b WHERE b.id = :id")
     String findNameById(Long id);
 
     boolean existsByName(String name);
+
+    long countByBoardCategory(BoardCategory boardCategory);
+
+    /**
+     * 게시판 ID 기준 keyset 페이징으로 OpenSearch에 색인할 게시판 ID와 이름 조회
+     */
+    @Query("""
+        SELECT new com.trend_now.backend.search.dto.BoardRedisKey(b.id, b.name)
+        FROM Boards b
+        WHERE b.id > :lastBoardId AND b.boardCategory = :boardCategory
+        ORDER BY b.id ASC
+        """)
+    List<BoardRedisKey> findBoardKeysAfter(Long lastBoardId, BoardCategory boardCategory,
+        Pageable pageable);
 }
@@ -1,6 +1,7 @@
 package com.trend_now.backend.board.repository;
 
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -14,9 +15,28 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 public class SseEmitterRepository {
 
     private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
+    // 특정 게시판의 이벤트만 구독한 SSE (clientId -> 게시판 ID 목록, 게시판 ID -> clientId 목록)
+    private final Map<String, Set<Long>> boardIdsByClientId = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> clientIdsByBoardId = new ConcurrentHashMap<>();
+    // 모든 게시판의 이벤트를 구독한 SSE
+    private final Set<String> allBoardClientIds = ConcurrentHashMap.newKeySet();
 
-    public SseEmitter save(String eventId, SseEmitter sseEmitter) {
-        emitters.put(eventId, sseEmitter);
+    /**
+     * 같은 clientId로 다시 구독하면 이전 구독의 게시판 목록은 지우고 새로운 게시판 목록으로 등록한다
+     *
+     * @param boardIds 이벤트를 받을 게시판 ID 목록 (비어있다면 모든 게시판)
+     */
+    public SseEmitter save(String clientId, SseEmitter sseEmitter, Set<Long> boardIds) {
+        emitters.put(clientId, sseEmitter);
+        removeBoardMappings(clientId);
+        if (boardIds.isEmpty()) {
+            allBoardClientIds.add(clientId);
+            return sseEmitter;
+        }
+        boardIdsByClientId.put(clientId, Set.copyOf(boardIds));
+        boardIds.forEach(boardId -> clientIdsByBoardId
+                .computeIfAbsent(boardId, id -> ConcurrentHashMap.newKeySet())
+                .add(clientId));
         return sseEmitter;
     }
 
@@ -24,9 +44,46 @@ public class SseEmitterRepository {
         return Optional.ofNullable(emitters.get(memberId));
     }
 
-    public void deleteById(String eventId) {
-        log.info("삭제된 SSE Emitter ID: {}", eventId);
-        emitters.remove(eventId);
+    /**
+     * 저장된 SSE가 sseEmitter와 같은 객체일 때만 삭제한다
+     * - 같은 clientId로 재연결한 경우, 이전 SSE의 종료 콜백이 새로 연결된 SSE를 삭제하지 않도록 한다
+     *
+     * @return 삭제 여부
+     */
+    public boolean deleteById(String clientId, SseEmitter sseEmitter) {
+        if (!emitters.remove(clientId, sseEmitter)) {
+            return false;
+        }
+        log.info("삭제된 SSE Emitter ID: {}", clientId);
+        removeBoardMappings(clientId);
+        return true;
+    }
+
+    private void removeBoardMappings(String clientId) {
+        allBoardClientIds.remove(clientId);
+        Set<Long> boardIds = boardIdsByClientId.remove(clientId);
+        if (boardIds == null) {
+            return;
+        }
+        boardIds.forEach(boardId -> clientIdsByBoardId.computeIfPresent(boardId,
+                (id, clientIds) -> {
+                    clientIds.remove(clientId);
+                    return clientIds.isEmpty() ? null : clientIds;
+                }));
+    }
+
+    /**
+     * 게시판 이벤트를 받아야 하는 clientId 목록 (모든 게시판 구독 + 해당 게시판 구독)
+     */
+    public Set<String> findClientIdsByBoardId(Long boardId) {
+        Set<String> clientIds = new HashSet<>(allBoardClientIds);
+        clientIds.addAll(clientIdsByBoardId.getOrDefault(boardId, Set.of()));
+        return clientIds;
+    }
+
+    public boolean isSubscribedBoard(String clientId, Long boardId) {
+        Set<Long> boardIds = boardIdsByClientId.get(clientId);
+        return boardIds == null || boardIds.contains(boardId);
     }
 
     /**
@@ -36,4 +93,8 @@ public class SseEmitterRepository {
     public Set<String> findAllClientId() {
         return Collections.unmodifiableSet(emitters.keySet());
     }
+
+    public int count() {
+        return emitters.size();
+    }
 }
@@ -65,11 +65,14 @@ public class CommentsService {
         if (boards.getBoardCategory().equals(BoardCategory.FIXED)
                 || boardRedisService.isRealTimeBoard(saveCommentsDto)) {
 
-            return commentsRepository.save(Comments.builder()
+            Comments comments = commentsRepository.save(Comments.builder()
                     .content(saveCommentsDto.getContent())
                     .members(member)
                     .posts(posts)
                     .build());
+            // 게시글 목록 조회 시 댓글을 집계하지 않도록 게시글의 댓글 수를 함께 증가
+            postsRepository.incrementCommentCount(posts.getId());
+            return comments;
         }
 
         // 비활성화 게시판인 경우, 예외 처리
@@ -116,6 +119,7 @@ public class CommentsService {
                 || boards.getBoardCategory().equals(BoardCategory.FIXED)) {
 
             commentsRepository.deleteById(deleteCommentsDto.getCommentId());
+            postsRepository.decrementCommentCount(comments.getPosts().getId());
         }
 
         // modifiable = false인 경우에는 변경 불가능 예외 반환
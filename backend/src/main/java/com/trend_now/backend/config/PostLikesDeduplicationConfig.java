@@ -0,0 +1,67 @@
+/*
+ * 클래스 설명 : post_likes 테이블에 uk_post_member(post_id, member_id) 유니크 키를 추가하기 전에 중복 좋아요를 정리하는 설정
+ * - 유니크 키는 ddl-auto: update로 추가되므로, 중복 행이 남아 있으면 스키마 갱신이 실패한다
+ * - EntityManagerFactory(스키마 갱신)보다 먼저 실행되도록 의존 관계를 등록하고, 같은 (post_id, member_id) 중 가장 먼저 저장된 좋아요만 남긴다
+ * - 테이블이 없거나(최초 실행) 유니크 키가 이미 있다면 아무것도 하지 않으므로 한 번만 정리된다
+ */
+package com.trend_now.backend.config;
+
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Slf4j
+@Configuration
+public class PostLikesDeduplicationConfig {
+
+    private static final String DEDUPLICATOR_BEAN_NAME = "postLikesDeduplicator";
+    private static final String COUNT_TABLE_SQL = """
+        SELECT COUNT(*) FROM information_schema.tables
+        WHERE table_schema = DATABASE() AND table_name = 'post_likes'
+        """;
+    private static final String COUNT_UNIQUE_KEY_SQL = """
+        SELECT COUNT(*) FROM information_schema.statistics
+        WHERE table_schema = DATABASE() AND table_name = 'post_likes' AND index_name = 'uk_post_member'
+        """;
+    private static final String DELETE_DUPLICATE_SQL = """
+        DELETE pl FROM post_likes pl
+        JOIN post_likes kept
+          ON kept.post_id = pl.post_id
+         AND kept.member_id = pl.member_id
+         AND kept.post_like_id < pl.post_like_id
+        """;
+
+    @Bean(DEDUPLICATOR_BEAN_NAME)
+    public InitializingBean postLikesDeduplicator(DataSource dataSource) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        return () -> {
+            try {
+                if (count(jdbcTemplate, COUNT_TABLE_SQL) == 0
+                    || count(jdbcTemplate, COUNT_UNIQUE_KEY_SQL) > 0) {
+                    return;
+                }
+                int deletedCount = jdbcTemplate.update(DELETE_DUPLICATE_SQL);
+                log.info("uk_post_member 유니크 키 추가 전 중복 좋아요 {}개를 삭제했습니다.", deletedCount);
+            } catch (RuntimeException e) {
+                log.warn("중복 좋아요 정리에 실패했습니다. uk_post_member 유니크 키가 추가되지 않을 수 있습니다.", e);
+            }
+        };
+    }
+
+    /**
+     * 스키마 갱신(ddl-auto)보다 중복 정리가 먼저 실행되도록 EntityManagerFactory가 정리 빈에 의존하게 한다
+     */
+    @Bean
+    public static EntityManagerFactoryDependsOnPostProcessor postLikesDeduplicatorDependsOn() {
+        return new EntityManagerFactoryDependsOnPostProcessor(DEDUPLICATOR_BEAN_NAME);
+    }
+
+    private static long count(JdbcTemplate jdbcTemplate, String sql) {
+        Long count = jdbcTemplate.queryForObject(sql, Long.class);
+        return count == null ? 0L : count;
+    }
+}
@@ -4,6 +4,7 @@
  * - sseEventTopic() : Redis Pub/Sub을 위한 Topic 생성 (채널)
  * - redisMessageListener() : Redis Pub/Sub을 위한 리스너 생성
  * - sseEventListenerAdapter() : Redis Pub/Sub에 발행된 메시지를 처리하는 리스너 생성 (디자인 패턴 중 어뎁터 패턴 활용)
+ * - toBoardChannel() : 게시판별 채널 이름 생성
  */
 package com.trend_now.backend.config;
 
@@ -26,10 +27,9 @@ public class RedisConfig {
 
     private static final String SIGNAL_KEYWORD_SUBSCRIBER_LISTENER_METHOD_NAME = "sendKeywordListBySubscriber";
     private static final String SIGNAL_KEYWORD_EVENT_TOPIC_NAME = "signal-keyword-events";
-    private static final String REALTIME_BOARD_SUBSCRIBER_LISTENER_METHOD_NAME = "sendRealTimeBoardExpiredBySubscriber";
     private static final String REALTIME_BOARD_EVENT_TOPIC_NAME = "realtime-board-events";
     private static final String REALTIME_BOARD_TIMEUP_EVENT_TOPIC_NAME = "realtime-board-timeup-events";
-    private static final String REALTIME_BOARD_TIMEUP_SUBSCRIBER_LISTENER_METHOD_NAME = "sendRealTimeBoardTimeUpBySubscriber";
+    private static final String BOARD_CHANNEL_DELIMITER = ":";
 
     @Value("${spring.data.redis.host}")
     private String redisHost;
@@ -52,6 +52,7 @@ public class RedisConfig {
 
     /**
      * redis pub/sub에 사용되는 채널로 실시간 게시판 만료 이벤트가 발행되는 채널
+     * - 실제 이벤트는 게시판별 채널({채널}:{boardId})로 발행된다 (toBoardChannel 참고)
      */
     @Bean
     public ChannelTopic realTimeBoardEventTopic() {
@@ -60,6 +61,7 @@ public class RedisConfig {
 
     /**
      * redis pub/sub에 사용되는 채널로 실시간 게시판 시간 증가 이벤트가 발행되는 채널
+     * - 실제 이벤트는 게시판별 채널({채널}:{boardId})로 발행된다 (toBoardChannel 참고)
      */
     @Bean
     public ChannelTopic realTimeBoardTimeUpEventTopic() {
@@ -84,19 +86,16 @@ public class RedisConfig {
 
     /**
      * redis 에 발행(publish)된 메시지 처리를 위한 리스너 설정
+     * - 게시판별 채널(실시간 게시판 만료/시간 증가)은 노드에 구독자가 있을 때만
+     *   BoardChannelSubscriptionManager가 동적으로 구독/해제한다
      */
     @Bean
     public RedisMessageListenerContainer redisMessageListener(
-            MessageListenerAdapter signalKeywordEventListenerAdapter,
-            MessageListenerAdapter realTimeBoardEventListenerAdapter,
-            MessageListenerAdapter realTimeBoardTimeUpEventListenerAdapter
+            MessageListenerAdapter signalKeywordEventListenerAdapter
     ) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(redisConnectionFactory());
         container.addMessageListener(signalKeywordEventListenerAdapter, signalKeywordEventTopic());
-        container.addMessageListener(realTimeBoardEventListenerAdapter, realTimeBoardEventTopic());
-        container.addMessageListener(realTimeBoardTimeUpEventListenerAdapter,
-                realTimeBoardTimeUpEventTopic());
         return container;
     }
 
@@ -110,21 +109,24 @@ public class RedisConfig {
     }
 
     /**
-     * Redis에 발행되는 실제 이벤트(실시간 게시판 만료)를 처리하는 subscriber 설정 추가
+     * 게시판별 채널 이름 ({채널}:{boardId})
      */
-    @Bean
-    public MessageListenerAdapter realTimeBoardEventListenerAdapter(RedisSubscriber subscriber) {
-        return new MessageListenerAdapter(subscriber,
-                REALTIME_BOARD_SUBSCRIBER_LISTENER_METHOD_NAME);
+    public static String toBoardChannel(ChannelTopic topic, Long boardId) {
+        return topic.getTopic() + BOARD_CHANNEL_DELIMITER + boardId;
     }
 
     /**
-     * Redis에 발행되는 실제 이벤트(실시간 게시판 시간 증가)를 처리하는 subscriber 설정 추가
+     * 게시판별 채널에서 게시판 ID 추출
      */
-    @Bean
-    public MessageListenerAdapter realTimeBoardTimeUpEventListenerAdapter(
-            RedisSubscriber subscriber) {
-        return new MessageListenerAdapter(subscriber,
-                REALTIME_BOARD_TIMEUP_SUBSCRIBER_LISTENER_METHOD_NAME);
+    public static Long parseBoardId(String boardChannel) {
+        return Long.parseLong(
+                boardChannel.substring(boardChannel.lastIndexOf(BOARD_CHANNEL_DELIMITER) + 1));
+    }
+
+    /**
+     * 모든 게시판별 채널을 구독하기 위한 패턴 ({채널}:*)
+     */
+    public static String toAllBoardChannelPattern(ChannelTopic topic) {
+        return topic.getTopic() + BOARD_CHANNEL_DELIMITER + "*";
     }
 }
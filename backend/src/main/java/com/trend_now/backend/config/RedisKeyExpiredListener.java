@@ -47,7 +47,7 @@ public class RedisKeyExpiredListener extends KeyExpirationEventMessageListener {
 
     /**
      * redis의 key가 expired 이벤트가 발생하였을 때 실행되는 메서드로
-     * redis 채널(realtime-board-events)에 실시간 게시판(messageToStr)의 만료 이벤트를 발행한다
+     * 게시판별 redis 채널(realtime-board-events:{boardId})에 실시간 게시판(messageToStr)의 만료 이벤트를 발행한다
      */
     @Override
     public void onMessage(Message message, byte[] pattern) {
@@ -64,7 +64,7 @@ public class RedisKeyExpiredListener extends KeyExpirationEventMessageListener {
         redisTemplate.opsForZSet().remove(BOARD_RANK_KEY, messageToStr);
 
         log.info("RedisKeyExpiredListener에서 수신된 데이터 : {}", messageToStr);
-        redisPublisher.publishRealTimeBoardExpiredEvent(
+        redisPublisher.publishRealTimeBoardExpiredEvent(Long.parseLong(key[1]),
                 RealTimeBoardKeyExpiredEvent.of(messageToStr));
     }
 }
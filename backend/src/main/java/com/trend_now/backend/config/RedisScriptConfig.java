@@ -0,0 +1,56 @@
+/*
+ * 클래스 설명 : Redis Lua 스크립트 설정
+ * 메소드 설명
+ * - postLikeToggleScript() : 게시글 좋아요 토글과 게시판 시간 증가를 하나의 원자적 연산으로 처리하는 스크립트
+ * - boardPostCountIncrementScript() : 게시판 게시글 수 증가와 임계점 도달 시 게시판 시간 증가를 하나의 원자적 연산으로 처리하는 스크립트
+ * - boardPostCountDecrementScript() : 실시간 게시판 게시글 수와 게시판 전체 게시글 수 감소를 하나의 원자적 연산으로 처리하는 스크립트
+ * - realtimeKeywordsSwapScript() : 실시간 검색어 순위 리스트 교체, 마지막 갱신 시간, 세대 번호 증가를 하나의 원자적 연산으로 처리하는 스크립트
+ * - boardAggregateSyncScript() : DB에 반영된 게시판 조회수/좋아요 증감분을 게시판 집계 Hash의 DB 집계값으로 옮기는 스크립트
+ */
+package com.trend_now.backend.config;
+
+import java.util.List;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@Configuration
+public class RedisScriptConfig {
+
+    private static final String POST_LIKE_TOGGLE_SCRIPT_PATH = "scripts/post_like_toggle.lua";
+    private static final String BOARD_POST_COUNT_INCREMENT_SCRIPT_PATH = "scripts/board_post_count_increment.lua";
+    private static final String BOARD_POST_COUNT_DECREMENT_SCRIPT_PATH = "scripts/board_post_count_decrement.lua";
+    private static final String REALTIME_KEYWORDS_SWAP_SCRIPT_PATH = "scripts/realtime_keywords_swap.lua";
+    private static final String BOARD_AGGREGATE_SYNC_SCRIPT_PATH = "scripts/board_aggregate_sync.lua";
+
+    @Bean
+    @SuppressWarnings("rawtypes")
+    public RedisScript<List> postLikeToggleScript() {
+        return RedisScript.of(new ClassPathResource(POST_LIKE_TOGGLE_SCRIPT_PATH), List.class);
+    }
+
+    @Bean
+    @SuppressWarnings("rawtypes")
+    public RedisScript<List> boardPostCountIncrementScript() {
+        return RedisScript.of(new ClassPathResource(BOARD_POST_COUNT_INCREMENT_SCRIPT_PATH),
+            List.class);
+    }
+
+    @Bean
+    @SuppressWarnings("rawtypes")
+    public RedisScript<List> boardPostCountDecrementScript() {
+        return RedisScript.of(new ClassPathResource(BOARD_POST_COUNT_DECREMENT_SCRIPT_PATH),
+            List.class);
+    }
+
+    @Bean
+    public RedisScript<Long> realtimeKeywordsSwapScript() {
+        return RedisScript.of(new ClassPathResource(REALTIME_KEYWORDS_SWAP_SCRIPT_PATH), Long.class);
+    }
+
+    @Bean
+    public RedisScript<Long> boardAggregateSyncScript() {
+        return RedisScript.of(new ClassPathResource(BOARD_AGGREGATE_SYNC_SCRIPT_PATH), Long.class);
+    }
+}
@@ -16,14 +16,26 @@ public class RedissonConfig {
 
     public void execute(String lockName, long waitMilliSecond, long releaseMilliSecond,
             Runnable runnable) {
+        if (!tryExecute(lockName, waitMilliSecond, releaseMilliSecond, runnable)) {
+            throw new IllegalArgumentException("[" + lockName + "] lock 획득 실패");
+        }
+    }
+
+    /**
+     * 락을 획득한 경우에만 실행하고, 획득하지 못했다면 false를 반환
+     * - 실행 중 발생한 예외는 락 획득 실패와 구분되도록 그대로 전파한다
+     */
+    public boolean tryExecute(String lockName, long waitMilliSecond, long releaseMilliSecond,
+            Runnable runnable) {
         RLock lock = redissonClient.getLock(lockName);
         try {
             boolean isLocked = lock.tryLock(waitMilliSecond, releaseMilliSecond,
                     TimeUnit.MILLISECONDS);
             if (!isLocked) {
-                throw new IllegalArgumentException("[" + lockName + "] lock 획득 실패");
+                return false;
             }
             runnable.run();
+            return true;
         } catch (InterruptedException e) {
             log.error(e.getMessage(), e);
             throw new RuntimeException(e);
@@ -6,6 +6,7 @@ import com.trend_now.backend.config.auth.oauth.CustomAuthorizationRequestReposit
 import com.trend_now.backend.config.auth.oauth.OAuth2LoginFailureHandler;
 import com.trend_now.backend.config.auth.oauth.OAuth2LoginSuccessHandler;
 import com.trend_now.backend.config.auth.oauth.CustomOAuth2UserService;
+import com.trend_now.backend.member.domain.Role;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -66,10 +67,15 @@ public class SecurityConfig {
                 .requestMatchers(
                     "/api/v1/member/login/**", "/swagger-ui/**", "/v3/api-docs/**",
                     "/api/v1/news/realtime", "/api/v1/timeSync", "/api/v1/subscribe",
+                    "/api/v1/subscribe/stream",
                     "/api/v1/unsubscribe", "/sse-test", "/api/v1/member/test-jwt",
                     "/oauth2/authorization/**", "/login/oauth2/code/**", // OAuth2 로그인 관련 URL 허용
                     "/api/v1/member/access-token"   // Access Token 재발급
                 ).permitAll()
+                // 로드 밸런서와 k8s probe의 헬스 체크는 인증 없이 허용
+                .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                // 지표 조회와 게시글 전체 재색인 등 운영용 Actuator 엔드포인트는 관리자만 접근 가능
+                .requestMatchers("/actuator/**").hasRole(Role.ADMIN.name())
                 .anyRequest().authenticated())
             // 인증되지 않은 사용자가 접근할 경우, CustomAuthenticationEntryPoint를 통해 예외 처리
             .exceptionHandling(e -> e.authenticationEntryPoint(customAuthenticationEntryPoint))
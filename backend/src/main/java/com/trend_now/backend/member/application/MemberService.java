@@ -15,6 +15,8 @@ import com.trend_now.backend.member.data.dto.MyPageResponseDto;
 import com.trend_now.backend.member.domain.Members;
 import com.trend_now.backend.member.domain.Provider;
 import com.trend_now.backend.member.repository.MemberRepository;
+import com.trend_now.backend.opensearch.service.PostSearchOutboxService;
+import com.trend_now.backend.post.application.PostLikesService;
 import com.trend_now.backend.post.repository.PostsRepository;
 import com.trend_now.backend.post.repository.ScrapRepository;
 import jakarta.servlet.http.Cookie;
@@ -53,6 +55,8 @@ public class MemberService {
     private final MemberRedisService memberRedisService;
     private final JwtTokenFilter jwtTokenFilter;
     private final ImagesService imagesService;
+    private final PostSearchOutboxService postSearchOutboxService;
+    private final PostLikesService postLikesService;
 
 //    @Value("${jwt.access-token.expiration}")
 //    private int accessTokenExpiration;
@@ -111,8 +115,13 @@ public class MemberService {
      */
     @Transactional
     public void deleteMember(Long memberId) {
+        // 탈퇴 회원의 게시글을 검색 색인에서도 삭제
+        postSearchOutboxService.recordDeletes(postsRepository.findIdsByMembersId(memberId));
         postsRepository.deleteAllByMembers_Id(memberId);
         scrapRepository.deleteAllByMembers_Id(memberId);
+        // 탈퇴한 회원이 좋아요 검증 캐시로 통과하지 않도록 캐시에서 제거
+        memberRepository.findById(memberId)
+            .ifPresent(members -> postLikesService.evictMemberCache(members.getName()));
         memberRepository.deleteById(memberId);
         log.info("회원 탈퇴 완료 - {}", memberId);
     }
@@ -125,6 +134,8 @@ public class MemberService {
         // 영속 상태로 가져오기 위해 다시 조회
         Members members = memberRepository.findById(member.getId())
             .orElseThrow(() -> new NotFoundException(NOT_EXIST_MEMBER));
+        // 좋아요 검증 캐시는 회원 이름 기준이므로 이전 닉네임은 캐시에서 제거
+        postLikesService.evictMemberCache(members.getName());
         members.setName(nickname);
         log.info("닉네임 변경 완료 - {}", member.getName());
     }
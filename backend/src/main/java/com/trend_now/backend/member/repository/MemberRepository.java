@@ -3,6 +3,7 @@ package com.trend_now.backend.member.repository;
 
 import com.trend_now.backend.member.domain.Members;
 import com.trend_now.backend.member.domain.Provider;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
@@ -20,6 +21,10 @@ public interface MemberRepository extends JpaRepository<Members, Long> {
 
     Optional<Members> findByName(String name);
 
+    boolean existsByName(String name);
+
+    List<Members> findAllByNameIn(Collection<String> names);
+
     List<Members> findAllBySnsId(String testSnsId);
 
     Optional<Members> findBySnsIdAndProvider(String snsId, Provider provider);
@@ -0,0 +1,93 @@
+package com.trend_now.backend.opensearch.domain;
+
+import com.trend_now.backend.config.domain.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * OpenSearch posts 인덱스에 반영해야 하는 게시글 변경 내역 (Transactional Outbox)
+ * - 게시글 작성/수정/삭제와 같은 트랜잭션에서 저장되므로, 게시글 변경이 커밋되면 색인 요청도 반드시 남는다
+ * - version은 OpenSearch 외부 버전(external version)으로 사용하며, 작성/수정은 게시글의 updatedAt, 삭제는 삭제 시각(epoch micros)
+ * - 최대 재시도 횟수를 넘긴 내역은 dead letter로 표시하여 더 이상 재시도하지 않는다 (게시글 전체 재색인으로 복구)
+ */
+@Entity
+@Table(name = "post_search_outbox", indexes = {
+    @Index(name = "idx_post_search_outbox_dead_lettered_next_attempt_at",
+        columnList = "dead_lettered, next_attempt_at")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Getter
+public class PostSearchOutbox extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private Long postId;
+
+    @Column(nullable = false)
+    private boolean deleted;
+
+    @Column(nullable = false)
+    private long version;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private int attempts = 0;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Builder.Default
+    @Column(nullable = false, columnDefinition = "boolean default false")
+    private boolean deadLettered = false;
+
+    public static PostSearchOutbox upsert(Long postId, long version) {
+        return PostSearchOutbox.builder()
+            .postId(postId)
+            .deleted(false)
+            .version(version)
+            .nextAttemptAt(LocalDateTime.now())
+            .build();
+    }
+
+    public static PostSearchOutbox delete(Long postId, long version) {
+        return PostSearchOutbox.builder()
+            .postId(postId)
+            .deleted(true)
+            .version(version)
+            .nextAttemptAt(LocalDateTime.now())
+            .build();
+    }
+
+    /**
+     * 색인에 실패하면 재시도 횟수를 늘리고, 다음 재시도 시각을 지수적으로 늦춘다
+     */
+    public void retryAfter(LocalDateTime nextAttemptAt) {
+        this.attempts++;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    /**
+     * 최대 재시도 횟수를 넘기면 dead letter로 표시하여 재시도 대상에서 제외한다
+     */
+    public void deadLetter() {
+        this.attempts++;
+        this.deadLettered = true;
+    }
+}
@@ -0,0 +1,21 @@
+package com.trend_now.backend.opensearch.dto;
+
+/**
+ * OpenSearch posts 인덱스에 _bulk로 보낼 게시글 단위 작업
+ * @param version  OpenSearch 외부 버전 (더 작거나 같은 버전의 작업은 무시된다)
+ * @param document 색인할 문서, 삭제 작업이라면 null
+ */
+public record PostIndexOperation(Long postId, long version, PostSearchDocument document) {
+
+    public static PostIndexOperation index(PostSearchDocument document, long version) {
+        return new PostIndexOperation(document.getPostId(), version, document);
+    }
+
+    public static PostIndexOperation delete(Long postId, long version) {
+        return new PostIndexOperation(postId, version, null);
+    }
+
+    public boolean isDelete() {
+        return document == null;
+    }
+}
@@ -0,0 +1,22 @@
+package com.trend_now.backend.opensearch.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * OpenSearch posts 인덱스에 저장하는 게시글 문서
+ * - content는 Quill Delta JSON이 아닌, 텍스트만 추출한 본문
+ * - createdAt은 search_after 정렬에 사용하는 작성 시각 (epoch millis)
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PostSearchDocument {
+
+    private Long postId;
+    private Long boardId;
+    private String title;
+    private String content;
+    private Long createdAt;
+}
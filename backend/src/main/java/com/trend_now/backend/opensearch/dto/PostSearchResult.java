@@ -0,0 +1,17 @@
+package com.trend_now.backend.opensearch.dto;
+
+import com.trend_now.backend.post.dto.PostCursor;
+import java.util.List;
+
+/**
+ * OpenSearch posts 인덱스 검색 결과
+ * @param postIds    검색된 게시글 ID 목록 (최신순)
+ * @param totalCount 검색된 전체 게시글 수 (OpenSearch의 track_total_hits 상한까지만 정확)
+ * @param nextCursor 다음 검색 결과가 있다면 마지막 게시글의 커서, 없다면 null
+ */
+public record PostSearchResult(List<Long> postIds, long totalCount, PostCursor nextCursor) {
+
+    public static PostSearchResult empty() {
+        return new PostSearchResult(List.of(), 0L, null);
+    }
+}
@@ -0,0 +1,19 @@
+package com.trend_now.backend.opensearch.dto;
+
+import com.trend_now.backend.search.dto.BoardRedisKey;
+
+/**
+ * OpenSearch 유사 키워드 검색(msearch)의 키워드별 결과
+ * @param similarBoard 유사한 게시판, 없거나 검색에 실패했다면 null
+ * @param failed       해당 키워드의 검색이 실패했는지 여부 (유사한 게시판이 없는 결과와 구분하기 위해 사용)
+ */
+public record SimilarKeywordResult(BoardRedisKey similarBoard, boolean failed) {
+
+    public static SimilarKeywordResult of(BoardRedisKey similarBoard) {
+        return new SimilarKeywordResult(similarBoard, false);
+    }
+
+    public static SimilarKeywordResult failure() {
+        return new SimilarKeywordResult(null, true);
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * 클래스 설명 : 게시글 전체 재색인을 실행하는 Actuator 엔드포인트 (/actuator/reindexposts, 관리자 권한 필요)
+ * 메소드 설명
+ * - status() : 재색인 진행 여부를 조회하는 메소드 (GET)
+ * - reindex() : 게시글 전체 재색인을 비동기로 시작하는 메소드 (POST, recreate=true라면 인덱스를 다시 생성)
+ */
+package com.trend_now.backend.opensearch.presentation;
+
+import com.trend_now.backend.opensearch.service.PostSearchReindexService;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "reindexposts")
+public class PostSearchReindexEndpoint {
+
+    private static final String RUNNING_KEY = "running";
+
+    private final PostSearchReindexService postSearchReindexService;
+
+    @ReadOperation
+    public Map<String, Boolean> status() {
+        return Map.of(RUNNING_KEY, postSearchReindexService.isRunning());
+    }
+
+    @WriteOperation
+    public Map<String, Boolean> reindex(@Nullable Boolean recreate) {
+        postSearchReindexService.reindexAll(Boolean.TRUE.equals(recreate));
+        return Map.of(RUNNING_KEY, true);
+    }
+}
@@ -0,0 +1,20 @@
+package com.trend_now.backend.opensearch.repository;
+
+import com.trend_now.backend.opensearch.domain.PostSearchOutbox;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PostSearchOutboxRepository extends JpaRepository<PostSearchOutbox, Long> {
+
+    // 재시도 시각이 지난 변경 내역을 저장된 순서대로 조회 (dead letter 제외)
+    List<PostSearchOutbox> findByDeadLetteredFalseAndNextAttemptAtLessThanEqualOrderByIdAsc(
+        LocalDateTime now, Pageable pageable);
+
+    // 가장 오래된 미처리 변경 내역 (색인 지연 시간 측정용, dead letter 제외)
+    Optional<PostSearchOutbox> findFirstByDeadLetteredFalseOrderByIdAsc();
+
+    long countByDeadLettered(boolean deadLettered);
+}
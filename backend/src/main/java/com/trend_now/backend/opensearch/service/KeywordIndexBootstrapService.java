@@ -0,0 +1,81 @@
+/*
+ * 클래스 설명 : DB의 실시간 게시판을 OpenSearch realtime_keyword 인덱스에 채우는 클래스
+ * - 애플리케이션 시작을 막지 않도록 준비 완료 후 비동기로 실행하며, 게시판 ID 기준 keyset 페이징으로 나누어 _bulk(create)로 색인한다
+ * - 이어서 색인, 분산 락, 완료 기록은 ResumableIndexBootstrap이 처리한다
+ * - 실시간 검색어 스케줄러는 isReady()로 색인이 완전한지 확인한다
+ * 메소드 설명
+ * - bootstrap() : 색인이 완료될 때까지 이어서 색인하는 메소드 (실패 시 지수 백오프로 재시도)
+ * - isReady() : realtime_keyword 인덱스에 DB의 모든 실시간 게시판이 색인되었는지 확인하는 메소드
+ */
+package com.trend_now.backend.opensearch.service;
+
+import com.trend_now.backend.board.domain.BoardCategory;
+import com.trend_now.backend.board.repository.BoardRepository;
+import com.trend_now.backend.config.RedissonConfig;
+import com.trend_now.backend.opensearch.service.ResumableIndexBootstrap.IndexedBatch;
+import com.trend_now.backend.search.dto.BoardRedisKey;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class KeywordIndexBootstrapService {
+
+    private static final String INDEX_NAME = "realtime_keyword";
+    private static final String REINDEX_KEY_PREFIX = "realtime_keyword";
+    private static final String REINDEX_METRIC_PREFIX = "opensearch.keyword.reindex";
+    private static final int BATCH_SIZE = 1000;
+
+    private final BoardRepository boardRepository;
+    private final OpenSearchService openSearchService;
+    private final ResumableIndexBootstrap indexBootstrap;
+
+    public KeywordIndexBootstrapService(BoardRepository boardRepository,
+        OpenSearchService openSearchService, RedisTemplate<String, String> redisTemplate,
+        RedissonConfig redissonConfig, MeterRegistry meterRegistry) {
+        this.boardRepository = boardRepository;
+        this.openSearchService = openSearchService;
+        this.indexBootstrap = ResumableIndexBootstrap.builder()
+            .indexName(INDEX_NAME)
+            .keyPrefix(REINDEX_KEY_PREFIX)
+            .metricPrefix(REINDEX_METRIC_PREFIX)
+            .batchSize(BATCH_SIZE)
+            .indexInitializer(openSearchService::initIndex)
+            .batchIndexer(this::indexBoardsAfter)
+            .totalCounter(() -> boardRepository.countByBoardCategory(BoardCategory.REALTIME))
+            .redisTemplate(redisTemplate)
+            .redissonConfig(redissonConfig)
+            .meterRegistry(meterRegistry)
+            .build();
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        indexBootstrap.run();
+    }
+
+    public boolean isReady() {
+        return indexBootstrap.isReady();
+    }
+
+    private IndexedBatch indexBoardsAfter(long lastBoardId, int batchSize) {
+        List<BoardRedisKey> boardKeys = boardRepository.findBoardKeysAfter(lastBoardId,
+            BoardCategory.REALTIME, PageRequest.of(0, batchSize));
+        if (boardKeys.isEmpty()) {
+            return null;
+        }
+        // 이미 색인된 게시판(create 충돌)도 색인된 것으로 본다
+        int createdCount = openSearchService.createKeywords(boardKeys);
+        log.debug("realtime_keyword 묶음 색인 - {}개 중 새로 색인 {}개", boardKeys.size(), createdCount);
+        return new IndexedBatch(boardKeys.size(), boardKeys.getLast().getBoardId(),
+            boardKeys.size());
+    }
+}
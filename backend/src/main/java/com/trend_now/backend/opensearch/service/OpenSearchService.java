@@ -1,13 +1,21 @@
 package com.trend_now.backend.opensearch.service;
 
 import com.trend_now.backend.board.dto.BoardKeyProvider;
+import com.trend_now.backend.opensearch.dto.SimilarKeywordResult;
 import com.trend_now.backend.search.dto.BoardRedisKey;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.opensearch.core.BulkRequest;
+import org.opensearch.client.opensearch.core.BulkResponse;
+import org.opensearch.client.opensearch.core.MsearchRequest;
+import org.opensearch.client.opensearch.core.MsearchResponse;
 import org.opensearch.client.opensearch.core.SearchResponse;
+import org.opensearch.client.opensearch.core.bulk.BulkResponseItem;
+import org.opensearch.client.opensearch.core.msearch.MultiSearchResponseItem;
 import org.opensearch.client.opensearch.core.search.Hit;
 import org.springframework.stereotype.Service;
 
@@ -19,26 +27,38 @@ public class OpenSearchService {
     private static final String INDEX_NAME = "realtime_keyword";
     private static final String KEYWORD_FIELD = "boardName";
     private static final String SEARCH_SIMILARITY_THRESHOLD = "30%";
+    private static final int CONFLICT_STATUS = 409;
     private static final String OPENSEARCH_CONNECTION_ERROR = "OpenSearch 연결에 실패했습니다.";
     private static final String OPENSEARCH_CONNECTION_OR_NOT_FOUND_ERROR =
         "OpenSearch에서" + INDEX_NAME + " 인덱스를 찾을 수 없거나, " + OPENSEARCH_CONNECTION_ERROR;
 
     private final OpenSearchClient openSearchClient;
 
-    public void initIndex() {
+    /**
+     * realtime_keyword 인덱스가 존재하지 않는 경우에 인덱스 생성
+     * - 기존 게시판 색인은 KeywordIndexBootstrapService가 비동기로 채운다
+     * @return 인덱스를 새로 생성했다면 true
+     */
+    public boolean initIndex() {
         try {
-            boolean exists = openSearchClient.indices().exists(e -> e.index(INDEX_NAME)).value();
-            // realtime_keyword 인덱스가 존재하지 않는 경우에 인덱스 생성
-            if (!exists) {
-                // TODO: DB에 저장된 기존 키워드들을 모두 불러와서 OpenSearch에 색인 생성
-
-                openSearchClient.indices().create(c -> c
-                    .index(INDEX_NAME)
-                    .mappings(m -> m
-                        .properties(KEYWORD_FIELD, p -> p.text(k -> k.analyzer("nori")))
-                    )
-                );
+            if (indexExists()) {
+                return false;
             }
+            openSearchClient.indices().create(c -> c
+                .index(INDEX_NAME)
+                .mappings(m -> m
+                    .properties(KEYWORD_FIELD, p -> p.text(k -> k.analyzer("nori")))
+                )
+            );
+            return true;
+        } catch (IOException e) {
+            throw new RuntimeException(OPENSEARCH_CONNECTION_ERROR);
+        }
+    }
+
+    public boolean indexExists() {
+        try {
+            return openSearchClient.indices().exists(e -> e.index(INDEX_NAME)).value();
         } catch (IOException e) {
             throw new RuntimeException(OPENSEARCH_CONNECTION_ERROR);
         }
@@ -81,4 +101,118 @@ public class OpenSearchService {
             throw new RuntimeException(OPENSEARCH_CONNECTION_OR_NOT_FOUND_ERROR);
         }
     }
+
+    /**
+     * 여러 키워드를 색인 요청 1번(_bulk)으로 저장
+     */
+    public void saveKeywords(List<? extends BoardKeyProvider> boardKeyProviders) {
+        if (boardKeyProviders.isEmpty()) {
+            return;
+        }
+        BulkRequest.Builder bulkRequest = new BulkRequest.Builder();
+        boardKeyProviders.forEach(boardKeyProvider -> bulkRequest.operations(op -> op
+            .index(i -> i
+                .index(INDEX_NAME)
+                .id(String.valueOf(boardKeyProvider.getBoardId()))
+                .document(new BoardRedisKey(boardKeyProvider.getBoardId(),
+                    boardKeyProvider.getBoardName()))
+            )
+        ));
+
+        try {
+            BulkResponse bulkResponse = openSearchClient.bulk(bulkRequest.build());
+            if (bulkResponse.errors()) {
+                bulkResponse.items().stream()
+                    .filter(item -> item.error() != null)
+                    .forEach(item -> log.error("OpenSearch 색인 실패 - id: {}, reason: {}", item.id(),
+                        item.error().reason()));
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(OPENSEARCH_CONNECTION_OR_NOT_FOUND_ERROR);
+        }
+    }
+
+    /**
+     * 아직 색인되지 않은 키워드만 색인 요청 1번(_bulk, create)으로 저장
+     * - 이미 색인된 게시판(409)은 건너뛰므로, 그 사이 saveKeywords로 갱신된 최신 이름을 DB에서 읽은 값으로 덮어쓰지 않는다
+     * @return 새로 색인된 키워드 수
+     */
+    public int createKeywords(List<? extends BoardKeyProvider> boardKeyProviders) {
+        if (boardKeyProviders.isEmpty()) {
+            return 0;
+        }
+        BulkRequest.Builder bulkRequest = new BulkRequest.Builder();
+        boardKeyProviders.forEach(boardKeyProvider -> bulkRequest.operations(op -> op
+            .create(c -> c
+                .index(INDEX_NAME)
+                .id(String.valueOf(boardKeyProvider.getBoardId()))
+                .document(new BoardRedisKey(boardKeyProvider.getBoardId(),
+                    boardKeyProvider.getBoardName()))
+            )
+        ));
+
+        BulkResponse bulkResponse;
+        try {
+            bulkResponse = openSearchClient.bulk(bulkRequest.build());
+        } catch (IOException e) {
+            throw new RuntimeException(OPENSEARCH_CONNECTION_OR_NOT_FOUND_ERROR);
+        }
+
+        int createdCount = 0;
+        for (BulkResponseItem item : bulkResponse.items()) {
+            if (item.error() == null) {
+                createdCount++;
+            } else if (item.status() != CONFLICT_STATUS) {
+                throw new RuntimeException(
+                    "OpenSearch 색인 실패 - id: " + item.id() + ", reason: " + item.error().reason());
+            }
+        }
+        return createdCount;
+    }
+
+    /**
+     * 여러 키워드의 유사 게시판을 검색 요청 1번(msearch)으로 조회
+     * - 반환 리스트는 newKeywords와 순서가 같으며, 검색에 실패한 키워드는 유사한 게시판이 없는 결과와 구분하여 실패로 표시한다
+     */
+    public List<SimilarKeywordResult> findSimilarKeywords(List<String> newKeywords) {
+        if (newKeywords.isEmpty()) {
+            return List.of();
+        }
+        MsearchRequest.Builder msearchRequest = new MsearchRequest.Builder();
+        newKeywords.forEach(newKeyword -> msearchRequest.searches(item -> item
+            .header(h -> h.index(INDEX_NAME))
+            .body(b -> b
+                .query(q -> q
+                    .match(m -> m
+                        .field(KEYWORD_FIELD)
+                        .query(v -> v.stringValue(newKeyword))
+                        // 유사도 임계값 설정
+                        .minimumShouldMatch(SEARCH_SIMILARITY_THRESHOLD)
+                    )
+                )
+                .size(1)
+            )
+        ));
+
+        try {
+            MsearchResponse<BoardRedisKey> msearchResponse = openSearchClient.msearch(
+                msearchRequest.build(), BoardRedisKey.class);
+
+            List<SimilarKeywordResult> similarKeywords = new ArrayList<>();
+            for (MultiSearchResponseItem<BoardRedisKey> response : msearchResponse.responses()) {
+                if (!response.isResult()) {
+                    log.warn("OpenSearch 유사 키워드 검색 실패 - reason: {}",
+                        response.failure().error().reason());
+                    similarKeywords.add(SimilarKeywordResult.failure());
+                    continue;
+                }
+                List<Hit<BoardRedisKey>> hits = response.result().hits().hits();
+                similarKeywords.add(SimilarKeywordResult.of(
+                    hits == null || hits.isEmpty() ? null : hits.getFirst().source()));
+            }
+            return similarKeywords;
+        } catch (IOException e) {
+            throw new RuntimeException(OPENSEARCH_CONNECTION_OR_NOT_FOUND_ERROR);
+        }
+    }
 }
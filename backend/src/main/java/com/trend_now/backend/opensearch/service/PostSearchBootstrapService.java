@@ -0,0 +1,86 @@
+/*
+ * 클래스 설명 : DB의 기존 게시글을 OpenSearch posts 인덱스에 채우는 클래스
+ * - posts 인덱스 도입 이전 게시글은 outbox로 색인되지 않으므로, 색인이 끝날 때까지 게시글 검색은 DB 검색(LIKE)을 사용한다
+ * - 애플리케이션 시작을 막지 않도록 준비 완료 후 비동기로 실행하며, 게시글 ID 기준 keyset 페이징으로 나누어 _bulk로 색인한다
+ * - 이어서 색인, 분산 락, 완료 기록은 ResumableIndexBootstrap이 처리한다
+ * - 외부 버전(updatedAt)으로 색인하므로 색인 중 outbox로 반영되는 최신 변경을 덮어쓰지 않는다
+ * 메소드 설명
+ * - bootstrap() : 색인이 완료될 때까지 이어서 색인하는 메소드 (실패 시 지수 백오프로 재시도)
+ * - isReady() : posts 인덱스에 DB의 모든 게시글이 색인되었는지 확인하는 메소드
+ */
+package com.trend_now.backend.opensearch.service;
+
+import com.trend_now.backend.config.RedissonConfig;
+import com.trend_now.backend.opensearch.service.ResumableIndexBootstrap.IndexedBatch;
+import com.trend_now.backend.post.domain.Posts;
+import com.trend_now.backend.post.repository.PostsRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class PostSearchBootstrapService {
+
+    private static final String INDEX_NAME = "posts";
+    private static final String REINDEX_KEY_PREFIX = "post_search";
+    private static final String REINDEX_METRIC_PREFIX = "opensearch.post.reindex";
+    private static final int BATCH_SIZE = 500;
+
+    private final PostsRepository postsRepository;
+    private final PostSearchIndexService postSearchIndexService;
+    private final ResumableIndexBootstrap indexBootstrap;
+
+    public PostSearchBootstrapService(PostsRepository postsRepository,
+        PostSearchIndexService postSearchIndexService, RedisTemplate<String, String> redisTemplate,
+        RedissonConfig redissonConfig, MeterRegistry meterRegistry) {
+        this.postsRepository = postsRepository;
+        this.postSearchIndexService = postSearchIndexService;
+        this.indexBootstrap = ResumableIndexBootstrap.builder()
+            .indexName(INDEX_NAME)
+            .keyPrefix(REINDEX_KEY_PREFIX)
+            .metricPrefix(REINDEX_METRIC_PREFIX)
+            .batchSize(BATCH_SIZE)
+            .indexInitializer(postSearchIndexService::initIndex)
+            .batchIndexer(this::indexPostsAfter)
+            .totalCounter(postsRepository::count)
+            .redisTemplate(redisTemplate)
+            .redissonConfig(redissonConfig)
+            .meterRegistry(meterRegistry)
+            .build();
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        indexBootstrap.run();
+    }
+
+    public boolean isReady() {
+        return indexBootstrap.isReady();
+    }
+
+    private IndexedBatch indexPostsAfter(long lastPostId, int batchSize) {
+        List<Posts> postsList = postsRepository.findByIdGreaterThanOrderByIdAsc(lastPostId,
+            PageRequest.of(0, batchSize));
+        if (postsList.isEmpty()) {
+            return null;
+        }
+        Set<Long> failedPostIds = postSearchIndexService.bulk(postsList.stream()
+            .map(postSearchIndexService::toIndexOperation)
+            .toList());
+        // 색인에 실패한 게시글은 다음 수정/삭제 시 outbox로 다시 색인된다
+        if (!failedPostIds.isEmpty()) {
+            log.error("posts 색인 실패 - postIds: {}", failedPostIds);
+        }
+        return new IndexedBatch(postsList.size(), postsList.getLast().getId(),
+            postsList.size() - failedPostIds.size());
+    }
+}
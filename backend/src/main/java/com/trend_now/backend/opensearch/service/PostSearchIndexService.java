@@ -0,0 +1,260 @@
+/*
+ * 클래스 설명 : 게시글 전문 검색을 위한 OpenSearch posts 인덱스를 관리하는 클래스
+ * - 게시글 본문(Quill Delta JSON)에서 텍스트만 추출하여 nori 분석기로 색인하므로, JSON 문법(ops, insert 등)은 검색되지 않는다
+ * - 검색은 게시판 ID 필터와 (작성 시각, 게시글 ID) 기준 search_after로 페이징하여, 게시글 수나 페이지 위치와 관계없이 비용이 일정하다
+ * 메소드 설명
+ * - initIndex() : posts 인덱스가 없다면 생성하는 메소드 (새로 생성했는지 반환)
+ * - recreateIndex() : 전체 재색인을 위해 posts 인덱스를 지우고 다시 생성하는 메소드
+ * - toIndexOperation() : 게시글을 색인 작업(문서, 외부 버전)으로 변환하는 메소드
+ * - bulk() : 여러 게시글의 색인/삭제를 _bulk 요청 한 번으로 처리하는 메소드
+ * - search() : 게시판 ID 목록 안에서 검색어가 제목 또는 본문에 포함된 게시글 ID를 최신순으로 조회하는 메소드
+ *   (커서가 없다면 from부터 조회하여, 페이지 번호로 조회하던 클라이언트도 지원한다)
+ */
+package com.trend_now.backend.opensearch.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trend_now.backend.opensearch.dto.PostIndexOperation;
+import com.trend_now.backend.opensearch.dto.PostSearchDocument;
+import com.trend_now.backend.opensearch.dto.PostSearchResult;
+import com.trend_now.backend.post.domain.Posts;
+import com.trend_now.backend.post.dto.PostCursor;
+import com.trend_now.backend.post.dto.QuillDeltaDto;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.opensearch._types.FieldValue;
+import org.opensearch.client.opensearch._types.SortOrder;
+import org.opensearch.client.opensearch._types.VersionType;
+import org.opensearch.client.opensearch.core.BulkRequest;
+import org.opensearch.client.opensearch.core.BulkResponse;
+import org.opensearch.client.opensearch.core.SearchResponse;
+import org.opensearch.client.opensearch.core.bulk.BulkResponseItem;
+import org.opensearch.client.opensearch.core.search.Hit;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostSearchIndexService {
+
+    public static final String INDEX_NAME = "posts";
+    private static final String POST_ID_FIELD = "postId";
+    private static final String BOARD_ID_FIELD = "boardId";
+    private static final String TITLE_FIELD = "title";
+    private static final String CONTENT_FIELD = "content";
+    private static final String CREATED_AT_FIELD = "createdAt";
+    private static final String TITLE_BOOST = "^2";
+    private static final String ANALYZER = "nori";
+    private static final int NOT_FOUND_STATUS = 404;
+    private static final int CONFLICT_STATUS = 409;
+    private static final ZoneId ZONE_ID = ZoneId.systemDefault();
+    private static final String OPENSEARCH_CONNECTION_ERROR = "OpenSearch 연결에 실패했습니다.";
+
+    private final OpenSearchClient openSearchClient;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * posts 인덱스가 존재하지 않는 경우에 인덱스 생성
+     * - 기존 게시글 색인은 PostSearchBootstrapService가 비동기로 채운다
+     * @return 인덱스를 새로 생성했다면 true
+     */
+    public boolean initIndex() {
+        try {
+            boolean exists = openSearchClient.indices().exists(e -> e.index(INDEX_NAME)).value();
+            if (exists) {
+                return false;
+            }
+            openSearchClient.indices().create(c -> c
+                .index(INDEX_NAME)
+                .mappings(m -> m
+                    .properties(POST_ID_FIELD, p -> p.long_(l -> l))
+                    .properties(BOARD_ID_FIELD, p -> p.long_(l -> l))
+                    .properties(TITLE_FIELD, p -> p.text(t -> t.analyzer(ANALYZER)))
+                    .properties(CONTENT_FIELD, p -> p.text(t -> t.analyzer(ANALYZER)))
+                    .properties(CREATED_AT_FIELD, p -> p.long_(l -> l))
+                )
+            );
+            return true;
+        } catch (IOException e) {
+            throw new RuntimeException(OPENSEARCH_CONNECTION_ERROR);
+        }
+    }
+
+    /**
+     * 인덱스를 지우고 다시 생성한다 (전체 재색인용)
+     */
+    public void recreateIndex() {
+        try {
+            boolean exists = openSearchClient.indices().exists(e -> e.index(INDEX_NAME)).value();
+            if (exists) {
+                openSearchClient.indices().delete(d -> d.index(INDEX_NAME));
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(OPENSEARCH_CONNECTION_ERROR);
+        }
+        initIndex();
+    }
+
+    public PostIndexOperation toIndexOperation(Posts posts) {
+        PostSearchDocument document = new PostSearchDocument(posts.getId(),
+            posts.getBoards().getId(), posts.getTitle(), extractPlainText(posts.getContent()),
+            toEpochMilli(posts.getCreatedAt()));
+        LocalDateTime updatedAt = posts.getUpdatedAt() != null ? posts.getUpdatedAt()
+            : posts.getCreatedAt();
+        return PostIndexOperation.index(document, toVersion(updatedAt));
+    }
+
+    /**
+     * 여러 게시글의 색인/삭제를 _bulk 요청 1번으로 처리
+     * - 외부 버전(version_type=external)을 사용하므로 같은 작업을 여러 번 보내거나 순서가 뒤바뀌어도 최신 버전만 남는다
+     * - 이미 같거나 더 높은 버전이 색인되어 있는 경우(409)와 없는 문서를 삭제하는 경우(404)는 성공으로 본다
+     * @return 색인에 실패하여 재시도가 필요한 게시글 ID 목록
+     */
+    public Set<Long> bulk(List<PostIndexOperation> operations) {
+        if (operations.isEmpty()) {
+            return Set.of();
+        }
+        BulkRequest.Builder bulkRequest = new BulkRequest.Builder();
+        operations.forEach(operation -> bulkRequest.operations(op -> {
+            if (operation.isDelete()) {
+                return op.delete(d -> d
+                    .index(INDEX_NAME)
+                    .id(String.valueOf(operation.postId()))
+                    .version(operation.version())
+                    .versionType(VersionType.External));
+            }
+            return op.index(i -> i
+                .index(INDEX_NAME)
+                .id(String.valueOf(operation.postId()))
+                .version(operation.version())
+                .versionType(VersionType.External)
+                .document(operation.document()));
+        }));
+
+        try {
+            BulkResponse bulkResponse = openSearchClient.bulk(bulkRequest.build());
+            if (!bulkResponse.errors()) {
+                return Set.of();
+            }
+            Set<Long> failedPostIds = new HashSet<>();
+            for (BulkResponseItem item : bulkResponse.items()) {
+                if (item.error() == null || item.status() == CONFLICT_STATUS
+                    || item.status() == NOT_FOUND_STATUS) {
+                    continue;
+                }
+                log.error("OpenSearch 게시글 색인 실패 - id: {}, reason: {}", item.id(),
+                    item.error().reason());
+                failedPostIds.add(Long.parseLong(item.id()));
+            }
+            return failedPostIds;
+        } catch (IOException e) {
+            throw new RuntimeException(OPENSEARCH_CONNECTION_ERROR);
+        }
+    }
+
+    /**
+     * 게시글의 수정 시각(또는 삭제 시각)을 OpenSearch 외부 버전으로 변환 (epoch micros)
+     */
+    public static long toVersion(LocalDateTime dateTime) {
+        Instant instant = dateTime.atZone(ZONE_ID).toInstant();
+        return TimeUnit.SECONDS.toMicros(instant.getEpochSecond())
+            + TimeUnit.NANOSECONDS.toMicros(instant.getNano());
+    }
+
+    /**
+     * @param boardIds 검색할 게시판 ID 목록
+     * @param cursor   이전 검색 결과의 nextCursor (첫 페이지라면 null)
+     * @param from     커서가 없을 때 건너뛸 게시글 수 (페이지 번호로 조회하는 경우)
+     */
+    public PostSearchResult search(String keyword, Collection<Long> boardIds, PostCursor cursor,
+        int from, int size) {
+        if (boardIds.isEmpty()) {
+            return PostSearchResult.empty();
+        }
+        List<FieldValue> boardIdValues = boardIds.stream().map(FieldValue::of).toList();
+
+        try {
+            // 다음 페이지 존재 여부를 알기 위해 size + 1개를 조회
+            SearchResponse<PostSearchDocument> response = openSearchClient.search(s -> {
+                    s.index(INDEX_NAME)
+                        .query(q -> q
+                            .bool(b -> b
+                                .filter(f -> f
+                                    .terms(t -> t
+                                        .field(BOARD_ID_FIELD)
+                                        .terms(v -> v.value(boardIdValues))
+                                    )
+                                )
+                                .must(mu -> mu
+                                    .multiMatch(mm -> mm
+                                        .query(keyword)
+                                        .fields(TITLE_FIELD + TITLE_BOOST, CONTENT_FIELD)
+                                    )
+                                )
+                            )
+                        )
+                        .sort(so -> so.field(f -> f.field(CREATED_AT_FIELD).order(SortOrder.Desc)))
+                        .sort(so -> so.field(f -> f.field(POST_ID_FIELD).order(SortOrder.Desc)))
+                        // 게시글 ID(_id)와 정렬 값만 사용하므로 _source는 가져오지 않는다
+                        .source(src -> src.fetch(false))
+                        .size(size + 1);
+                    if (cursor != null) {
+                        s.searchAfter(List.of(String.valueOf(toEpochMilli(cursor.getCreatedAt())),
+                            String.valueOf(cursor.getPostId())));
+                    } else if (from > 0) {
+                        s.from(from);
+                    }
+                    return s;
+                },
+                PostSearchDocument.class
+            );
+
+            List<Hit<PostSearchDocument>> hits = response.hits().hits();
+            boolean hasNext = hits.size() > size;
+            List<Hit<PostSearchDocument>> pageHits = hasNext ? hits.subList(0, size) : hits;
+
+            List<Long> postIds = new ArrayList<>(pageHits.size());
+            pageHits.forEach(hit -> postIds.add(Long.parseLong(hit.id())));
+            long totalCount = response.hits().total() == null ? postIds.size()
+                : response.hits().total().value();
+            PostCursor nextCursor = hasNext ? toCursor(pageHits.getLast()) : null;
+            return new PostSearchResult(postIds, totalCount, nextCursor);
+        } catch (IOException e) {
+            throw new RuntimeException(OPENSEARCH_CONNECTION_ERROR);
+        }
+    }
+
+    /**
+     * Quill Delta JSON에서 텍스트만 추출한다
+     * - Delta 형식이 아닌 과거 게시글은 본문을 그대로 사용한다
+     */
+    private String extractPlainText(String content) {
+        try {
+            return objectMapper.readValue(content, QuillDeltaDto.class).toPlainText();
+        } catch (JsonProcessingException e) {
+            return content;
+        }
+    }
+
+    private static PostCursor toCursor(Hit<PostSearchDocument> hit) {
+        List<String> sortValues = hit.sort();
+        LocalDateTime createdAt = LocalDateTime.ofInstant(
+            Instant.ofEpochMilli(Long.parseLong(sortValues.get(0))), ZONE_ID);
+        return PostCursor.of(createdAt, Long.parseLong(sortValues.get(1)));
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZONE_ID).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * 클래스 설명 : 게시글 변경 내역(Transactional Outbox)을 기록하고, 백그라운드에서 OpenSearch posts 인덱스로 반영하는 클래스
+ * - 게시글 API는 같은 트랜잭션에서 outbox 행만 저장하므로 OpenSearch 색인 비용과 장애가 요청 처리에 영향을 주지 않는다
+ * - 백그라운드 작업은 미처리 내역을 모아 _bulk 요청 한 번으로 색인하고, 실패한 게시글은 지수 백오프로 재시도한다
+ * - 최대 재시도 횟수까지 실패한 내역은 dead letter로 남기고 재시도하지 않는다 (게시글 전체 재색인으로 복구)
+ * - 여러 노드가 동시에 실행되지 않도록 분산 락을 획득한 노드만 반영하며, 외부 버전을 사용하므로 중복 반영되어도 결과는 같다
+ * - 기존 게시글 색인(PostSearchBootstrapService)이 끝나기 전에는 반영하지 않는다 (매핑 없이 인덱스가 자동 생성되지 않도록)
+ * 메소드 설명
+ * - recordUpsert() : 게시글 작성/수정 내역을 outbox에 기록하는 메소드 (호출한 트랜잭션에 참여)
+ * - recordDelete(), recordDeletes() : 게시글 삭제 내역을 outbox에 기록하는 메소드 (호출한 트랜잭션에 참여)
+ * - drain() : 미처리 내역을 OpenSearch에 반영하고, 색인 지연 지표를 갱신하는 메소드 (락을 획득한 노드에서만 주기적으로 갱신)
+ */
+package com.trend_now.backend.opensearch.service;
+
+import com.trend_now.backend.config.RedissonConfig;
+import com.trend_now.backend.opensearch.domain.PostSearchOutbox;
+import com.trend_now.backend.opensearch.dto.PostIndexOperation;
+import com.trend_now.backend.opensearch.repository.PostSearchOutboxRepository;
+import com.trend_now.backend.post.domain.Posts;
+import com.trend_now.backend.post.repository.PostsRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+public class PostSearchOutboxService {
+
+    private static final int BATCH_SIZE = 500;
+    private static final long DRAIN_INTERVAL_MILLIS = 1000L;
+    private static final String DRAIN_LOCK_NAME = "post_search_outbox_lock";
+    private static final long LOCK_WAIT_MILLIS = 0L;
+    private static final long LOCK_RELEASE_MILLIS = 60_000L;
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(5);
+    private static final int MAX_ATTEMPTS = 10;
+    private static final long LAG_METRICS_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(15);
+
+    private final PostSearchOutboxRepository postSearchOutboxRepository;
+    private final PostsRepository postsRepository;
+    private final PostSearchIndexService postSearchIndexService;
+    private final PostSearchBootstrapService postSearchBootstrapService;
+    private final RedissonConfig redissonConfig;
+    private final Counter indexedCounter;
+    private final Counter failedCounter;
+    private final Counter deadLetteredCounter;
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final AtomicLong deadLetteredCount = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private long lagMetricsUpdatedAt = System.nanoTime() - LAG_METRICS_INTERVAL_NANOS;
+
+    public PostSearchOutboxService(PostSearchOutboxRepository postSearchOutboxRepository,
+        PostsRepository postsRepository, PostSearchIndexService postSearchIndexService,
+        PostSearchBootstrapService postSearchBootstrapService, RedissonConfig redissonConfig,
+        MeterRegistry meterRegistry) {
+        this.postSearchOutboxRepository = postSearchOutboxRepository;
+        this.postsRepository = postsRepository;
+        this.postSearchIndexService = postSearchIndexService;
+        this.postSearchBootstrapService = postSearchBootstrapService;
+        this.redissonConfig = redissonConfig;
+        this.indexedCounter = Counter.builder("post.search.outbox.indexed")
+            .description("OpenSearch에 반영된 게시글 변경 내역 수")
+            .register(meterRegistry);
+        this.failedCounter = Counter.builder("post.search.outbox.failed")
+            .description("OpenSearch 반영에 실패하여 재시도를 기다리는 게시글 변경 내역 수")
+            .register(meterRegistry);
+        this.deadLetteredCounter = Counter.builder("post.search.outbox.dead.lettered")
+            .description("최대 재시도 횟수까지 실패하여 dead letter로 표시된 게시글 변경 내역 수")
+            .register(meterRegistry);
+        meterRegistry.gauge("post.search.outbox.pending", pendingCount);
+        meterRegistry.gauge("post.search.outbox.dead", deadLetteredCount);
+        meterRegistry.gauge("post.search.outbox.lag.seconds", lagSeconds);
+    }
+
+    @Transactional
+    public void recordUpsert(Posts posts) {
+        postSearchOutboxRepository.save(PostSearchOutbox.upsert(posts.getId(),
+            PostSearchIndexService.toVersion(posts.getUpdatedAt())));
+    }
+
+    @Transactional
+    public void recordDelete(Long postId) {
+        postSearchOutboxRepository.save(PostSearchOutbox.delete(postId,
+            PostSearchIndexService.toVersion(LocalDateTime.now())));
+    }
+
+    @Transactional
+    public void recordDeletes(Collection<Long> postIds) {
+        long version = PostSearchIndexService.toVersion(LocalDateTime.now());
+        postSearchOutboxRepository.saveAll(postIds.stream()
+            .map(postId -> PostSearchOutbox.delete(postId, version))
+            .toList());
+    }
+
+    @Scheduled(fixedDelay = DRAIN_INTERVAL_MILLIS)
+    public void drain() {
+        if (!postSearchBootstrapService.isReady()) {
+            return;
+        }
+        try {
+            if (!redissonConfig.tryExecute(DRAIN_LOCK_NAME, LOCK_WAIT_MILLIS, LOCK_RELEASE_MILLIS,
+                () -> {
+                    drainBatch();
+                    updateLagMetrics();
+                })) {
+                log.debug("다른 노드에서 게시글 검색 색인 outbox를 반영 중입니다.");
+            }
+        } catch (Exception e) {
+            log.error("게시글 검색 색인 outbox 처리 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    private void drainBatch() {
+        List<PostSearchOutbox> outboxes = postSearchOutboxRepository
+            .findByDeadLetteredFalseAndNextAttemptAtLessThanEqualOrderByIdAsc(LocalDateTime.now(),
+                PageRequest.of(0, BATCH_SIZE));
+        if (outboxes.isEmpty()) {
+            return;
+        }
+
+        // 같은 게시글의 변경 내역이 여러 개라면 가장 마지막 내역만 반영한다
+        Map<Long, PostSearchOutbox> latestOutboxes = new LinkedHashMap<>();
+        outboxes.forEach(outbox -> latestOutboxes.put(outbox.getPostId(), outbox));
+
+        Set<Long> failedPostIds;
+        try {
+            failedPostIds = postSearchIndexService.bulk(toIndexOperations(latestOutboxes.values()));
+        } catch (RuntimeException e) {
+            // OpenSearch 장애 시 모든 내역을 백오프 후 재시도
+            log.warn("OpenSearch에 게시글 변경 내역 {}건을 반영하지 못해 재시도합니다.", outboxes.size(), e);
+            failedPostIds = latestOutboxes.keySet();
+        }
+
+        List<Long> doneOutboxIds = new ArrayList<>();
+        List<PostSearchOutbox> retryOutboxes = new ArrayList<>();
+        int deadLetteredSize = 0;
+        for (PostSearchOutbox outbox : outboxes) {
+            if (!failedPostIds.contains(outbox.getPostId())) {
+                doneOutboxIds.add(outbox.getId());
+                continue;
+            }
+            if (outbox.getAttempts() + 1 >= MAX_ATTEMPTS) {
+                log.error("게시글 검색 색인이 {}회 실패하여 dead letter로 표시합니다. - outboxId: {}, postId: {}",
+                    MAX_ATTEMPTS, outbox.getId(), outbox.getPostId());
+                outbox.deadLetter();
+                deadLetteredSize++;
+            } else {
+                outbox.retryAfter(LocalDateTime.now().plus(backoff(outbox.getAttempts())));
+            }
+            retryOutboxes.add(outbox);
+        }
+        postSearchOutboxRepository.deleteAllByIdInBatch(doneOutboxIds);
+        postSearchOutboxRepository.saveAll(retryOutboxes);
+        indexedCounter.increment(doneOutboxIds.size());
+        failedCounter.increment(retryOutboxes.size() - deadLetteredSize);
+        deadLetteredCounter.increment(deadLetteredSize);
+    }
+
+    /**
+     * 작성/수정 내역은 현재 DB의 게시글로 색인하고, 그 사이 삭제된 게시글은 색인에서 삭제한다
+     */
+    private List<PostIndexOperation> toIndexOperations(Collection<PostSearchOutbox> outboxes) {
+        List<Long> upsertPostIds = outboxes.stream()
+            .filter(outbox -> !outbox.isDeleted())
+            .map(PostSearchOutbox::getPostId)
+            .toList();
+        Map<Long, Posts> postsMap = upsertPostIds.isEmpty() ? Map.of()
+            : postsRepository.findByIdIn(upsertPostIds).stream()
+                .collect(Collectors.toMap(Posts::getId, Function.identity()));
+
+        List<PostIndexOperation> operations = new ArrayList<>(outboxes.size());
+        for (PostSearchOutbox outbox : outboxes) {
+            Posts posts = postsMap.get(outbox.getPostId());
+            if (outbox.isDeleted() || posts == null) {
+                operations.add(PostIndexOperation.delete(outbox.getPostId(), outbox.getVersion()));
+                continue;
+            }
+            operations.add(postSearchIndexService.toIndexOperation(posts));
+        }
+        return operations;
+    }
+
+    private static Duration backoff(int attempts) {
+        Duration backoff = INITIAL_BACKOFF.multipliedBy(1L << Math.min(attempts, 20));
+        return backoff.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff;
+    }
+
+    /**
+     * 미처리 내역 수와 색인 지연 시간은 outbox 테이블을 조회하므로, 락을 획득한 노드에서만 일정 간격으로 갱신한다
+     */
+    private void updateLagMetrics() {
+        long now = System.nanoTime();
+        if (now - lagMetricsUpdatedAt < LAG_METRICS_INTERVAL_NANOS) {
+            return;
+        }
+        lagMetricsUpdatedAt = now;
+        pendingCount.set(postSearchOutboxRepository.countByDeadLettered(false));
+        deadLetteredCount.set(postSearchOutboxRepository.countByDeadLettered(true));
+        lagSeconds.set(postSearchOutboxRepository.findFirstByDeadLetteredFalseOrderByIdAsc()
+            .map(outbox -> Duration.between(outbox.getCreatedAt(), LocalDateTime.now()).toSeconds())
+            .orElse(0L));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * 클래스 설명 : DB의 모든 게시글로 OpenSearch posts 인덱스를 처음부터 다시 만드는 클래스
+ * - 매핑 변경, 인덱스 유실, outbox 도입 이전 게시글 색인 등에 사용한다
+ * - 외부 버전(updatedAt)으로 색인하므로 재색인 중 outbox로 반영되는 최신 변경을 덮어쓰지 않는다
+ * 메소드 설명
+ * - reindexAll() : 인덱스를 다시 만들고, 게시글 ID 순서로 나누어 _bulk로 색인하는 메소드
+ */
+package com.trend_now.backend.opensearch.service;
+
+import com.trend_now.backend.post.domain.Posts;
+import com.trend_now.backend.post.repository.PostsRepository;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostSearchReindexService {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final PostsRepository postsRepository;
+    private final PostSearchIndexService postSearchIndexService;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    /**
+     * @param recreate true라면 기존 인덱스를 지우고 다시 생성한 후 색인 (재색인이 끝날 때까지 검색 결과가 비어 있을 수 있다)
+     */
+    @Async
+    public void reindexAll(boolean recreate) {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("게시글 전체 재색인이 이미 진행 중입니다.");
+            return;
+        }
+        try {
+            if (recreate) {
+                postSearchIndexService.recreateIndex();
+            }
+            long lastPostId = 0L;
+            long indexedCount = 0L;
+            List<Posts> postsList;
+            do {
+                postsList = postsRepository.findByIdGreaterThanOrderByIdAsc(lastPostId,
+                    PageRequest.of(0, BATCH_SIZE));
+                if (postsList.isEmpty()) {
+                    break;
+                }
+                Set<Long> failedPostIds = postSearchIndexService.bulk(postsList.stream()
+                    .map(postSearchIndexService::toIndexOperation)
+                    .toList());
+                if (!failedPostIds.isEmpty()) {
+                    log.error("게시글 재색인 실패 - postIds: {}", failedPostIds);
+                }
+                indexedCount += postsList.size() - failedPostIds.size();
+                lastPostId = postsList.getLast().getId();
+            } while (postsList.size() == BATCH_SIZE);
+            log.info("게시글 전체 재색인 완료 - 게시글 {}개", indexedCount);
+        } catch (Exception e) {
+            log.error("게시글 전체 재색인 중 오류가 발생했습니다.", e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+}
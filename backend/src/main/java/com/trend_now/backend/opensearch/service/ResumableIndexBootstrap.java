@@ -0,0 +1,172 @@
+/*
+ * 클래스 설명 : DB의 기존 데이터를 OpenSearch 인덱스에 이어서 채우는 공통 클래스 (KeywordIndexBootstrapService, PostSearchBootstrapService에서 사용)
+ * - ID 기준 keyset 페이징으로 나누어 색인하며, 묶음마다 마지막으로 색인한 ID를 Redis({keyPrefix}_reindex_cursor)에 저장하므로 중간에 실패하거나 재시작해도 이어서 색인한다
+ * - 인덱스가 없어 새로 만든 경우에는 처음부터 다시 색인한다
+ * - 색인이 끝나면 Redis({keyPrefix}_reindexed)에 완료 여부를 기록하고, isReady()로 색인이 완전한지 확인한다
+ * - 여러 노드가 동시에 시작해도 분산 락({keyPrefix}_reindex_lock)을 획득한 노드만 색인하고, 나머지 노드는 완료 기록을 기다린다
+ * 메소드 설명
+ * - run() : 색인이 완료될 때까지 이어서 색인하는 메소드 (실패 시 지수 백오프로 재시도, 호출한 스레드를 점유하므로 비동기로 호출한다)
+ * - isReady() : 인덱스에 DB의 모든 데이터가 색인되었는지 확인하는 메소드
+ */
+package com.trend_now.backend.opensearch.service;
+
+import com.trend_now.backend.config.RedissonConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+
+@Slf4j
+public class ResumableIndexBootstrap {
+
+    private static final String REINDEX_CURSOR_KEY_SUFFIX = "_reindex_cursor";
+    private static final String REINDEX_DONE_KEY_SUFFIX = "_reindexed";
+    private static final String REINDEX_LOCK_NAME_SUFFIX = "_reindex_lock";
+    private static final long LOCK_WAIT_MILLIS = 0L;
+    private static final long LOCK_RELEASE_MILLIS = 600_000L;
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(5);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(5);
+
+    /**
+     * lastId 이후의 데이터를 최대 batchSize개 색인하고 결과를 반환 (더 이상 색인할 데이터가 없다면 null)
+     */
+    @FunctionalInterface
+    public interface BatchIndexer {
+
+        IndexedBatch indexAfter(long lastId, int batchSize);
+    }
+
+    /**
+     * @param size         DB에서 조회한 데이터 수
+     * @param lastId       묶음의 마지막 ID (다음 묶음의 커서)
+     * @param indexedCount 색인에 성공한 데이터 수 (실패한 데이터는 다음 변경 시 다시 색인된다)
+     */
+    public record IndexedBatch(int size, long lastId, int indexedCount) {
+
+    }
+
+    private final String indexName;
+    private final String cursorKey;
+    private final String doneKey;
+    private final String lockName;
+    private final int batchSize;
+    private final BooleanSupplier indexInitializer;
+    private final BatchIndexer batchIndexer;
+    private final LongSupplier totalCounter;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedissonConfig redissonConfig;
+    private final AtomicLong indexedCount = new AtomicLong();
+    private final AtomicLong totalCount = new AtomicLong();
+    private volatile boolean ready = false;
+
+    /**
+     * @param indexName        로그에 표시할 인덱스 이름
+     * @param keyPrefix        Redis 커서/완료 키와 분산 락 이름의 접두사
+     * @param metricPrefix     색인 진행 상황 지표 이름의 접두사 ({metricPrefix}.indexed/total/ready)
+     * @param indexInitializer 인덱스가 없다면 생성하고, 새로 생성했는지 반환
+     * @param totalCounter     색인할 전체 데이터 수 (진행률 표시용)
+     */
+    @Builder
+    private ResumableIndexBootstrap(String indexName, String keyPrefix, String metricPrefix,
+        int batchSize, BooleanSupplier indexInitializer, BatchIndexer batchIndexer,
+        LongSupplier totalCounter, RedisTemplate<String, String> redisTemplate,
+        RedissonConfig redissonConfig, MeterRegistry meterRegistry) {
+        this.indexName = indexName;
+        this.cursorKey = keyPrefix + REINDEX_CURSOR_KEY_SUFFIX;
+        this.doneKey = keyPrefix + REINDEX_DONE_KEY_SUFFIX;
+        this.lockName = keyPrefix + REINDEX_LOCK_NAME_SUFFIX;
+        this.batchSize = batchSize;
+        this.indexInitializer = indexInitializer;
+        this.batchIndexer = batchIndexer;
+        this.totalCounter = totalCounter;
+        this.redisTemplate = redisTemplate;
+        this.redissonConfig = redissonConfig;
+        meterRegistry.gauge(metricPrefix + ".indexed", indexedCount);
+        meterRegistry.gauge(metricPrefix + ".total", totalCount);
+        meterRegistry.gauge(metricPrefix + ".ready", this, bootstrap -> bootstrap.ready ? 1 : 0);
+    }
+
+    public void run() {
+        Duration backoff = INITIAL_BACKOFF;
+        // 색인이 완료된 상태라도 인덱스가 삭제되었을 수 있으므로 최소 한 번은 인덱스 존재 여부를 확인한다
+        while (true) {
+            try {
+                if (!redissonConfig.tryExecute(lockName, LOCK_WAIT_MILLIS, LOCK_RELEASE_MILLIS,
+                    this::indexRemaining)) {
+                    log.info("다른 노드에서 {} 색인을 진행 중입니다.", indexName);
+                }
+            } catch (RuntimeException e) {
+                log.error("{} 색인 중 오류가 발생했습니다. {}초 후 이어서 색인합니다.", indexName,
+                    backoff.toSeconds(), e);
+            }
+            if (isReady()) {
+                return;
+            }
+            try {
+                Thread.sleep(backoff.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            backoff = backoff.multipliedBy(2).compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF
+                : backoff.multipliedBy(2);
+        }
+    }
+
+    /**
+     * 한 번 완료된 후에는 Redis를 다시 조회하지 않는다
+     */
+    public boolean isReady() {
+        if (!ready) {
+            ready = Boolean.TRUE.equals(redisTemplate.hasKey(doneKey));
+        }
+        return ready;
+    }
+
+    private void indexRemaining() {
+        // 인덱스가 없어 새로 만든 경우, 이전 색인 기록은 의미가 없으므로 처음부터 색인
+        if (indexInitializer.getAsBoolean()) {
+            redisTemplate.delete(List.of(doneKey, cursorKey));
+            ready = false;
+            indexedCount.set(0L);
+        }
+        if (isReady()) {
+            return;
+        }
+
+        String cursor = redisTemplate.opsForValue().get(cursorKey);
+        long lastId = cursor == null ? 0L : Long.parseLong(cursor);
+        totalCount.set(totalCounter.getAsLong());
+        long startedAt = System.nanoTime();
+        long runIndexedCount = 0L;
+        long failedCount = 0L;
+        log.info("{} 색인 시작 - ID {} 이후부터, 전체 {}개", indexName, lastId, totalCount.get());
+
+        IndexedBatch batch;
+        do {
+            batch = batchIndexer.indexAfter(lastId, batchSize);
+            if (batch == null) {
+                break;
+            }
+            lastId = batch.lastId();
+            redisTemplate.opsForValue().set(cursorKey, String.valueOf(lastId));
+            indexedCount.addAndGet(batch.indexedCount());
+            runIndexedCount += batch.indexedCount();
+            failedCount += batch.size() - batch.indexedCount();
+
+            double elapsedSeconds = Math.max((System.nanoTime() - startedAt) / 1e9, 1e-3);
+            log.info("{} 색인 진행 - {}/{}개, 초당 {}개, 마지막 ID: {}", indexName, indexedCount.get(),
+                totalCount.get(), Math.round(runIndexedCount / elapsedSeconds), lastId);
+        } while (batch.size() == batchSize);
+
+        redisTemplate.opsForValue().set(doneKey, String.valueOf(lastId));
+        ready = true;
+        log.info("{} 색인 완료 - 실패 {}개, 소요 시간 {}초", indexName, failedCount,
+            Math.round((System.nanoTime() - startedAt) / 1e9));
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * 클래스 설명 : 실시간 검색어와 유사한 게시판 조회 결과를 로컬 캐시에 저장하여 OpenSearch 호출을 줄이는 클래스
+ * - 정규화한 키워드 -> 유사한 게시판(없다면 Optional.empty())을 크기와 TTL이 제한된 Caffeine 캐시에 저장하고, 캐시에 없는 키워드만 msearch 1번으로 조회한다
+ * - 게시판을 재색인하면 해당 게시판을 가리키던 결과와 유사한 게시판이 없던 결과는 무효화하고, 색인한 키워드 -> 게시판을 바로 캐시에 저장한다
+ * - OpenSearch 조회에 실패하면 스케줄러를 중단하지 않고 인메모리 BoardCache의 유사도 검색으로 대신한다 (이 결과는 캐시에 저장하지 않는다)
+ *   msearch 중 일부 키워드의 검색만 실패한 경우에도 해당 키워드만 같은 방식으로 대신한다
+ * - 기존 게시판 색인이 끝나지 않았다면(KeywordIndexBootstrapService.isReady()) OpenSearch에서 찾지 못한 키워드도 BoardCache에서 찾아보고, 결과는 캐시에 저장하지 않는다
+ * 메소드 설명
+ * - findSimilarKeywords() : 키워드별 유사한 게시판을 조회하는 메소드 (newKeywords와 순서가 같으며, 없으면 null)
+ * - saveKeywords() : 게시판을 OpenSearch에 재색인하고 캐시를 갱신하는 메소드 (기존 게시판 색인 전 인덱스가 없다면 재색인하지 않는다)
+ */
+package com.trend_now.backend.opensearch.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.trend_now.backend.board.cache.BoardCache;
+import com.trend_now.backend.board.dto.BoardKeyProvider;
+import com.trend_now.backend.opensearch.dto.SimilarKeywordResult;
+import com.trend_now.backend.search.dto.BoardRedisKey;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SimilarKeywordLookupService {
+
+    // 실시간 게시판의 유지 시간(2시간) 동안 같은 키워드가 반복해서 들어오므로 그 동안 결과를 유지
+    private static final long LOOKUP_CACHE_EXPIRE_MINUTES = 120L;
+    private static final long LOOKUP_CACHE_MAXIMUM_SIZE = 10_000L;
+    private static final String BLANK = "\\s+";
+
+    private final OpenSearchService openSearchService;
+    private final BoardCache boardCache;
+    private final KeywordIndexBootstrapService keywordIndexBootstrapService;
+
+    private final Cache<String, Optional<BoardRedisKey>> similarKeywordCache = Caffeine.newBuilder()
+        .expireAfterWrite(LOOKUP_CACHE_EXPIRE_MINUTES, TimeUnit.MINUTES)
+        .maximumSize(LOOKUP_CACHE_MAXIMUM_SIZE)
+        .build();
+
+    public List<BoardRedisKey> findSimilarKeywords(List<String> newKeywords) {
+        List<BoardRedisKey> similarKeywords = new ArrayList<>(newKeywords.size());
+        List<Integer> missedIndexes = new ArrayList<>();
+        List<String> missedKeywords = new ArrayList<>();
+        for (int i = 0; i < newKeywords.size(); i++) {
+            Optional<BoardRedisKey> cached = similarKeywordCache.getIfPresent(
+                normalize(newKeywords.get(i)));
+            if (cached == null) {
+                missedIndexes.add(i);
+                missedKeywords.add(newKeywords.get(i));
+            }
+            similarKeywords.add(cached == null ? null : cached.orElse(null));
+        }
+        if (missedKeywords.isEmpty()) {
+            return similarKeywords;
+        }
+
+        // 캐시에 없는 키워드만 한 번에 조회
+        List<BoardRedisKey> searchedKeywords = searchSimilarKeywords(missedKeywords);
+        for (int i = 0; i < missedIndexes.size(); i++) {
+            similarKeywords.set(missedIndexes.get(i), searchedKeywords.get(i));
+        }
+        return similarKeywords;
+    }
+
+    public void saveKeywords(List<? extends BoardKeyProvider> boardKeyProviders) {
+        try {
+            // 기존 게시판 색인 전에 인덱스가 없다면 _bulk(index)가 nori 매핑 없이 인덱스를 자동 생성하므로 색인하지 않는다
+            // (게시판은 DB에 저장되어 있으므로 인덱스를 생성한 KeywordIndexBootstrapService가 처음부터 색인한다)
+            if (keywordIndexBootstrapService.isReady() || openSearchService.indexExists()) {
+                openSearchService.saveKeywords(boardKeyProviders);
+            }
+        } catch (RuntimeException e) {
+            log.error("OpenSearch 키워드 색인에 실패했습니다. 유사 게시판 조회는 로컬 캐시로 유지합니다.", e);
+        }
+
+        // 이름이 바뀐 게시판을 가리키던 결과와, 새 게시판과 유사할 수 있는 "유사한 게시판 없음" 결과를 무효화
+        Set<Long> savedBoardIds = boardKeyProviders.stream()
+            .map(BoardKeyProvider::getBoardId)
+            .collect(Collectors.toSet());
+        similarKeywordCache.asMap().values().removeIf(similarKeyword -> similarKeyword
+            .map(boardRedisKey -> savedBoardIds.contains(boardRedisKey.getBoardId()))
+            .orElse(true));
+
+        // 색인한 키워드는 다음 조회 시 해당 게시판으로 찾아지므로 바로 캐시에 저장
+        boardKeyProviders.forEach(boardKeyProvider -> similarKeywordCache.put(
+            normalize(boardKeyProvider.getBoardName()),
+            Optional.of(new BoardRedisKey(boardKeyProvider.getBoardId(),
+                boardKeyProvider.getBoardName()))));
+    }
+
+    /**
+     * OpenSearch에서 조회한 결과는 캐시에 저장하고, 실패하면 BoardCache의 유사도 검색 결과를 반환
+     */
+    private List<BoardRedisKey> searchSimilarKeywords(List<String> keywords) {
+        List<SimilarKeywordResult> searchedKeywords;
+        try {
+            searchedKeywords = openSearchService.findSimilarKeywords(keywords);
+        } catch (RuntimeException e) {
+            log.warn("OpenSearch 유사 키워드 조회에 실패하여 인메모리 게시판 캐시로 조회합니다. keywords: {}",
+                keywords, e);
+            return keywords.stream()
+                .map(this::findSimilarKeywordInBoardCache)
+                .toList();
+        }
+
+        // 색인이 완전하지 않다면 찾지 못한 결과를 확정할 수 없으므로 캐시에 저장하지 않는다
+        boolean indexReady = keywordIndexBootstrapService.isReady();
+        List<BoardRedisKey> similarKeywords = new ArrayList<>(keywords.size());
+        for (int i = 0; i < keywords.size(); i++) {
+            String keyword = keywords.get(i);
+            SimilarKeywordResult searchedKeyword = searchedKeywords.get(i);
+            // 검색에 실패한 키워드는 유사한 게시판이 없다고 확정할 수 없으므로 캐시에 저장하지 않는다
+            if (searchedKeyword.failed()) {
+                similarKeywords.add(findSimilarKeywordInBoardCache(keyword));
+                continue;
+            }
+            if (!indexReady) {
+                similarKeywords.add(searchedKeyword.similarBoard() != null
+                    ? searchedKeyword.similarBoard() : findSimilarKeywordInBoardCache(keyword));
+                continue;
+            }
+            similarKeywordCache.put(normalize(keyword),
+                Optional.ofNullable(searchedKeyword.similarBoard()));
+            similarKeywords.add(searchedKeyword.similarBoard());
+        }
+        return similarKeywords;
+    }
+
+    private BoardRedisKey findSimilarKeywordInBoardCache(String keyword) {
+        BoardRedisKey similarKeyword = boardCache.findKeywordSimilarity(keyword);
+        return similarKeyword.getBoardId() == null ? null : similarKeyword;
+    }
+
+    /**
+     * 앞뒤 공백 제거, 연속된 공백은 하나로, 영문은 소문자로 정규화
+     */
+    private static String normalize(String keyword) {
+        return keyword.trim().replaceAll(BLANK, " ").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * 클래스 설명 : 게시글의 댓글 수(comment_count) 컬럼 추가 이전에 작성된 게시글의 댓글 수를 채우는 클래스
+ * - 애플리케이션 시작을 막지 않도록 준비 완료 후 비동기로 한 번 실행되며, 완료 여부를 Redis에 기록하여 이후 실행에서는 건너뛴다
+ * - 범위마다 마지막으로 갱신한 게시글 ID를 Redis에 저장하므로, 중간에 실패하거나 재시작해도 이어서 백필한다
+ * - 여러 노드가 동시에 시작해도 분산 락을 획득한 노드만 백필한다
+ * 메소드 설명
+ * - backfillCommentCount() : 게시글 ID 범위 단위로 comments 테이블에서 댓글 수를 다시 계산하여 저장하는 메소드
+ */
+package com.trend_now.backend.post.application;
+
+import com.trend_now.backend.config.RedissonConfig;
+import com.trend_now.backend.post.repository.PostsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostCommentCountBackfillService {
+
+    private static final String BACKFILL_DONE_KEY = "post_comment_count_backfilled";
+    private static final String BACKFILL_CURSOR_KEY = "post_comment_count_backfill_cursor";
+    private static final String BACKFILL_LOCK_NAME = "post_comment_count_backfill_lock";
+    private static final long LOCK_WAIT_MILLIS = 0L;
+    private static final long LOCK_RELEASE_MILLIS = 600_000L;
+    private static final long BATCH_SIZE = 1000L;
+
+    private final PostsRepository postsRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedissonConfig redissonConfig;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillCommentCount() {
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(BACKFILL_DONE_KEY))) {
+            return;
+        }
+        try {
+            if (!redissonConfig.tryExecute(BACKFILL_LOCK_NAME, LOCK_WAIT_MILLIS,
+                LOCK_RELEASE_MILLIS, this::backfillAllPosts)) {
+                log.info("다른 노드에서 게시글 댓글 수 백필을 진행 중입니다.");
+            }
+        } catch (RuntimeException e) {
+            log.error("게시글 댓글 수 백필 중 오류가 발생했습니다. 다음 시작 시 이어서 백필합니다.", e);
+        }
+    }
+
+    private void backfillAllPosts() {
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(BACKFILL_DONE_KEY))) {
+            return;
+        }
+        String cursor = redisTemplate.opsForValue().get(BACKFILL_CURSOR_KEY);
+        long startPostId = cursor == null ? 0L : Long.parseLong(cursor);
+        long maxPostId = postsRepository.findMaxId();
+        long updatedCount = 0L;
+        log.info("게시글 댓글 수 백필 시작 - 게시글 ID {} 이후부터 {}까지", startPostId, maxPostId);
+        // 범위마다 별도의 트랜잭션으로 갱신하여 긴 트랜잭션과 대량의 행 잠금을 피한다
+        for (long fromId = startPostId; fromId < maxPostId; fromId += BATCH_SIZE) {
+            long toId = Math.min(fromId + BATCH_SIZE, maxPostId);
+            updatedCount += postsRepository.backfillCommentCount(fromId, toId);
+            redisTemplate.opsForValue().set(BACKFILL_CURSOR_KEY, String.valueOf(toId));
+        }
+        redisTemplate.opsForValue().set(BACKFILL_DONE_KEY, String.valueOf(updatedCount));
+        redisTemplate.delete(BACKFILL_CURSOR_KEY);
+        log.info("게시글 댓글 수 백필 완료 - 게시글 {}개", updatedCount);
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * 클래스 설명 : 게시글 목록의 조회수, 좋아요 수를 한 번에 조회하는 서비스
+ * 메소드 설명
+ * - applyCounters() : 게시글 목록 전체의 조회수(GET)와 좋아요 수(SCARD)를 하나의 Redis 파이프라인으로 조회한 후 DTO에 세팅
+ */
+package com.trend_now.backend.post.application;
+
+import com.trend_now.backend.post.dto.PostCountDto;
+import com.trend_now.backend.post.dto.PostCounterAware;
+import com.trend_now.backend.post.repository.PostLikesRepository;
+import com.trend_now.backend.post.repository.PostsRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostCounterService {
+
+    private static final int COUNTERS_PER_POST = 2;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final PostsRepository postsRepository;
+    private final PostLikesRepository postLikesRepository;
+
+    /**
+     * 게시글 목록의 조회수와 좋아요 수를 세팅 (Look Aside)
+     * - 게시글마다 Redis를 호출하지 않고, 목록 전체를 하나의 파이프라인으로 조회하여 페이지 크기와 상관없이 1번의 왕복으로 처리
+     * - Redis에 조회수가 없는 게시글은 DB에서 IN 쿼리 1번으로 조회하고 Redis에 세팅
+     * - Redis 장애 시에는 조회수와 좋아요 수 모두 DB에서 IN 쿼리로 조회
+     */
+    public <T extends PostCounterAware> void applyCounters(List<T> posts,
+        Function<T, Long> boardIdExtractor) {
+        if (posts == null || posts.isEmpty()) {
+            return;
+        }
+
+        List<Object> results;
+        try {
+            results = redisTemplate.executePipelined(new SessionCallback<>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) throws DataAccessException {
+                    for (T post : posts) {
+                        operations.opsForValue()
+                            .get(PostViewService.generatePostViewKey(post.getPostId()));
+                        operations.opsForSet().size(PostLikesService.generateLikeMemberKey(
+                            boardIdExtractor.apply(post), post.getPostId()));
+                    }
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("Redis 파이프라인 조회 실패, DB에서 조회수와 좋아요 수를 읽어옵니다 : {}", e.getMessage());
+            applyCountersFromDatabase(posts);
+            return;
+        }
+
+        List<T> viewCountMissPosts = new ArrayList<>();
+        for (int i = 0; i < posts.size(); i++) {
+            T post = posts.get(i);
+            Object viewCount = results.get(i * COUNTERS_PER_POST);
+            Object likeCount = results.get(i * COUNTERS_PER_POST + 1);
+
+            if (viewCount == null) {
+                viewCountMissPosts.add(post);
+            } else {
+                post.setViewCount(Integer.parseInt(String.valueOf(viewCount)));
+            }
+            post.setLikeCount(likeCount == null ? 0 : ((Number) likeCount).intValue());
+        }
+
+        if (!viewCountMissPosts.isEmpty()) {
+            backFillViewCounts(viewCountMissPosts);
+        }
+    }
+
+    /**
+     * Redis에 조회수가 없는 게시글들의 조회수를 DB에서 한 번에 조회한 후 Redis에 세팅
+     */
+    private <T extends PostCounterAware> void backFillViewCounts(List<T> viewCountMissPosts) {
+        log.info("Redis에 조회수가 없는 게시글 {}개의 조회수를 DB에서 가져오고 Redis에 세팅합니다.",
+            viewCountMissPosts.size());
+        Map<Long, Integer> viewCountMap = findViewCountMap(viewCountMissPosts);
+
+        Map<String, String> viewCountKeyMap = new HashMap<>();
+        viewCountMissPosts.forEach(post -> {
+            int viewCount = viewCountMap.getOrDefault(post.getPostId(), 0);
+            post.setViewCount(viewCount);
+            viewCountKeyMap.put(PostViewService.generatePostViewKey(post.getPostId()),
+                String.valueOf(viewCount));
+        });
+
+        try {
+            // 조회 이후 다른 요청에서 조회수가 증가했을 수 있으므로, 키가 없는 경우에만 세팅
+            redisTemplate.executePipelined(new SessionCallback<>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) throws DataAccessException {
+                    viewCountKeyMap.forEach(
+                        (key, value) -> operations.opsForValue().setIfAbsent(key, value));
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("DB에서 가져온 조회수를 Redis에 세팅하는 데 실패했습니다 : {}", e.getMessage());
+        }
+    }
+
+    private <T extends PostCounterAware> void applyCountersFromDatabase(List<T> posts) {
+        Map<Long, Integer> viewCountMap = findViewCountMap(posts);
+        Map<Long, Integer> likeCountMap = toCountMap(
+            postLikesRepository.countByPostsIdIn(extractPostIds(posts)));
+
+        posts.forEach(post -> {
+            post.setViewCount(viewCountMap.getOrDefault(post.getPostId(), 0));
+            post.setLikeCount(likeCountMap.getOrDefault(post.getPostId(), 0));
+        });
+    }
+
+    private <T extends PostCounterAware> Map<Long, Integer> findViewCountMap(List<T> posts) {
+        return toCountMap(postsRepository.findViewCountsByIdIn(extractPostIds(posts)));
+    }
+
+    private static <T extends PostCounterAware> List<Long> extractPostIds(List<T> posts) {
+        return posts.stream().map(PostCounterAware::getPostId).toList();
+    }
+
+    private static Map<Long, Integer> toCountMap(List<PostCountDto> postCountList) {
+        return postCountList.stream().collect(Collectors.toMap(
+            PostCountDto::getPostId, postCount -> postCount.getCount().intValue()));
+    }
+}
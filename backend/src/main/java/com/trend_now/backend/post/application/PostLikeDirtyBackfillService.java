@@ -0,0 +1,86 @@
+/*
+ * 클래스 설명 : post_like_dirty 도입 이전에 만들어진 좋아요 Set을 동기화 대상으로 등록하는 클래스
+ * - 애플리케이션이 준비되면 한 번 실행되며, 완료 여부를 Redis에 기록하여 이후 실행에서는 건너뛴다
+ * - 여러 노드가 동시에 시작해도 분산 락을 획득한 노드만 등록한다
+ * 메소드 설명
+ * - backfillLikeDirty() : post_like_member:{게시판 ID}:{게시글 ID} 키를 SCAN하여 post_like_dirty에 등록하는 메소드
+ */
+package com.trend_now.backend.post.application;
+
+import com.trend_now.backend.config.RedissonConfig;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostLikeDirtyBackfillService {
+
+    private static final String REDIS_LIKE_MEMBER_KEY_PREFIX = "post_like_member:";
+    private static final String REDIS_LIKE_DIRTY_KEY = "post_like_dirty";
+    private static final String BACKFILL_DONE_KEY = "post_like_dirty_backfilled";
+    private static final String BACKFILL_LOCK_NAME = "post_like_dirty_backfill_lock";
+    private static final long LOCK_WAIT_MILLIS = 0L;
+    private static final long LOCK_RELEASE_MILLIS = 600_000L;
+    private static final int BATCH_SIZE = 1000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedissonConfig redissonConfig;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillLikeDirty() {
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(BACKFILL_DONE_KEY))) {
+            return;
+        }
+        try {
+            if (!redissonConfig.tryExecute(BACKFILL_LOCK_NAME, LOCK_WAIT_MILLIS,
+                LOCK_RELEASE_MILLIS, this::markAllLikeSetsDirty)) {
+                log.info("다른 노드에서 좋아요 동기화 대상 등록을 진행 중입니다.");
+            }
+        } catch (RuntimeException e) {
+            log.error("좋아요 동기화 대상 등록 중 오류가 발생했습니다. 다음 시작 시 다시 등록합니다.", e);
+        }
+    }
+
+    private void markAllLikeSetsDirty() {
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(BACKFILL_DONE_KEY))) {
+            return;
+        }
+        ScanOptions scanOptions = ScanOptions.scanOptions()
+            .match(REDIS_LIKE_MEMBER_KEY_PREFIX + "*")
+            .count(BATCH_SIZE)
+            .build();
+        long markedCount = 0L;
+        List<String> boardPostKeys = new ArrayList<>(BATCH_SIZE);
+        // KEYS 대신 SCAN으로 나누어 조회하여 Redis를 오래 막지 않는다
+        try (Cursor<String> cursor = redisTemplate.scan(scanOptions)) {
+            while (cursor.hasNext()) {
+                boardPostKeys.add(cursor.next().substring(REDIS_LIKE_MEMBER_KEY_PREFIX.length()));
+                if (boardPostKeys.size() == BATCH_SIZE) {
+                    markedCount += markDirty(boardPostKeys);
+                }
+            }
+        }
+        markedCount += markDirty(boardPostKeys);
+        redisTemplate.opsForValue().set(BACKFILL_DONE_KEY, String.valueOf(markedCount));
+        log.info("좋아요 동기화 대상 등록 완료 - 게시글 {}개", markedCount);
+    }
+
+    private int markDirty(List<String> boardPostKeys) {
+        if (boardPostKeys.isEmpty()) {
+            return 0;
+        }
+        int size = boardPostKeys.size();
+        redisTemplate.opsForSet().add(REDIS_LIKE_DIRTY_KEY, boardPostKeys.toArray(String[]::new));
+        boardPostKeys.clear();
+        return size;
+    }
+}
@@ -1,28 +1,44 @@
 package com.trend_now.backend.post.application;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.trend_now.backend.board.application.BoardAggregateService;
 import com.trend_now.backend.board.repository.BoardRepository;
-import com.trend_now.backend.config.RedissonConfig;
 import com.trend_now.backend.member.domain.Members;
 import com.trend_now.backend.member.repository.MemberRepository;
 import com.trend_now.backend.post.domain.PostLikes;
 import com.trend_now.backend.post.domain.PostLikesAction;
 import com.trend_now.backend.post.domain.Posts;
+import com.trend_now.backend.post.dto.PostLikeKeyDto;
 import com.trend_now.backend.post.dto.PostLikesIncrementDto;
+import com.trend_now.backend.post.dto.PostLikesToggleDto;
+import com.trend_now.backend.post.repository.PostLikesJdbcRepository;
 import com.trend_now.backend.post.repository.PostLikesRepository;
 import com.trend_now.backend.post.repository.PostsRepository;
-import java.time.Instant;
-import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Slf4j
 @Service
@@ -36,25 +52,47 @@ public class PostLikesService {
     private static final String NOT_EXIST_LIKES = "좋아요 객체가 존재하지 않습니다.";
     private static final String REDIS_LIKE_MEMBER_KEY_PREFIX = "post_like_member:";
     private static final String REDIS_LIKE_BOARD_KEY_DELIMITER = ":";
-    private static final String REDIS_LIKE_LOCK_PREFIX = "POST_LIKES_LOCK";
     private static final String REDIS_LIKE_TIME_UP_PREFIX = "post_like_time_up:";
+    private static final String REDIS_LIKE_DIRTY_KEY = "post_like_dirty";
+    private static final int SYNC_CHUNK_SIZE = 500;
     private static final int BOARD_KEY_PARTS_LENGTH = 2;
     private static final int BOARD_ID_IDX = 0;
     private static final int POST_ID_IDX = 1;
-    private static final int WAIT_MILLI_SEC = 10000;
-    private static final int RELEASE_MILLI_SEC = 10000;
     private static final Integer LIKE_INITIAL_COUNT = 0;
     private static final int LIKE_TIME_UP_LIMIT = 100;
     private static final String BOARD_KEY_DELIMITER = ":";
     private static final long POST_LIKES_TIME_UP = 301L;
-    private static final int KEY_EXPIRE = 0;
+    private static final String LIKE_TOGGLE_FAILED = "좋아요 처리에 실패했습니다.";
+    private static final int TOGGLE_RESULT_SIZE = 3;
+    private static final int TOGGLE_LIKED_IDX = 0;
+    private static final int TOGGLE_LIKE_COUNT_IDX = 1;
+    private static final int TOGGLE_TIME_UP_IDX = 2;
+    private static final long VALIDATION_CACHE_EXPIRE_MINUTES = 10L;
+    private static final int VALIDATION_CACHE_MAXIMUM_SIZE = 10000;
 
     private final PostsRepository postsRepository;
     private final MemberRepository memberRepository;
     private final PostLikesRepository postLikesRepository;
     private final RedisTemplate<String, String> redisMembersTemplate;
-    private final RedissonConfig redissonConfig;
     private final BoardRepository boardRepository;
+    private final PostLikesJdbcRepository postLikesJdbcRepository;
+    private final BoardAggregateService boardAggregateService;
+    @SuppressWarnings("rawtypes")
+    private final RedisScript<List> postLikeToggleScript;
+
+    // 좋아요 요청마다 발생하던 게시글/회원 존재 여부, 게시판 이름 DB 조회를 줄이기 위한 로컬 캐시
+    private final Cache<Long, Boolean> existingPostCache = Caffeine.newBuilder()
+            .expireAfterWrite(VALIDATION_CACHE_EXPIRE_MINUTES, TimeUnit.MINUTES)
+            .maximumSize(VALIDATION_CACHE_MAXIMUM_SIZE)
+            .build();
+    private final Cache<String, Boolean> existingMemberCache = Caffeine.newBuilder()
+            .expireAfterWrite(VALIDATION_CACHE_EXPIRE_MINUTES, TimeUnit.MINUTES)
+            .maximumSize(VALIDATION_CACHE_MAXIMUM_SIZE)
+            .build();
+    private final Cache<Long, String> boardNameCache = Caffeine.newBuilder()
+            .expireAfterWrite(VALIDATION_CACHE_EXPIRE_MINUTES, TimeUnit.MINUTES)
+            .maximumSize(VALIDATION_CACHE_MAXIMUM_SIZE)
+            .build();
 
     @Transactional
     public void saveLike(Long postId, Long memberId) {
@@ -80,79 +118,88 @@ public class PostLikesService {
 
     /**
      * 좋아요의 개수로 게시판의 시간이 결정되기 때문에 '좋아요의 개수'는 매우 중요하다 여러 사용자가 동시에 좋아요 버튼을 누르더라도 좋아요가 올바르게 눌려야 한다
+     * - 분산 락 대신 Lua 스크립트로 좋아요 토글, 100개 도달 시 게시판 시간 증가, board_rank score 갱신을 Redis에서 원자적으로 처리한다
+     * - 게시글/회원 존재 여부와 게시판 이름은 로컬 캐시에서 조회하여 DB 조회를 줄인다
      */
-    public PostLikesAction increaseLikeLock(PostLikesIncrementDto postLikesIncrementDto) {
+    public PostLikesToggleDto toggleLike(PostLikesIncrementDto postLikesIncrementDto) {
         Long boardId = postLikesIncrementDto.getBoardId();
-        String boardName = boardRepository.findNameById(boardId);
         Long postId = postLikesIncrementDto.getPostId();
         String name = postLikesIncrementDto.getMemberName();
-
-        String lockName =
-                REDIS_LIKE_LOCK_PREFIX + boardId + REDIS_LIKE_BOARD_KEY_DELIMITER + postId;
-        redissonConfig.execute(lockName, WAIT_MILLI_SEC, RELEASE_MILLI_SEC,
-                () -> doLike(boardName, boardId, postId, name));
-
-        boolean isLiked = hasMemberLiked(boardId, postId, name);
-        return isLiked ? PostLikesAction.LIKED : PostLikesAction.UNLIKED;
-    }
-
-    public void doLike(String boardName, Long boardId, Long postId, String name) {
         log.info("게시판 {}에 있는 게시글 {}에 회원 {}이 좋아요를 눌렀습니다.", boardId, postId, name);
 
-        postsRepository.findById(postId)
-                .orElseThrow(() -> new IllegalArgumentException(NOT_EXIST_POSTS));
-
-        memberRepository.findByName(name)
-                .orElseThrow(() -> new IllegalArgumentException(NOT_EXIST_MEMBERS));
-
-        String redisKey =
-                REDIS_LIKE_MEMBER_KEY_PREFIX + boardId + REDIS_LIKE_BOARD_KEY_DELIMITER + postId;
+        validatePostAndMember(postId, name);
+        String boardName = boardNameCache.get(boardId, boardRepository::findNameById);
 
-        Boolean isRedisPresent = redisMembersTemplate.opsForSet().isMember(redisKey, name);
+        String boardPostKey = boardId + REDIS_LIKE_BOARD_KEY_DELIMITER + postId;
+        List<String> keys = List.of(
+                generateLikeMemberKey(boardId, postId),
+                REDIS_LIKE_TIME_UP_PREFIX + boardPostKey,
+                boardName + BOARD_KEY_DELIMITER + boardId,
+                BOARD_RANK_KEY,
+                REDIS_LIKE_DIRTY_KEY,
+                BoardAggregateService.generateAggregateKey(boardId));
 
         /**
          * Write Back 패턴 사용(Redis를 주로 사용하고, DB는 주기적으로 업데이트)
-         * isRedisPresent : 사용자가 게시글에 좋아요를 눌렀는지 Redis에서 확인한다
-         * true를 반환할 경우 이미 좋아요를 누른 게시글
+         * 스크립트 반환값 : { 좋아요 여부(1/0), 좋아요 개수, 게시판 시간 증가 여부(1/0) }
          */
-        if (Boolean.TRUE.equals(isRedisPresent)) {
-            //이미 좋아요를 누른 경우
-            log.info("{}가 이미 좋아요를 누른 게시글이므로 좋아요가 취소 처리된다", name);
-            redisMembersTemplate.opsForSet().remove(redisKey, name);
-        } else {
-            //좋아요를 누른 게시글이 아닐 경우
-            log.info("{}가 좋아요를 누르지 않은 게시글이므로 좋아요 개수가 증가한다", name);
-            redisMembersTemplate.opsForSet().add(redisKey, name);
-
-            String timeUpFlagKey =
-                    REDIS_LIKE_TIME_UP_PREFIX + boardId + REDIS_LIKE_BOARD_KEY_DELIMITER + postId;
-            Boolean hasSetTimeUp = redisMembersTemplate.hasKey(timeUpFlagKey);
-            /**
-             * 좋아요가 게시글에 눌릴 때 100개 이상이 되면 게시글이 속한 게시판의 시간이 5분 추가된다
-             */
-            if (Boolean.FALSE.equals(hasSetTimeUp)
-                    && redisMembersTemplate.opsForSet().size(redisKey) >= LIKE_TIME_UP_LIMIT) {
-                log.info("게시판 {}의 좋아요 개수가 100개 이상이 되었을 때, 게시판의 시간이 5분 추가된다", boardId);
-                String boardKey = boardName + BOARD_KEY_DELIMITER + boardId;
-                long keyLiveTime = POST_LIKES_TIME_UP;
-
-                Long currentExpire = redisMembersTemplate.getExpire(boardKey, TimeUnit.SECONDS);
-                if (currentExpire != null && currentExpire > KEY_EXPIRE) {
-                    keyLiveTime += currentExpire;
-                }
+        List<?> result = redisMembersTemplate.execute(postLikeToggleScript, keys, name,
+                boardPostKey, String.valueOf(LIKE_TIME_UP_LIMIT),
+                String.valueOf(POST_LIKES_TIME_UP), BoardAggregateService.LIKE_COUNT_FIELD,
+                String.valueOf(BoardAggregateService.AGGREGATE_TTL.toSeconds()));
+        if (result == null || result.size() < TOGGLE_RESULT_SIZE) {
+            throw new IllegalStateException(LIKE_TOGGLE_FAILED);
+        }
 
-                redisMembersTemplate.expire(boardKey, keyLiveTime, TimeUnit.SECONDS);
-                Double currentScore = redisMembersTemplate.opsForZSet()
-                        .score(BOARD_RANK_KEY, boardKey);
-                if (currentScore != null) {
-                    Instant currentExpireScore = Instant.ofEpochMilli(currentScore.longValue());
-                    Instant newExpireScore = currentExpireScore.plus(POST_LIKES_TIME_UP,
-                            ChronoUnit.SECONDS);
-                    redisMembersTemplate.opsForZSet()
-                            .add(BOARD_RANK_KEY, boardKey, newExpireScore.toEpochMilli());
-                }
+        boolean isLiked = toLong(result.get(TOGGLE_LIKED_IDX)) == 1L;
+        int likeCount = (int) toLong(result.get(TOGGLE_LIKE_COUNT_IDX));
+        if (toLong(result.get(TOGGLE_TIME_UP_IDX)) == 1L) {
+            log.info("게시판 {}의 좋아요 개수가 100개 이상이 되었을 때, 게시판의 시간이 5분 추가된다", boardId);
+        }
+        return PostLikesToggleDto.of(isLiked ? PostLikesAction.LIKED : PostLikesAction.UNLIKED,
+                likeCount);
+    }
+
+    private void validatePostAndMember(Long postId, String name) {
+        // 존재가 확인된 게시글/회원만 캐싱한다
+        if (existingPostCache.getIfPresent(postId) == null) {
+            if (!postsRepository.existsById(postId)) {
+                throw new IllegalArgumentException(NOT_EXIST_POSTS);
             }
+            existingPostCache.put(postId, Boolean.TRUE);
         }
+        if (existingMemberCache.getIfPresent(name) == null) {
+            if (!memberRepository.existsByName(name)) {
+                throw new IllegalArgumentException(NOT_EXIST_MEMBERS);
+            }
+            existingMemberCache.put(name, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * 게시글이 삭제되면 좋아요 검증 캐시에서도 제거한다
+     */
+    public void evictPostCache(Long postId) {
+        existingPostCache.invalidate(postId);
+    }
+
+    /**
+     * 회원이 탈퇴하거나 닉네임을 변경하면 좋아요 검증 캐시에서도 제거한다
+     */
+    public void evictMemberCache(String name) {
+        existingMemberCache.invalidate(name);
+    }
+
+    /**
+     * 실시간 검색어 스케줄러가 게시판 이름을 변경할 수 있으므로, 순위가 갱신된 게시판의 이름 캐시를 제거한다
+     * - 이름이 바뀐 게시판은 board_rank 키(게시판이름:게시판ID)도 바뀌므로, 이전 이름으로는 게시판 시간 증가가 반영되지 않는다
+     */
+    public void evictBoardNameCache(Collection<Long> boardIds) {
+        boardNameCache.invalidateAll(boardIds);
+    }
+
+    private static long toLong(Object value) {
+        return ((Number) value).longValue();
     }
 
     /**
@@ -178,75 +225,131 @@ public class PostLikesService {
         );
     }
 
+    /**
+     * Write-Back 전략을 사용해 현재 Redis에 저장된 좋아요를 DB에 업데이트한다
+     * KEYS로 전체 좋아요 키를 조회하지 않고, 좋아요가 변경된 게시글이 기록된 post_like_dirty Set만 SPOP으로 꺼내서 동기화한다
+     */
     @Transactional
     public void syncLikesToDatabase() {
-        //Write-Back 전략을 사용해 현재 Redis에 저장된 좋아요를 DB에 업데이트한다
-        Set<String> keys = redisMembersTemplate.keys(REDIS_LIKE_MEMBER_KEY_PREFIX + "*");
-
-        if (keys == null || keys.isEmpty()) {
+        // 동기화 도중 새로 추가되는 게시글은 다음 주기에 처리하기 위해 시작 시점의 개수만큼만 꺼낸다
+        Long dirtyCount = redisMembersTemplate.opsForSet().size(REDIS_LIKE_DIRTY_KEY);
+        if (dirtyCount == null || dirtyCount == 0) {
             log.info("동기화할 좋아요 데이터가 없습니다.");
             return;
         }
 
-        List<PostLikes> postLikesList = new ArrayList<>();
-        for (String key : keys) {
-            String[] parts = key.replace(REDIS_LIKE_MEMBER_KEY_PREFIX, "")
-                    .split(REDIS_LIKE_BOARD_KEY_DELIMITER);
+        // 꺼낸 게시글은 트랜잭션이 커밋되지 않으면(커밋 실패 포함) 다시 등록하여 다음 주기에 재시도한다
+        List<String> poppedBoardPostKeys = new ArrayList<>();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED && !poppedBoardPostKeys.isEmpty()) {
+                    log.error("좋아요 동기화 트랜잭션이 커밋되지 않아 {}개의 게시글을 다시 등록합니다.",
+                            poppedBoardPostKeys.size());
+                    redisMembersTemplate.opsForSet().add(REDIS_LIKE_DIRTY_KEY,
+                            poppedBoardPostKeys.toArray(String[]::new));
+                }
+            }
+        });
+
+        while (poppedBoardPostKeys.size() < dirtyCount) {
+            List<String> chunk = redisMembersTemplate.opsForSet()
+                    .pop(REDIS_LIKE_DIRTY_KEY, SYNC_CHUNK_SIZE);
+            if (chunk == null || chunk.isEmpty()) {
+                break;
+            }
+            poppedBoardPostKeys.addAll(chunk);
+            syncPostLikesChunk(chunk);
+        }
+    }
+
+    /**
+     * 게시글 묶음 단위로 Redis와 DB의 좋아요를 비교하여 동기화한다
+     * - 회원 이름 -> 회원 ID 변환, DB 좋아요 조회는 묶음 전체에 대해 IN 쿼리 1번씩만 실행
+     * - Redis에만 존재하는 좋아요는 저장, DB에만 존재하는 좋아요는 삭제 (JDBC 배치)
+     */
+    private void syncPostLikesChunk(List<String> boardPostKeys) {
+        Map<Long, Long> postBoardMap = new LinkedHashMap<>();
+        for (String boardPostKey : boardPostKeys) {
+            String[] parts = boardPostKey.split(REDIS_LIKE_BOARD_KEY_DELIMITER);
             if (parts.length != BOARD_KEY_PARTS_LENGTH) {
-                log.warn("잘못된 Redis 키 {} 형식의 데이터가 존재합니다.", key);
+                log.warn("잘못된 형식의 동기화 대상 {}이 존재합니다.", boardPostKey);
                 continue;
             }
+            postBoardMap.put(Long.parseLong(parts[POST_ID_IDX]),
+                    Long.parseLong(parts[BOARD_ID_IDX]));
+        }
+
+        // 삭제된 게시글의 좋아요는 동기화하지 않는다
+        List<Long> postIds = postsRepository.findIdsByIdIn(postBoardMap.keySet());
+        if (postIds.isEmpty()) {
+            return;
+        }
 
-            Long boardId = Long.parseLong(parts[BOARD_ID_IDX]);
-            Long postId = Long.parseLong(parts[POST_ID_IDX]);
+        Map<Long, Set<String>> redisNamesByPost = findLikeMemberNames(postIds, postBoardMap);
 
-            Set<String> names = redisMembersTemplate.opsForSet().members(key);
-            if (names == null) {
-                names = Set.of();
-            }
+        Set<String> allNames = new HashSet<>();
+        redisNamesByPost.values().forEach(allNames::addAll);
+        Map<String, Long> memberIdByName = memberRepository.findAllByNameIn(allNames).stream()
+                .collect(Collectors.toMap(Members::getName, Members::getId));
 
-            Set<String> dbNames = postLikesRepository.findMembersNameByPostsId(postId);
-
-            /**
-             * 좋아요를 누른 사용자가
-             * - DB에 존재하지 않을 꼉우, DB에 좋아요 정보를 저장
-             * - DB에 존재할 경우, 로직을 계속 진행
-             *
-             * 좋아요를 취소한 사용자가
-             * - DB에 존재할 경우, DB에서 좋아요 정보를 삭제
-             * - DB에 존재하지 않을 경우, 로직을 게속 진행
-             */
-
-            for (String name : names) {
-                memberRepository.findByName(name).ifPresent(members -> {
-                    Posts posts = postsRepository.findById(postId)
-                            .orElseThrow(() -> new IllegalArgumentException(NOT_EXIST_POSTS));
-                    boolean alreadyLiked = postLikesRepository.existsByPostsIdAndMembersId(postId,
-                            members.getId());
-                    if (!alreadyLiked) {
-                        PostLikes postLikes = PostLikes.builder()
-                                .posts(posts)
-                                .members(members)
-                                .build();
-                        postLikesList.add(postLikes);
-                        log.info("DB에 게시글 번호 {}에 대한 회원 {}의 좋아요를 저장합니다", postId, name);
-                    }
-                });
-            }
+        Set<PostLikeKeyDto> redisLikeKeys = new HashSet<>();
+        redisNamesByPost.forEach((postId, names) -> names.stream()
+                .map(memberIdByName::get)
+                .filter(Objects::nonNull)
+                .forEach(memberId -> redisLikeKeys.add(new PostLikeKeyDto(postId, memberId))));
+        Set<PostLikeKeyDto> dbLikeKeys = new HashSet<>(
+                postLikesRepository.findLikeKeysByPostsIdIn(postIds));
 
-            for (String dbName : dbNames) {
-                if (!names.contains(dbName)) {
-                    memberRepository.findByName(dbName).ifPresent(members -> {
-                        deleteLike(postId, members.getId());
-                        log.info("DB에 게시글 번호 {}에 대한 회원 {}의 좋아요를 삭제합니다", postId, dbName);
-                    });
-                }
+        /**
+         * 좋아요를 누른 사용자가 DB에 존재하지 않을 경우, DB에 좋아요 정보를 저장
+         * 좋아요를 취소한 사용자가 DB에 존재할 경우, DB에서 좋아요 정보를 삭제
+         */
+        List<PostLikeKeyDto> addedLikeKeys = redisLikeKeys.stream()
+                .filter(key -> !dbLikeKeys.contains(key))
+                .toList();
+        List<PostLikeKeyDto> removedLikeKeys = dbLikeKeys.stream()
+                .filter(key -> !redisLikeKeys.contains(key))
+                .toList();
+
+        postLikesJdbcRepository.batchInsert(addedLikeKeys);
+        postLikesJdbcRepository.batchDelete(removedLikeKeys);
+
+        // DB에 반영된 만큼 게시판 단위 좋아요 증감분을 DB 집계값으로 옮긴다 (커밋 후)
+        Map<Long, Long> syncedLikeCountByBoard = new HashMap<>();
+        addedLikeKeys.forEach(key -> syncedLikeCountByBoard.merge(
+                postBoardMap.get(key.getPostId()), 1L, Long::sum));
+        removedLikeKeys.forEach(key -> syncedLikeCountByBoard.merge(
+                postBoardMap.get(key.getPostId()), -1L, Long::sum));
+        boardAggregateService.moveSyncedLikeCounts(syncedLikeCountByBoard);
+        log.info("게시글 {}개의 좋아요를 DB에 동기화했습니다. 저장: {}개, 삭제: {}개", postIds.size(),
+                addedLikeKeys.size(), removedLikeKeys.size());
+    }
+
+    /**
+     * 게시글 묶음의 좋아요 회원 목록을 Redis 파이프라인으로 한 번에 조회한다
+     */
+    private Map<Long, Set<String>> findLikeMemberNames(List<Long> postIds,
+            Map<Long, Long> postBoardMap) {
+        List<Object> results = redisMembersTemplate.executePipelined(new SessionCallback<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                postIds.forEach(postId -> operations.opsForSet()
+                        .members(generateLikeMemberKey(postBoardMap.get(postId), postId)));
+                return null;
             }
-        }
+        });
 
-        if (!postLikesList.isEmpty()) {
-            postLikesRepository.saveAll(postLikesList);
+        Map<Long, Set<String>> redisNamesByPost = new HashMap<>();
+        for (int i = 0; i < postIds.size(); i++) {
+            Set<String> names = new HashSet<>();
+            if (results.get(i) instanceof Collection<?> members) {
+                members.forEach(member -> names.add(String.valueOf(member)));
+            }
+            redisNamesByPost.put(postIds.get(i), names);
         }
+        return redisNamesByPost;
     }
 
     /**
@@ -296,6 +399,10 @@ public class PostLikesService {
         return postLikesSet.size();
     }
 
+    static String generateLikeMemberKey(Long boardId, Long postId) {
+        return REDIS_LIKE_MEMBER_KEY_PREFIX + boardId + REDIS_LIKE_BOARD_KEY_DELIMITER + postId;
+    }
+
     private void updateRedisLikeCount(String redisKey, Set<PostLikes> likeCount) {
         for (PostLikes postLikes : likeCount) {
             redisMembersTemplate.opsForSet().add(redisKey, postLikes.getMembers().getName());
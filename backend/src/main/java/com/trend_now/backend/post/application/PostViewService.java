@@ -1,16 +1,23 @@
 package com.trend_now.backend.post.application;
 
+import com.trend_now.backend.board.application.BoardAggregateService;
 import com.trend_now.backend.post.domain.Posts;
 import com.trend_now.backend.post.repository.PostsRepository;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Slf4j
 @Service
@@ -20,16 +27,30 @@ public class PostViewService {
     private static final String POST_VIEW_COUNT_PREFIX = "post_view_count";
     private static final String REDIS_POST_VIEW_COUNT_KEY_DELIMITER = ":";
     private static final int POST_ID_INDEX = 1;
+    private static final String POST_VIEW_DIRTY_KEY = "post_view_dirty";
+    private static final int SYNC_CHUNK_SIZE = 500;
+    private static final Duration SYNCED_VIEW_COUNT_TTL = Duration.ofDays(1);
 
     private final RedisTemplate<String, String> redisTemplate;
     private final PostsRepository postRepository;
+    private final BoardAggregateService boardAggregateService;
 
 
-    public void incrementPostView(Long postId) {
+    public void incrementPostView(Long boardId, Long postId) {
         log.info("{}의 조회수를 증가시킵니다.", postId);
         String key = generatePostViewKey(postId);
-        // incrementPostView는 getPostViewCount 이후에 실행되기 때문에, key의 존재 여부를 확인하지 않아도 된다.
-        redisTemplate.opsForValue().increment(key);
+        // getPostViewCount 이후 동기화된 키의 TTL이 만료되었다면 1부터 다시 세어지므로, DB의 조회수만큼 더해서 복구한다.
+        Long viewCount = redisTemplate.opsForValue().increment(key);
+        if (viewCount != null && viewCount == 1L) {
+            int viewCountById = postRepository.findViewCountById(postId);
+            if (viewCountById > 0) {
+                redisTemplate.opsForValue().increment(key, viewCountById);
+            }
+        }
+        // DB 동기화 대상 게시글로 등록
+        redisTemplate.opsForSet().add(POST_VIEW_DIRTY_KEY, String.valueOf(postId));
+        // 게시판 단위 조회수 증감분 증가
+        boardAggregateService.incrementViewCount(boardId);
     }
 
     public int getPostViewCount(Long postId) {
@@ -47,45 +68,94 @@ public class PostViewService {
 
     /**
      * 스케줄러를 통해 주기적으로 DB와 동기화하기 위한 메서드
+     * - KEYS로 전체 키를 조회하지 않고, 조회수가 증가한 게시글 ID가 기록된 post_view_dirty Set만 SPOP으로 꺼내서 동기화
+     * - 동기화 비용은 전체 키 개수가 아닌, 동기화 주기 동안 조회된 게시글 수에 비례
+     * - 꺼낸 게시글 ID는 트랜잭션이 커밋되지 않으면(커밋 실패 포함) afterCompletion에서 다시 등록하여 다음 주기에 재시도
      */
     @Transactional
     public void syncViewCountToDatabase() {
-        // Redis에서 조회수를 동기화할 게시글 키를 모두 가져온다.
-        Set<String> keys = redisTemplate.keys(
-            POST_VIEW_COUNT_PREFIX + REDIS_POST_VIEW_COUNT_KEY_DELIMITER
-                + "*");
-        // multiGet은 keys의 순서에 따라 조회수를 가져오므로, keys와 viewCountList의 순서가 보장된다.
-        List<String> viewCountList = redisTemplate.opsForValue().multiGet(keys);
-        // 이후에 동기화 작업 중 해당 게시글에 대해 새로운 조회수가 발생할 수 있으므로, 조회 이후에 즉시 삭제한다.
-        redisTemplate.delete(keys);
-
-        if (keys.isEmpty()) {
+        // 동기화 도중 새로 추가되는 게시글은 다음 주기에 처리하기 위해 시작 시점의 개수만큼만 꺼낸다.
+        Long dirtyCount = redisTemplate.opsForSet().size(POST_VIEW_DIRTY_KEY);
+        if (dirtyCount == null || dirtyCount == 0) {
             log.info("조회수를 동기화할 데이터가 없습니다.");
             return;
         }
 
+        List<String> poppedPostIds = new ArrayList<>();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED && !poppedPostIds.isEmpty()) {
+                    log.error("조회수 동기화 트랜잭션이 커밋되지 않아 {}개의 게시글을 다시 등록합니다.",
+                        poppedPostIds.size());
+                    redisTemplate.opsForSet()
+                        .add(POST_VIEW_DIRTY_KEY, poppedPostIds.toArray(String[]::new));
+                }
+            }
+        });
+
+        int updatedCount = 0;
+        while (poppedPostIds.size() < dirtyCount) {
+            List<String> chunk = redisTemplate.opsForSet().pop(POST_VIEW_DIRTY_KEY, SYNC_CHUNK_SIZE);
+            if (chunk == null || chunk.isEmpty()) {
+                break;
+            }
+            poppedPostIds.addAll(chunk);
+            updatedCount += syncViewCountChunk(chunk);
+        }
+
+        log.info("게시글 조회수를 Redis에서 DB로 동기화했습니다. {}개의 게시글이 업데이트되었습니다.", updatedCount);
+    }
+
+    private int syncViewCountChunk(List<String> postIds) {
+        List<String> keys = postIds.stream()
+            .map(postId -> generatePostViewKey(Long.parseLong(postId)))
+            .toList();
+        // multiGet은 keys의 순서에 따라 조회수를 가져오므로, keys와 viewCountList의 순서가 보장된다.
+        List<String> viewCountList = redisTemplate.opsForValue().multiGet(keys);
+
         // 데이터를 파싱하여 Key: PostId, Value: viewCount 형태 Map으로 변환
         Map<Long, Integer> map = new HashMap<>();
-        int currentIndex = 0;
-        for (String key : keys) {
-            String viewCount = viewCountList.get(currentIndex++);
+        for (int i = 0; i < keys.size(); i++) {
+            String viewCount = viewCountList.get(i);
             if (viewCount == null) {
-                log.warn("Redis에 저장된 조회수가 없습니다. key: {}", key);
+                log.warn("Redis에 저장된 조회수가 없습니다. key: {}", keys.get(i));
                 continue;
             }
-            String[] postIdStr = key.split(REDIS_POST_VIEW_COUNT_KEY_DELIMITER);
+            String[] postIdStr = keys.get(i).split(REDIS_POST_VIEW_COUNT_KEY_DELIMITER);
             Long postId = Long.parseLong(postIdStr[POST_ID_INDEX]);
             map.put(postId, Integer.parseInt(viewCount));
         }
+        if (map.isEmpty()) {
+            return 0;
+        }
 
         // Redis에 저장된 조회수를 DB에 동기화
         List<Posts> postList = postRepository.findByIdIn(map.keySet());
-        postList.forEach(post -> post.updateViewCount(map.get(post.getId())));
+        Map<Long, Long> syncedViewCountByBoard = new HashMap<>();
+        postList.forEach(post -> {
+            // Redis 키가 만료 후 다시 생성되어 DB보다 작은 값이라면, DB의 조회수를 줄이지 않는다 (GREATEST)
+            int viewCount = Math.max(map.get(post.getId()), post.getViewCount());
+            syncedViewCountByBoard.merge(post.getBoards().getId(),
+                (long) viewCount - post.getViewCount(), Long::sum);
+            post.updateViewCount(viewCount);
+        });
+        // DB에 반영된 만큼 게시판 단위 조회수 증감분을 DB 집계값으로 옮긴다 (커밋 후)
+        boardAggregateService.moveSyncedViewCounts(syncedViewCountByBoard);
 
-        log.info("게시글 조회수를 Redis에서 DB로 동기화했습니다. {}개의 게시글이 업데이트되었습니다.", postList.size());
+        // 동기화된 조회수 키는 삭제하지 않고 만료 시간을 설정하여, 동기화 도중 증가한 조회수가 유실되지 않도록 한다.
+        redisTemplate.executePipelined(new SessionCallback<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                keys.forEach(key -> operations.expire(key, SYNCED_VIEW_COUNT_TTL));
+                return null;
+            }
+        });
+        return postList.size();
     }
 
-    private String generatePostViewKey(Long postId) {
+    static String generatePostViewKey(Long postId) {
         return POST_VIEW_COUNT_PREFIX + REDIS_POST_VIEW_COUNT_KEY_DELIMITER + postId;
     }
 }
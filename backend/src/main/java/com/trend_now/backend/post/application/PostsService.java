@@ -2,6 +2,8 @@
  * 클래스 설명 : 게시글 관련 서비스
  * 메소드 설명
  * - findAllPostsPagingByBoardId() : 선택한 게시판의 게시글들을 페이징하여 조회한 후 반환
+ * - findPostsSliceByBoardId() : 선택한 게시판의 게시글들을 커서 기반으로 페이징하여 조회한 후 반환
+ * - countPostsByBoardId() : 선택한 게시판의 전체 게시글 수를 Redis 카운터에서 조회 (없다면 DB에서 세어 초기화)
  * - savePosts() : 회원이 작성한 게시글을 게시판에 저장
  */
 package com.trend_now.backend.post.application;
@@ -19,8 +21,10 @@ import com.trend_now.backend.image.application.ImagesService;
 import com.trend_now.backend.image.domain.Images;
 import com.trend_now.backend.image.dto.ImageInfoDto;
 import com.trend_now.backend.member.domain.Members;
+import com.trend_now.backend.opensearch.service.PostSearchOutboxService;
 import com.trend_now.backend.post.domain.Posts;
 import com.trend_now.backend.post.dto.CheckPostCooldownResponse;
+import com.trend_now.backend.post.dto.PostCursor;
 import com.trend_now.backend.post.dto.PostInfoResponseDto;
 import com.trend_now.backend.post.dto.PostSummaryDto;
 import com.trend_now.backend.post.dto.PostWithBoardSummaryDto;
@@ -38,6 +42,7 @@ import org.jetbrains.annotations.NotNull;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -72,9 +77,11 @@ public class PostsService {
     private final CommentsRepository commentsRepository;
     private final PostViewService postViewService;
     private final PostLikesService postLikesService;
+    private final PostCounterService postCounterService;
     private final ScrapService scrapService;
     private final RedisTemplate<Object, Object> redisTemplate;
     private final PostLikesRepository postLikesRepository;
+    private final PostSearchOutboxService postSearchOutboxService;
 
     // 게시판 조회 - 가변 타이머 작동 중에만 가능
     public Page<PostSummaryDto> findAllPostsPagingByBoardId(
@@ -94,17 +101,51 @@ public class PostsService {
             postsPagingRequestDto.getBoardId(), pageable);
 
         // 만약 redis에 저장된 게시글 조회수와 게시글 좋아요 수가 있다면, 해당 조회수를 PostSummaryDto에 설정 (Look Aside)
-        postSummmaryPage.forEach(postSummaryDto -> {
-            int postViewCount = postViewService.getPostViewCount(postSummaryDto.getPostId());
-            postSummaryDto.setViewCount(postViewCount);
-            int postLikesCount = postLikesService.getPostLikesCount(boards.getId(),
-                postSummaryDto.getPostId());
-            postSummaryDto.setLikeCount(postLikesCount);
-        });
+        postCounterService.applyCounters(postSummmaryPage.getContent(),
+            postSummaryDto -> boards.getId());
 
         return postSummmaryPage;
     }
 
+    /**
+     * 커서 기반 페이징으로 게시판의 게시글을 최신순 조회
+     * - 전체 게시글 수를 세지 않고 size + 1개만 조회하므로, 몇 번째 페이지든 첫 페이지와 비용이 같다
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지라면 null)
+     */
+    public Slice<PostSummaryDto> findPostsSliceByBoardId(Long boardId, String cursor, int size) {
+        Boards boards = boardRepository.findById(boardId)
+            .orElseThrow(() -> new NotFoundException(NOT_EXIST_BOARD));
+
+        Pageable pageable = PageRequest.of(0, size);
+        Slice<PostSummaryDto> postSummarySlice;
+        if (cursor == null || cursor.isBlank()) {
+            postSummarySlice = postsRepository.findLatestSliceByBoardsId(boards.getId(), pageable);
+        } else {
+            PostCursor postCursor = PostCursor.decode(cursor);
+            postSummarySlice = postsRepository.findSliceByBoardsIdAfterCursor(boards.getId(),
+                postCursor.getCreatedAt(), postCursor.getPostId(), pageable);
+        }
+
+        postCounterService.applyCounters(postSummarySlice.getContent(),
+            postSummaryDto -> boards.getId());
+
+        return postSummarySlice;
+    }
+
+    /**
+     * 게시판의 전체 게시글 수는 게시글 작성/삭제 시 함께 갱신되는 Redis 카운터에서 조회한다
+     * - 카운터가 없거나 만료되었다면 DB에서 한 번 세어 초기화한다
+     */
+    public long countPostsByBoardId(Long boardId) {
+        Long totalCount = boardRedisService.findPostTotalCount(boardId);
+        if (totalCount != null) {
+            return totalCount;
+        }
+        long dbTotalCount = postsRepository.countByBoards_Id(boardId);
+        boardRedisService.initPostTotalCount(boardId, dbTotalCount);
+        return dbTotalCount;
+    }
+
     /**
      * 게시글 작성, 수정 API에 응답되는 메서드
      */
@@ -159,7 +200,7 @@ public class PostsService {
         setViewCountAndPostLike(postId, postsInfoDto, boards);
 
         // 조회 시 조회수 증가
-        postViewService.incrementPostView(postId);
+        postViewService.incrementPostView(boardId, postId);
 
         List<ImageInfoDto> imagesByPost = imagesService.findImagesByPost(postId);
 
@@ -248,6 +289,8 @@ public class PostsService {
 
         boardRedisService.updatePostCountAndExpireTime(boards.getId(), boards.getName());
         Posts savePost = postsRepository.save(posts);
+        // 같은 트랜잭션에서 검색 색인 내역을 기록 (OpenSearch 반영은 PostSearchOutboxService가 비동기로 처리)
+        postSearchOutboxService.recordUpsert(savePost);
 
         // 저장돼 있던 이미지와 등록된 게시글 연관관계 설정
         if (postsSaveDto.getImageIds() != null) {
@@ -304,6 +347,8 @@ public class PostsService {
         posts.changePosts(postsUpdateRequestDto.getTitle(), postsUpdateRequestDto.getContent());
         // 이미지 삭제 벌크 연산 이후 1차 캐시가 초기화 되기 떄문에 강제로 flush
         postsRepository.flush();
+        // flush로 갱신된 updatedAt을 색인 버전으로 사용하므로 flush 이후에 기록
+        postSearchOutboxService.recordUpsert(posts);
 
         // 삭제된 이미지 서버에서 삭제
         List<Long> deleteImageIdList = postsUpdateRequestDto.getDeleteImageIdList();
@@ -352,6 +397,8 @@ public class PostsService {
             posts.getBoards().getName());
         // 게시글 삭제
         postsRepository.deleteById(postId);
+        postLikesService.evictPostCache(postId);
+        postSearchOutboxService.recordDelete(postId);
     }
 
     // 회원이 작성한 게시글 조회 - 가변 타이머 작동 중에만 가능
@@ -361,13 +408,8 @@ public class PostsService {
         Page<PostWithBoardSummaryDto> postSummmaryPage = postsRepository.findByMemberId(memberId,
             pageable);
         // 만약 redis에 저장된 게시글 조회수와 게시글 좋아요 수가 있다면, 해당 조회수를 PostSummaryDto에 설정 (Look Aside)
-        postSummmaryPage.forEach(postSummaryDto -> {
-            int postViewCount = postViewService.getPostViewCount(postSummaryDto.getPostId());
-            postSummaryDto.setViewCount(postViewCount);
-            int postLikesCount = postLikesService.getPostLikesCount(postSummaryDto.getBoardId(),
-                postSummaryDto.getPostId());
-            postSummaryDto.setLikeCount(postLikesCount);
-        });
+        postCounterService.applyCounters(postSummmaryPage.getContent(),
+            PostWithBoardSummaryDto::getBoardId);
 
         return postSummmaryPage;
     }
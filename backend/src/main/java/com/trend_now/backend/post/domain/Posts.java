@@ -9,9 +9,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -20,6 +22,10 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
+@Table(name = "posts", indexes = {
+    // 게시판별 최신순 커서 기반 페이징 (board_id, created_at, post_id) 조회용 인덱스
+    @Index(name = "idx_posts_board_created_at", columnList = "board_id, created_at, post_id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
@@ -52,6 +58,12 @@ public class Posts extends BaseEntity {
     @Column(nullable = false)
     private boolean modifiable = true;
 
+    // 목록 조회 시 댓글을 집계하지 않도록 댓글 작성/삭제 시 함께 갱신하는 댓글 수 (PostsRepository의 UPDATE 쿼리로만 변경)
+    // 게시글 수정 시 영속성 컨텍스트의 오래된 값으로 덮어쓰지 않도록 INSERT/UPDATE 컬럼에서 제외한다
+    @Builder.Default
+    @Column(nullable = false, insertable = false, updatable = false, columnDefinition = "bigint default 0")
+    private long commentCount = 0L;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "board_id")
     private Boards boards;
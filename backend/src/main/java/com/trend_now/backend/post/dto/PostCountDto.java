@@ -0,0 +1,15 @@
+package com.trend_now.backend.post.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글 ID별 집계 값(조회수, 좋아요 수)을 IN 쿼리 한 번으로 조회할 때 사용하는 DTO Projection
+ */
+@Getter
+@AllArgsConstructor
+public class PostCountDto {
+
+    private Long postId;
+    private Long count;
+}
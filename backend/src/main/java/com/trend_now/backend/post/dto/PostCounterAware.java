@@ -0,0 +1,12 @@
+package com.trend_now.backend.post.dto;
+
+/**
+ * 게시글 목록 DTO에 조회수와 좋아요 수를 일괄로 세팅하기 위한 인터페이스
+ * - PostCounterService.applyCounters()에 전달할 DTO는 PostCounterAware 인터페이스를 구현체로 진행
+ */
+public interface PostCounterAware {
+
+    Long getPostId();
+    void setViewCount(int viewCount);
+    void setLikeCount(int likeCount);
+}
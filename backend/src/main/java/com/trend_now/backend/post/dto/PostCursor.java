@@ -0,0 +1,56 @@
+/*
+ * 클래스 설명 : 게시글 커서 기반 페이징에 사용하는 커서 (마지막으로 조회한 게시글의 작성 시각, ID)
+ * - 클라이언트에는 내부 구조를 노출하지 않도록 Base64(URL-safe)로 인코딩한 불투명한 문자열로 전달한다
+ * 메소드 설명
+ * - from() : 마지막으로 조회한 게시글로 커서를 생성하는 메소드
+ * - of() : 작성 시각과 게시글 ID로 커서를 생성하는 메소드 (OpenSearch 검색 결과의 search_after 값 등)
+ * - encode() : 커서를 문자열로 인코딩하는 메소드
+ * - decode() : 클라이언트가 전달한 문자열을 커서로 디코딩하는 메소드
+ */
+package com.trend_now.backend.post.dto;
+
+import com.trend_now.backend.exception.customException.InvalidRequestException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class PostCursor {
+
+    private static final String CURSOR_DELIMITER = "_";
+    private static final String INVALID_CURSOR = "잘못된 게시글 커서입니다.";
+
+    private final LocalDateTime createdAt;
+    private final Long postId;
+
+    public static PostCursor from(PostSummaryDto postSummaryDto) {
+        return new PostCursor(postSummaryDto.getCreatedAt(), postSummaryDto.getPostId());
+    }
+
+    public static PostCursor of(LocalDateTime createdAt, Long postId) {
+        return new PostCursor(createdAt, postId);
+    }
+
+    public String encode() {
+        String cursor = createdAt + CURSOR_DELIMITER + postId;
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PostCursor decode(String encodedCursor) {
+        try {
+            String cursor = new String(Base64.getUrlDecoder().decode(encodedCursor),
+                StandardCharsets.UTF_8);
+            int delimiterIndex = cursor.lastIndexOf(CURSOR_DELIMITER);
+            return new PostCursor(LocalDateTime.parse(cursor.substring(0, delimiterIndex)),
+                Long.parseLong(cursor.substring(delimiterIndex + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidRequestException(INVALID_CURSOR);
+        }
+    }
+}
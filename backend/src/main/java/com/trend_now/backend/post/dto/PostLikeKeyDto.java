@@ -0,0 +1,17 @@
+package com.trend_now.backend.post.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * 좋아요 동기화 시 (게시글 ID, 회원 ID) 쌍을 표현하는 DTO
+ */
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+public class PostLikeKeyDto {
+
+    private Long postId;
+    private Long memberId;
+}
@@ -10,8 +10,10 @@ public class PostLikesResponseDto {
 
     private String message;
     private PostLikesAction postLikesAction;
+    private int likeCount;
 
-    public static PostLikesResponseDto of(String message, PostLikesAction postLikesAction) {
-        return new PostLikesResponseDto(message, postLikesAction);
+    public static PostLikesResponseDto of(String message, PostLikesAction postLikesAction,
+            int likeCount) {
+        return new PostLikesResponseDto(message, postLikesAction, likeCount);
     }
 }
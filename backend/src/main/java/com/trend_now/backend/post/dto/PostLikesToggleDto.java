@@ -0,0 +1,20 @@
+package com.trend_now.backend.post.dto;
+
+import com.trend_now.backend.post.domain.PostLikesAction;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 좋아요 토글 결과 (좋아요 상태, 토글 이후의 좋아요 개수)
+ */
+@Getter
+@AllArgsConstructor
+public class PostLikesToggleDto {
+
+    private PostLikesAction postLikesAction;
+    private int likeCount;
+
+    public static PostLikesToggleDto of(PostLikesAction postLikesAction, int likeCount) {
+        return new PostLikesToggleDto(postLikesAction, likeCount);
+    }
+}
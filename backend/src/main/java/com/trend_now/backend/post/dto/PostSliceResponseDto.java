@@ -0,0 +1,28 @@
+/*
+ * 클래스 설명 : 게시글 커서 기반 페이징 반환 DTO
+ * - nextCursor : 다음 게시글 목록을 조회할 때 전달할 커서 (다음 게시글이 없다면 null)
+ */
+package com.trend_now.backend.post.dto;
+
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+
+@Data
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class PostSliceResponseDto {
+
+    private final String message;
+    private final long totalCount;
+    private final String boardName;
+    private final List<PostSummaryDto> postsListDto;
+    private final boolean hasNext;
+    private final String nextCursor;
+
+    public static PostSliceResponseDto of(String message, long totalCount, String boardName,
+        List<PostSummaryDto> postsListDto, boolean hasNext, String nextCursor) {
+        return new PostSliceResponseDto(message, totalCount, boardName, postsListDto, hasNext,
+            nextCursor);
+    }
+}
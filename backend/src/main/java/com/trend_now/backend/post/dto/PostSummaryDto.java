@@ -7,7 +7,7 @@ import lombok.Setter;
 
 @Getter
 @AllArgsConstructor
-public class PostSummaryDto {
+public class PostSummaryDto implements PostCounterAware {
     private Long postId;
     private String title;
     private String writer;
@@ -7,7 +7,7 @@ import lombok.Setter;
 
 @Getter
 @AllArgsConstructor
-public class PostWithBoardSummaryDto {
+public class PostWithBoardSummaryDto implements PostCounterAware {
     private Long postId;
     private String title;
     private String writer;
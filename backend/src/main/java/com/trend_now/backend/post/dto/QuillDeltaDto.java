@@ -11,6 +11,22 @@ public class QuillDeltaDto {
 
     private List<QuillOp> ops;
 
+    /**
+     * 텍스트 insert만 이어 붙여 본문의 순수 텍스트를 반환한다 (이미지 등 Map 형식의 insert는 제외)
+     */
+    public String toPlainText() {
+        if (ops == null) {
+            return "";
+        }
+        StringBuilder plainText = new StringBuilder();
+        for (QuillOp op : ops) {
+            if (op.getInsert() instanceof String text) {
+                plainText.append(text);
+            }
+        }
+        return plainText.toString();
+    }
+
     @Getter
     @Setter
     @JsonIgnoreProperties(ignoreUnknown = true)
@@ -5,6 +5,7 @@ import com.trend_now.backend.post.application.PostLikesService;
 import com.trend_now.backend.post.domain.PostLikesAction;
 import com.trend_now.backend.post.dto.PostLikesIncrementDto;
 import com.trend_now.backend.post.dto.PostLikesResponseDto;
+import com.trend_now.backend.post.dto.PostLikesToggleDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -41,11 +42,13 @@ public class PostLikesController {
         PostLikesIncrementDto postLikesIncrementDto = PostLikesIncrementDto.of(member.getName(),
                 boardId, postId);
 
-        PostLikesAction postLikesAction = postLikesService.increaseLikeLock(postLikesIncrementDto);
+        PostLikesToggleDto postLikesToggleDto = postLikesService.toggleLike(postLikesIncrementDto);
+        PostLikesAction postLikesAction = postLikesToggleDto.getPostLikesAction();
         String message =
                 postLikesAction == PostLikesAction.LIKED ? SUCCESS_INCREMENT_POSTLIKES_MESSAGE
                         : SUCCESS_CANCEL_POSTLIKES_MESSAGE;
 
-        return ResponseEntity.status(HttpStatus.OK).body(PostLikesResponseDto.of(message, postLikesAction));
+        return ResponseEntity.status(HttpStatus.OK).body(PostLikesResponseDto.of(message, postLikesAction,
+                postLikesToggleDto.getLikeCount()));
     }
 }
@@ -7,7 +7,9 @@ import com.trend_now.backend.global.dto.ApiResponse;
 import com.trend_now.backend.member.domain.Members;
 import com.trend_now.backend.post.application.PostsService;
 import com.trend_now.backend.post.dto.CheckPostCooldownResponse;
+import com.trend_now.backend.post.dto.PostCursor;
 import com.trend_now.backend.post.dto.PostInfoResponseDto;
+import com.trend_now.backend.post.dto.PostSliceResponseDto;
 import com.trend_now.backend.post.dto.PostSummaryDto;
 import com.trend_now.backend.post.dto.PostsPagingRequestDto;
 import com.trend_now.backend.post.dto.PostListResponseDto;
@@ -16,9 +18,11 @@ import com.trend_now.backend.post.dto.PostsUpdateRequestDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -68,6 +72,27 @@ public class PostsController {
                 boardName, postSummaryDtoPage.getContent()));
     }
 
+    @Operation(summary = "게시글 목록 커서 조회", description = "게시판의 게시글을 커서 기반으로 페이징하여 최신순으로 조회합니다.")
+    @GetMapping("/posts/cursor")
+    public ResponseEntity<PostSliceResponseDto> findPostsSliceByBoardId(
+        @PathVariable Long boardId,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false, defaultValue = "10") int size) {
+
+        String boardName = boardService.getBoardNameById(boardId);
+        Slice<PostSummaryDto> postSummaryDtoSlice = postsService.findPostsSliceByBoardId(boardId,
+            cursor, size);
+        long totalCount = postsService.countPostsByBoardId(boardId);
+
+        List<PostSummaryDto> content = postSummaryDtoSlice.getContent();
+        String nextCursor = postSummaryDtoSlice.hasNext()
+            ? PostCursor.from(content.get(content.size() - 1)).encode() : null;
+
+        return ResponseEntity.status(HttpStatus.OK)
+            .body(PostSliceResponseDto.of(SUCCESS_PAGING_POSTS_MESSAGE, totalCount, boardName,
+                content, postSummaryDtoSlice.hasNext(), nextCursor));
+    }
+
     @Operation(summary = "게시글 상세 조회", description = "게시판의 게시글을 상세 조회합니다.")
     @GetMapping("/posts/{postId}")
     public ResponseEntity<ApiResponse<PostInfoResponseDto>> findPostById(
@@ -0,0 +1,65 @@
+package com.trend_now.backend.post.repository;
+
+import com.trend_now.backend.post.dto.PostLikeKeyDto;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 좋아요 Write-Back 동기화에서 사용하는 JDBC 배치 전용 Repository
+ * - JPA의 saveAll/delete는 엔티티 단위로 쿼리가 실행되므로, 대량 동기화는 JDBC 배치로 처리한다
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostLikesJdbcRepository {
+
+    private static final int DELETE_CHUNK_SIZE = 500;
+    private static final String INSERT_IGNORE_DUPLICATE_SQL = """
+        INSERT INTO post_likes (post_id, member_id, created_at, updated_at)
+        VALUES (?, ?, ?, ?)
+        ON DUPLICATE KEY UPDATE updated_at = updated_at
+        """;
+    private static final String DELETE_SQL_PREFIX = "DELETE FROM post_likes WHERE (post_id, member_id) IN (";
+    private static final String DELETE_SQL_PLACEHOLDER = "(?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * (post_id, member_id) 유니크 키를 기준으로 이미 존재하는 좋아요는 무시하고 저장한다
+     */
+    public void batchInsert(List<PostLikeKeyDto> postLikeKeys) {
+        if (postLikeKeys.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batchArgs = postLikeKeys.stream()
+            .map(key -> new Object[]{key.getPostId(), key.getMemberId(), now, now})
+            .toList();
+        jdbcTemplate.batchUpdate(INSERT_IGNORE_DUPLICATE_SQL, batchArgs);
+    }
+
+    /**
+     * DELETE ... WHERE (post_id, member_id) IN (...) 형태로 DELETE_CHUNK_SIZE개씩 나누어 삭제한다
+     */
+    public void batchDelete(List<PostLikeKeyDto> postLikeKeys) {
+        for (int from = 0; from < postLikeKeys.size(); from += DELETE_CHUNK_SIZE) {
+            List<PostLikeKeyDto> chunk = postLikeKeys.subList(from,
+                Math.min(from + DELETE_CHUNK_SIZE, postLikeKeys.size()));
+
+            String sql = DELETE_SQL_PREFIX
+                + String.join(", ", Collections.nCopies(chunk.size(), DELETE_SQL_PLACEHOLDER))
+                + ")";
+            List<Object> args = new ArrayList<>(chunk.size() * 2);
+            chunk.forEach(key -> {
+                args.add(key.getPostId());
+                args.add(key.getMemberId());
+            });
+            jdbcTemplate.update(sql, args.toArray());
+        }
+    }
+}
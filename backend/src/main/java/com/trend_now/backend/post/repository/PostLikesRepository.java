@@ -1,6 +1,10 @@
 package com.trend_now.backend.post.repository;
 
 import com.trend_now.backend.post.domain.PostLikes;
+import com.trend_now.backend.post.dto.PostCountDto;
+import com.trend_now.backend.post.dto.PostLikeKeyDto;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -17,4 +21,19 @@ public interface PostLikesRepository extends JpaRepository<PostLikes, Long> {
     Set<String> findMembersNameByPostsId(@Param("postId") Long postId);
 
     Set<PostLikes> findByPostsId(Long postId);
+
+    @Query("""
+        SELECT new com.trend_now.backend.post.dto.PostCountDto(pl.posts.id, COUNT(pl.id))
+        FROM PostLikes pl
+        WHERE pl.posts.id IN :postIds
+        GROUP BY pl.posts.id
+        """)
+    List<PostCountDto> countByPostsIdIn(@Param("postIds") Collection<Long> postIds);
+
+    @Query("""
+        SELECT new com.trend_now.backend.post.dto.PostLikeKeyDto(pl.posts.id, pl.members.id)
+        FROM PostLikes pl
+        WHERE pl.posts.id IN :postIds
+        """)
+    List<PostLikeKeyDto> findLikeKeysByPostsIdIn(@Param("postIds") Collection<Long> postIds);
 }
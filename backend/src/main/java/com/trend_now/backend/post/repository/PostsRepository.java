@@ -1,19 +1,22 @@
 package com.trend_now.backend.post.repository;
 
 import com.trend_now.backend.post.domain.Posts;
+import com.trend_now.backend.post.dto.PostCountDto;
 import com.trend_now.backend.post.dto.PostSummaryDto;
 import com.trend_now.backend.post.dto.PostWithBoardSummaryDto;
 import com.trend_now.backend.post.dto.PostsInfoDto;
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface PostsRepository extends JpaRepository<Posts, Long> {
 
@@ -22,26 +25,77 @@ public interface PostsRepository extends JpaRepository<Posts, Long> {
                 p.id,
                 p.title,
                 p.writer,
-                COALESCE(COUNT(c.id), 0),
+                p.commentCount,
                 p.modifiable,
                 p.createdAt,
                 p.updatedAt
         )
         FROM Posts p
-        LEFT JOIN Comments c ON c.posts.id = p.id
         WHERE p.boards.id = :boardsId
-        GROUP BY p.id, p.title, p.writer, p.modifiable, p.createdAt, p.updatedAt
     """)
     Page<PostSummaryDto> findAllByBoardsId(@Param("boardsId") Long boardsId, Pageable pageable);
 
+    /**
+     * 게시판의 첫 번째 게시글 목록을 최신순으로 조회 (커서 기반 페이징)
+     * - Slice를 반환하므로 COUNT 쿼리 없이 size + 1개만 조회하여 다음 페이지 존재 여부를 판단한다
+     */
+    @Query("""
+        SELECT new com.trend_now.backend.post.dto.PostSummaryDto(
+                p.id,
+                p.title,
+                p.writer,
+                p.commentCount,
+                p.modifiable,
+                p.createdAt,
+                p.updatedAt
+        )
+        FROM Posts p
+        WHERE p.boards.id = :boardsId
+        ORDER BY p.createdAt DESC, p.id DESC
+        """)
+    Slice<PostSummaryDto> findLatestSliceByBoardsId(@Param("boardsId") Long boardsId,
+        Pageable pageable);
+
+    /**
+     * 커서(마지막으로 조회한 게시글의 작성 시각, ID) 이후의 게시글 목록을 최신순으로 조회
+     * - OFFSET 없이 (board_id, created_at, post_id) 인덱스에서 커서 위치부터 읽으므로 몇 번째 페이지든 비용이 같다
+     */
+    @Query("""
+        SELECT new com.trend_now.backend.post.dto.PostSummaryDto(
+                p.id,
+                p.title,
+                p.writer,
+                p.commentCount,
+                p.modifiable,
+                p.createdAt,
+                p.updatedAt
+        )
+        FROM Posts p
+        WHERE p.boards.id = :boardsId
+        AND (p.createdAt < :cursorCreatedAt
+            OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorPostId))
+        ORDER BY p.createdAt DESC, p.id DESC
+        """)
+    Slice<PostSummaryDto> findSliceByBoardsIdAfterCursor(@Param("boardsId") Long boardsId,
+        @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+        @Param("cursorPostId") Long cursorPostId, Pageable pageable);
+
+    long countByBoards_Id(Long boardsId);
+
     void deleteAllByMembers_Id(Long membersId);
 
+    @Query("SELECT p.id FROM Posts p WHERE p.members.id = :membersId")
+    List<Long> findIdsByMembersId(@Param("membersId") Long membersId);
+
+    // 전체 재색인 시 게시글 ID 순서로 나누어 조회
+    List<Posts> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
     @Query("""
         SELECT new com.trend_now.backend.post.dto.PostWithBoardSummaryDto(
                 p.id,
                 p.title,
                 p.writer,
-                COALESCE(COUNT(c.id), 0),
+                p.commentCount,
                 p.modifiable,
                 p.createdAt,
                 p.updatedAt,
@@ -49,19 +103,56 @@ public interface PostsRepository extends JpaRepository<Posts, Long> {
                 p.boards.name
         )
         FROM Posts p
-        LEFT JOIN Comments c ON c.posts.id = p.id
         WHERE p.members.id = :membersId
-        GROUP BY p.id, p.title, p.writer, p.modifiable, p.createdAt, p.updatedAt
         """)
     Page<PostWithBoardSummaryDto> findByMemberId(@Param("membersId") Long membersId, Pageable pageable);
 
-    // 게시글 제목, 내용에 키워드가 포함된 게시글 중, 실시간 검색어 게시판에 속한 게시물 조회
+    // OpenSearch에서 검색한 게시글 ID 목록으로 게시판 정보를 포함한 게시글 목록 조회
     @Query("""
         SELECT new com.trend_now.backend.post.dto.PostWithBoardSummaryDto(
                 p.id,
                 p.title,
                 p.writer,
-                COALESCE(COUNT(c.id), 0),
+                p.commentCount,
+                p.modifiable,
+                p.createdAt,
+                p.updatedAt,
+                p.boards.id,
+                p.boards.name
+        )
+        FROM Posts p
+        WHERE p.id IN :postIds
+        """)
+    List<PostWithBoardSummaryDto> findPostWithBoardSummariesByIdIn(
+        @Param("postIds") Collection<Long> postIds);
+
+    // OpenSearch에서 검색한 게시글 ID 목록으로 게시글 목록 조회
+    @Query("""
+        SELECT new com.trend_now.backend.post.dto.PostSummaryDto(
+                p.id,
+                p.title,
+                p.writer,
+                p.commentCount,
+                p.modifiable,
+                p.createdAt,
+                p.updatedAt
+        )
+        FROM Posts p
+        WHERE p.id IN :postIds
+        """)
+    List<PostSummaryDto> findPostSummariesByIdIn(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * 게시글 제목, 내용에 키워드가 포함된 게시글 중, 실시간 검색어 게시판에 속한 게시물 조회
+     * - OpenSearch posts 인덱스 색인이 끝나기 전에만 사용하는 검색 경로
+     * - 커서가 있다면 커서 이후부터 조회하며, 전체 게시글 수는 커서와 관계없이 집계한다
+     */
+    @Query(value = """
+        SELECT new com.trend_now.backend.post.dto.PostWithBoardSummaryDto(
+                p.id,
+                p.title,
+                p.writer,
+                p.commentCount,
                 p.modifiable,
                 p.createdAt,
                 p.updatedAt,
@@ -69,32 +160,51 @@ public interface PostsRepository extends JpaRepository<Posts, Long> {
                 p.boards.name
         )
         FROM Posts p
-        LEFT JOIN Comments c ON c.posts.id = p.id
         WHERE (p.boards.id IN :boardIds)
         AND (p.content LIKE %:keyword% OR p.title LIKE %:keyword%)
-        GROUP BY p.id, p.title, p.writer, p.modifiable, p.createdAt, p.updatedAt
+        AND (:cursorPostId IS NULL OR p.createdAt < :cursorCreatedAt
+            OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorPostId))
+        ORDER BY p.createdAt DESC, p.id DESC
+        """, countQuery = """
+        SELECT COUNT(p) FROM Posts p
+        WHERE (p.boards.id IN :boardIds)
+        AND (p.content LIKE %:keyword% OR p.title LIKE %:keyword%)
         """)
     Page<PostWithBoardSummaryDto> findByKeywordAndRealTimeBoard(
-        @Param("keyword") String keyword, @Param("boardIds") Set<Long> boardIds, Pageable pageable);
+        @Param("keyword") String keyword, @Param("boardIds") Collection<Long> boardIds,
+        @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+        @Param("cursorPostId") Long cursorPostId, Pageable pageable);
 
-    @Query("""
+    /**
+     * 게시글 제목, 내용에 키워드가 포함된 고정 게시판의 게시물 조회
+     * - OpenSearch posts 인덱스 색인이 끝나기 전에만 사용하는 검색 경로
+     * - 커서가 있다면 커서 이후부터 조회하며, 전체 게시글 수는 커서와 관계없이 집계한다
+     */
+    @Query(value = """
         SELECT new com.trend_now.backend.post.dto.PostSummaryDto(
                 p.id,
                 p.title,
                 p.writer,
-                COALESCE(COUNT(c.id), 0),
+                p.commentCount,
                 p.modifiable,
                 p.createdAt,
                 p.updatedAt
         )
         FROM Posts p
-        LEFT JOIN Comments c ON c.posts.id = p.id
         WHERE p.boards.id = :fixBoardId
         AND (p.content LIKE %:keyword% OR p.title LIKE %:keyword%)
-        GROUP BY p.id, p.title, p.writer, p.modifiable, p.createdAt, p.updatedAt
+        AND (:cursorPostId IS NULL OR p.createdAt < :cursorCreatedAt
+            OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorPostId))
+        ORDER BY p.createdAt DESC, p.id DESC
+        """, countQuery = """
+        SELECT COUNT(p) FROM Posts p
+        WHERE p.boards.id = :fixBoardId
+        AND (p.content LIKE %:keyword% OR p.title LIKE %:keyword%)
         """)
     Page<PostSummaryDto> findByFixBoardsAndKeyword(@Param("keyword") String keyword,
-        @Param("fixBoardId") Long fixBoardId, Pageable pageable);
+        @Param("fixBoardId") Long fixBoardId,
+        @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+        @Param("cursorPostId") Long cursorPostId, Pageable pageable);
 
     @Modifying
     @Query("UPDATE Posts p SET p.modifiable = false WHERE p.boards.id = :boardsId AND p.modifiable = true")
@@ -106,9 +216,7 @@ public interface PostsRepository extends JpaRepository<Posts, Long> {
                 p.title,
                 p.writer,
                 p.content,
-                (SELECT COUNT(c)
-                FROM Comments c
-                WHERE c.posts.id = p.id),
+                p.commentCount,
                 p.modifiable,
                 p.boards.name,
                 p.createdAt,
@@ -120,11 +228,45 @@ public interface PostsRepository extends JpaRepository<Posts, Long> {
     """)
     Optional<PostsInfoDto> findPostInfoById(Long postId);
 
+    @Modifying
+    @Query("UPDATE Posts p SET p.commentCount = p.commentCount + 1 WHERE p.id = :postId")
+    void incrementCommentCount(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("UPDATE Posts p SET p.commentCount = p.commentCount - 1 WHERE p.id = :postId AND p.commentCount > 0")
+    void decrementCommentCount(@Param("postId") Long postId);
+
+    @Query("SELECT COALESCE(MAX(p.id), 0) FROM Posts p")
+    long findMaxId();
+
+    /**
+     * (fromId, toId] 범위 게시글의 댓글 수를 comments 테이블 기준으로 다시 계산
+     * - 기존 게시글의 comment_count 백필에 사용하며, 범위 단위로 나누어 한 번에 잠그는 행 수를 제한한다
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+        UPDATE posts p
+        SET p.comment_count = (SELECT COUNT(*) FROM comments c WHERE c.post_id = p.post_id)
+        WHERE p.post_id > :fromId AND p.post_id <= :toId
+        """, nativeQuery = true)
+    int backfillCommentCount(@Param("fromId") long fromId, @Param("toId") long toId);
+
     @Query("SELECT p.viewCount FROM Posts p WHERE p.id = :postId")
     int findViewCountById(Long postId);
 
     List<Posts> findByIdIn(Collection<Long> ids);
 
+    @Query("SELECT p.id FROM Posts p WHERE p.id IN :ids")
+    List<Long> findIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+        SELECT new com.trend_now.backend.post.dto.PostCountDto(p.id, CAST(p.viewCount AS Long))
+        FROM Posts p
+        WHERE p.id IN :postIds
+        """)
+    List<PostCountDto> findViewCountsByIdIn(@Param("postIds") Collection<Long> postIds);
+
     @Query("SELECT p FROM Posts p JOIN FETCH p.boards WHERE p.id = :postId")
     Optional<Posts> findByIdWithBoard(@Param("postId") Long postId);
 }
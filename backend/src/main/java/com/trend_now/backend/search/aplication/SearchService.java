@@ -2,31 +2,37 @@ package com.trend_now.backend.search.aplication;
 
 import static com.trend_now.backend.board.application.BoardRedisService.BOARD_KEY_DELIMITER;
 
+import com.trend_now.backend.board.application.BoardAggregateService;
 import com.trend_now.backend.board.cache.BoardCacheEntry;
 import com.trend_now.backend.board.cache.BoardCache;
 import com.trend_now.backend.board.dto.RealtimeBoardDto;
 import com.trend_now.backend.board.repository.BoardRepository;
 import com.trend_now.backend.exception.customException.NotFoundException;
-import com.trend_now.backend.post.application.PostLikesService;
-import com.trend_now.backend.post.application.PostViewService;
+import com.trend_now.backend.opensearch.dto.PostSearchResult;
+import com.trend_now.backend.opensearch.service.PostSearchBootstrapService;
+import com.trend_now.backend.opensearch.service.PostSearchIndexService;
+import com.trend_now.backend.post.application.PostCounterService;
+import com.trend_now.backend.post.dto.PostCursor;
 import com.trend_now.backend.post.dto.PostSummaryDto;
 import com.trend_now.backend.post.dto.PostWithBoardSummaryDto;
 import com.trend_now.backend.search.dto.FixedPostSearchDto;
 import com.trend_now.backend.search.dto.RealtimePostSearchDto;
 import com.trend_now.backend.post.repository.PostsRepository;
 import com.trend_now.backend.search.dto.BoardRedisKey;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
@@ -39,25 +45,25 @@ public class SearchService {
     private final BoardCache boardCache;
     private final BoardRepository boardRepository;
     private final RedisTemplate<String, String> redisTemplate;
-    private final PostLikesService postLikesService;
-    private final PostViewService postViewService;
+    private final BoardAggregateService boardAggregateService;
+    private final PostCounterService postCounterService;
+    private final PostSearchIndexService postSearchIndexService;
+    private final PostSearchBootstrapService postSearchBootstrapService;
 
     /**
      * 검색어에 따른 실시간 인기 게시판 조회
      */
     public List<RealtimeBoardDto> findRealtimeBoardsByKeyword(String keyword) {
-        Map<Long, BoardCacheEntry> boardCacheEntryMap = boardCache.getBoardCacheEntryMap()
-            .asMap();
-        // 검색어가 포함된 게시판 목록 필터링
-        List<Long> filteredBoardIds = boardCacheEntryMap.entrySet().stream()
-            .filter(entry -> entry.getValue().getBoardName().contains(keyword))
-            .map(Entry::getKey)
+        // 검색어가 포함된 게시판 목록을 게시판 이름 색인에서 조회
+        List<Long> filteredBoardIds = boardCache.searchRealtimeBoards(keyword, Integer.MAX_VALUE)
+            .stream()
+            .map(BoardRedisKey::getBoardId)
             .toList();
 
-        // 검색될 경우 게시판에 대한 총 조회수를 보여줘야 하기 때문에 강제로 Redis와 DB를 동기화
-        postViewService.syncViewCountToDatabase();
+        // 게시판에 대한 총 조회수는 DB 집계값에 Redis의 미반영 증감분을 합산하여 보여준다
         List<RealtimeBoardDto> realtimeBoardList = boardRepository.findRealtimeBoardsByIds(
             filteredBoardIds);
+        boardAggregateService.applyAggregates(realtimeBoardList);
 
         // 실시간 게시판 만료 시간 데이터 DTO에 추가
         realtimeBoardList.forEach(board -> {
@@ -70,94 +76,152 @@ public class SearchService {
 
     /**
      * 검색어에 따른 실시간 인기 게시판의 게시글 조회
+     * - OpenSearch posts 인덱스에서 캐싱된 실시간 게시판에 속한 게시글 ID를 최신순으로 검색한 후, DB에서 게시글 정보를 조회
+     * - 기존 게시글 색인이 끝나기 전에는 DB 검색(LIKE)으로 조회한다
+     * @param cursor 이전 검색 결과의 nextCursor (첫 페이지라면 null)
+     * @param page   커서 대신 페이지 번호로 조회하는 경우의 페이지 번호 (1부터 시작, 커서가 있다면 무시)
      */
-    public RealtimePostSearchDto findRealtimePostsByKeyword(String keyword, int page, int size) {
+    public RealtimePostSearchDto findRealtimePostsByKeyword(String keyword, String cursor,
+        Integer page, int size) {
         // 캐싱된 실시간 게시판 목록 조회
-        Map<Long, BoardCacheEntry> boardCacheEntryMap = boardCache.getBoardCacheEntryMap()
-            .asMap();
-        // 작성 날짜 기준 최신순, 작성 날짜가 값은 값은 수정 날짜 기준 최신순으로 정렬
-        Pageable pageable = PageRequest.of(page - 1, size,
-            Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("updatedAt")));
-
-        Set<Long> boardIds = boardCacheEntryMap.keySet();
-        Page<PostWithBoardSummaryDto> postWithBoardSummaryList = postsRepository.findByKeywordAndRealTimeBoard(
-            keyword, boardIds, pageable);
-        postWithBoardSummaryList.forEach(postWithBoardSummary -> {
-            // 만약 redis에 저장된 게시글 조회수와 게시글 좋아요 수가 있다면, 해당 조회수를 PostSummaryDto에 설정 (Look Aside)
-            int postViewCount = postViewService.getPostViewCount(postWithBoardSummary.getPostId());
-            postWithBoardSummary.setViewCount(postViewCount);
-            int postLikesCount = postLikesService.getPostLikesCount(
-                postWithBoardSummary.getBoardId(), postWithBoardSummary.getPostId());
-            postWithBoardSummary.setLikeCount(postLikesCount);
-        });
-        return RealtimePostSearchDto.of(
-            postWithBoardSummaryList.getTotalPages(), postWithBoardSummaryList.getTotalElements(),
-            postWithBoardSummaryList.getContent());
+        Set<Long> boardIds = boardCache.getBoardCacheEntryMap().asMap().keySet();
+        PostCursor postCursor = decodeCursor(cursor);
+
+        if (!postSearchBootstrapService.isReady()) {
+            Page<PostWithBoardSummaryDto> postWithBoardSummaryPage = boardIds.isEmpty()
+                ? Page.empty()
+                : postsRepository.findByKeywordAndRealTimeBoard(keyword, boardIds,
+                    cursorCreatedAt(postCursor), cursorPostId(postCursor),
+                    toPageable(postCursor, page, size));
+            List<PostWithBoardSummaryDto> postWithBoardSummaryList =
+                postWithBoardSummaryPage.getContent();
+            postCounterService.applyCounters(postWithBoardSummaryList,
+                PostWithBoardSummaryDto::getBoardId);
+            String nextCursor = postWithBoardSummaryPage.hasNext()
+                ? PostCursor.of(postWithBoardSummaryList.getLast().getCreateAt(),
+                    postWithBoardSummaryList.getLast().getPostId()).encode()
+                : null;
+            return RealtimePostSearchDto.of(
+                toTotalPageCount(postWithBoardSummaryPage.getTotalElements(), size),
+                postWithBoardSummaryPage.getTotalElements(), postWithBoardSummaryList, nextCursor);
+        }
 
+        PostSearchResult searchResult = postSearchIndexService.search(keyword, boardIds,
+            postCursor, toOffset(postCursor, page, size), size);
+        List<PostWithBoardSummaryDto> postWithBoardSummaryList = sortBySearchResult(
+            searchResult.postIds().isEmpty() ? List.of()
+                : postsRepository.findPostWithBoardSummariesByIdIn(searchResult.postIds()),
+            PostWithBoardSummaryDto::getPostId, searchResult.postIds());
+
+        // 만약 redis에 저장된 게시글 조회수와 게시글 좋아요 수가 있다면, 해당 조회수를 PostSummaryDto에 설정 (Look Aside)
+        postCounterService.applyCounters(postWithBoardSummaryList,
+            PostWithBoardSummaryDto::getBoardId);
+        return RealtimePostSearchDto.of(toTotalPageCount(searchResult.totalCount(), size),
+            searchResult.totalCount(), postWithBoardSummaryList, encodeCursor(searchResult));
     }
 
     /**
      * 캐싱 되어 있는 고정 게시판 목록에 속한 게시글 중, 내용 또는 제목에 keyword가 포함된 게시글을 조회합니다.
+     * - 기존 게시글 색인이 끝나기 전에는 DB 검색(LIKE)으로 조회한다
+     * @param cursor 이전 검색 결과의 nextCursor (첫 페이지라면 null)
+     * @param page   커서 대신 페이지 번호로 조회하는 경우의 페이지 번호 (1부터 시작, 커서가 있다면 무시)
      */
-    public FixedPostSearchDto findFixedPostsByKeyword(String keyword, Long boardId, int page,
-        int size) {
+    public FixedPostSearchDto findFixedPostsByKeyword(String keyword, Long boardId, String cursor,
+        Integer page, int size) {
         ConcurrentMap<Long, BoardCacheEntry> fixedBoardCacheMap = boardCache.getFixedBoardCacheMap()
             .asMap();
         if (!fixedBoardCacheMap.containsKey(boardId)) {
             log.error("{}은 고정게시판 목록에 존재하지 않는 아이디입니다.", boardId);
             throw new NotFoundException("해당 게시판이 고정게시판 목록에 존재하지 않습니다.");
         }
-        // 작성 날짜 기준 최신순, 작성 날짜가 값은 값은 수정 날짜 기준 최신순으로 정렬
-        Pageable pageable = PageRequest.of(page - 1, size,
-            Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("updatedAt")));
+        PostCursor postCursor = decodeCursor(cursor);
+
+        if (!postSearchBootstrapService.isReady()) {
+            Page<PostSummaryDto> postSummaryPage = postsRepository.findByFixBoardsAndKeyword(
+                keyword, boardId, cursorCreatedAt(postCursor), cursorPostId(postCursor),
+                toPageable(postCursor, page, size));
+            List<PostSummaryDto> postSummaryList = postSummaryPage.getContent();
+            postCounterService.applyCounters(postSummaryList, postSummaryDto -> boardId);
+            String nextCursor = postSummaryPage.hasNext()
+                ? PostCursor.from(postSummaryList.getLast()).encode() : null;
+            return FixedPostSearchDto.of(toTotalPageCount(postSummaryPage.getTotalElements(), size),
+                postSummaryPage.getTotalElements(), postSummaryList, nextCursor);
+        }
 
         // boardId에 속한 게시글 중, 내용 또는 제목에 keyword가 포함된 게시글 조회
-        Page<PostSummaryDto> postSummaryDtoPage = postsRepository.findByFixBoardsAndKeyword(
-            keyword, boardId, pageable);
-
-        postSummaryDtoPage.forEach(postSummaryDto -> {
-            // 만약 redis에 저장된 게시글 조회수와 게시글 좋아요 수가 있다면, 해당 조회수를 PostSummaryDto에 설정 (Look Aside)
-            int postViewCount = postViewService.getPostViewCount(postSummaryDto.getPostId());
-            postSummaryDto.setViewCount(postViewCount);
-            int postLikesCount = postLikesService.getPostLikesCount(boardId, postSummaryDto.getPostId());
-            postSummaryDto.setLikeCount(postLikesCount);
-        });
+        PostSearchResult searchResult = postSearchIndexService.search(keyword, List.of(boardId),
+            postCursor, toOffset(postCursor, page, size), size);
+        List<PostSummaryDto> postSummaryList = sortBySearchResult(
+            searchResult.postIds().isEmpty() ? List.of()
+                : postsRepository.findPostSummariesByIdIn(searchResult.postIds()),
+            PostSummaryDto::getPostId, searchResult.postIds());
+
+        // 만약 redis에 저장된 게시글 조회수와 게시글 좋아요 수가 있다면, 해당 조회수를 PostSummaryDto에 설정 (Look Aside)
+        postCounterService.applyCounters(postSummaryList, postSummaryDto -> boardId);
+
+        return FixedPostSearchDto.of(toTotalPageCount(searchResult.totalCount(), size),
+            searchResult.totalCount(), postSummaryList, encodeCursor(searchResult));
+    }
 
-        return FixedPostSearchDto.of(postSummaryDtoPage.getTotalPages(),
-            postSummaryDtoPage.getTotalElements(), postSummaryDtoPage.getContent());
+    /**
+     * IN 쿼리는 순서를 보장하지 않으므로 OpenSearch 검색 결과(최신순)의 순서로 정렬한다
+     * - 색인 이후 DB에서 삭제된 게시글은 결과에서 제외된다
+     */
+    private static <T> List<T> sortBySearchResult(List<T> posts, Function<T, Long> postIdGetter,
+        List<Long> postIds) {
+        Map<Long, T> postMap = posts.stream()
+            .collect(Collectors.toMap(postIdGetter, Function.identity()));
+        return postIds.stream()
+            .map(postMap::get)
+            .filter(Objects::nonNull)
+            .toList();
     }
 
-    // 게시판 이름 자동완성 메서드
-    public List<BoardRedisKey> findBoardsByPrefix(String prefix) {
-        // 공백 제거
-        String trimmedPrefix = prefix.replaceAll(" ", "");
-        // 캐싱해놓은 실시간 인기 검색어 리스트 조회
-        ConcurrentMap<Long, BoardCacheEntry> boardCacheEntryMap = boardCache.getBoardCacheEntryMap()
-            .asMap();
-        // 캐싱해놓은 고정 게시판 리스트 조회
-        ConcurrentMap<Long, BoardCacheEntry> fixedBoardCacheMap = boardCache.getFixedBoardCacheMap()
-            .asMap();
+    private static PostCursor decodeCursor(String cursor) {
+        return cursor == null || cursor.isBlank() ? null : PostCursor.decode(cursor);
+    }
 
-        List<BoardRedisKey> filteredBoards = boardCacheEntryMap.entrySet().stream()
-            .filter(fixedBoard -> fixedBoard.getValue().getBoardName().replaceAll(" ", "")
-                .contains(trimmedPrefix))
-            .map(fixedBoard -> BoardRedisKey.builder()
-                .boardId(fixedBoard.getKey())
-                .boardName(fixedBoard.getValue().getBoardName())
-                .build())
-            .toList();
+    /**
+     * 커서가 있다면 커서 이후의 첫 페이지를, 없다면 페이지 번호의 페이지를 조회한다 (DB 검색용)
+     */
+    private static Pageable toPageable(PostCursor cursor, Integer page, int size) {
+        int pageIndex = cursor != null || page == null ? 0 : Math.max(page - 1, 0);
+        return PageRequest.of(pageIndex, Math.max(size, 1));
+    }
 
-        // 고정 게시판 조회
-        List<BoardRedisKey> fixedBoardList = fixedBoardCacheMap.entrySet().stream()
-            .filter(entry -> entry.getValue().getBoardName().contains(trimmedPrefix))
-            .map(fixedBoard -> BoardRedisKey.builder()
-                .boardId(fixedBoard.getKey())
-                .boardName(fixedBoard.getValue().getBoardName())
-                .build())
-            .toList();
+    private static int toOffset(PostCursor cursor, Integer page, int size) {
+        return cursor != null || page == null ? 0 : Math.max(page - 1, 0) * size;
+    }
+
+    private static LocalDateTime cursorCreatedAt(PostCursor cursor) {
+        return cursor == null ? null : cursor.getCreatedAt();
+    }
+
+    private static Long cursorPostId(PostCursor cursor) {
+        return cursor == null ? null : cursor.getPostId();
+    }
+
+    private static String encodeCursor(PostSearchResult searchResult) {
+        return searchResult.nextCursor() == null ? null : searchResult.nextCursor().encode();
+    }
+
+    private static int toTotalPageCount(long totalCount, int size) {
+        return size == 0 ? 1 : (int) Math.ceil((double) totalCount / size);
+    }
+
+    // 게시판 이름 자동완성 메서드
+    public List<BoardRedisKey> findBoardsByPrefix(String prefix) {
+        // 캐싱해놓은 실시간 인기 게시판과 고정 게시판의 이름 색인에서 조회 (공백은 무시, 일치 위치가 앞일수록 우선)
+        // - 입력 중인 한글(ex. "ㅇㅅ", "한구")도 자모, 초성 단위로 일치하는 게시판을 찾는다
+        List<BoardRedisKey> realtimeBoardList = boardCache.autocompleteRealtimeBoards(prefix,
+            Integer.MAX_VALUE);
+        List<BoardRedisKey> fixedBoardList = boardCache.autocompleteFixedBoards(prefix,
+            Integer.MAX_VALUE);
 
         // 실시간 게시판과 고정 게시판 결합
-        List<BoardRedisKey> result = new ArrayList<>(filteredBoards);
+        List<BoardRedisKey> result = new ArrayList<>(
+            realtimeBoardList.size() + fixedBoardList.size());
+        result.addAll(realtimeBoardList);
         result.addAll(fixedBoardList);
 
         return result;
@@ -11,9 +11,12 @@ public class FixedPostSearchDto {
     private int totalPageCount;
     private long totalCount;
     private List<PostSummaryDto> postList;
+    // 다음 검색 결과를 조회할 때 전달할 커서 (다음 검색 결과가 없다면 null)
+    private String nextCursor;
 
-    public static FixedPostSearchDto of(int totalPageCount, long totalCount, List<PostSummaryDto> postList) {
-        return new FixedPostSearchDto(totalPageCount, totalCount, postList);
+    public static FixedPostSearchDto of(int totalPageCount, long totalCount, List<PostSummaryDto> postList,
+        String nextCursor) {
+        return new FixedPostSearchDto(totalPageCount, totalCount, postList, nextCursor);
     }
 
 }
@@ -11,8 +11,11 @@ public class RealtimePostSearchDto {
     private int totalPageCount;
     private long totalCount;
     private List<PostWithBoardSummaryDto> realtimePostList;
+    // 다음 검색 결과를 조회할 때 전달할 커서 (다음 검색 결과가 없다면 null)
+    private String nextCursor;
 
-    public static RealtimePostSearchDto of(int totalPageCount, long totalCount, List<PostWithBoardSummaryDto> realtimePostList) {
-        return new RealtimePostSearchDto(totalPageCount, totalCount, realtimePostList);
+    public static RealtimePostSearchDto of(int totalPageCount, long totalCount, List<PostWithBoardSummaryDto> realtimePostList,
+        String nextCursor) {
+        return new RealtimePostSearchDto(totalPageCount, totalCount, realtimePostList, nextCursor);
     }
 }
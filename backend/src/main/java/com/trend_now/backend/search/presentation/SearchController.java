@@ -7,7 +7,10 @@ import com.trend_now.backend.search.aplication.SearchService;
 import com.trend_now.backend.search.dto.BoardRedisKey;
 import com.trend_now.backend.search.dto.SearchResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,6 +31,8 @@ public class SearchController {
     public static final String REALTIME_BOARD_SEARCH_SUCCESS = "실시간 게시판 목록 검색 완료";
     public static final String REALTIME_POST_SEARCH_SUCCESS = "실시간 게시판의 게시글 목록 검색 완료";
     public static final String FIXED_POST_SEARCH_SUCCESS = "고정 게시판의 게시글 목록 검색 완료";
+    public static final int MAX_POST_SEARCH_SIZE = 100;
+    private static final String INVALID_POST_SEARCH_SIZE = "조회 개수(size)는 1 이상 100 이하로 입력해주세요.";
 
     private final SearchService searchService;
 
@@ -43,14 +48,18 @@ public class SearchController {
             .body(SearchResponseDto.of(REALTIME_BOARD_SEARCH_SUCCESS, realtimeBoardsByKeyword));
     }
 
-    @Operation(summary = "검색어에 따른 실시간 게시판의 게시글 조회", description = "검색어에 해당하는 실시간 게시판의 게시글 목록을 조회합니다.")
+    @Operation(summary = "검색어에 따른 실시간 게시판의 게시글 조회", description = "검색어에 해당하는 실시간 게시판의 게시글 목록을 최신순으로 조회합니다. 다음 목록은 응답의 nextCursor를 cursor로 전달하여 조회합니다.")
     @GetMapping("/realtimePosts")
     public ResponseEntity<SearchResponseDto> findRealtimePosts(
         @RequestParam String keyword,
-        @RequestParam(required = false, defaultValue = "1") int page,
-        @RequestParam(required = false, defaultValue = "10") int size) {
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "cursor 도입 이전 클라이언트를 위한 페이지 번호 (다음 릴리스에서 제거 예정)", deprecated = true)
+        @RequestParam(required = false) Integer page,
+        @RequestParam(required = false, defaultValue = "10")
+        @Min(value = 1, message = INVALID_POST_SEARCH_SIZE)
+        @Max(value = MAX_POST_SEARCH_SIZE, message = INVALID_POST_SEARCH_SIZE) int size) {
         RealtimePostSearchDto realtimePostsByKeyword = searchService.findRealtimePostsByKeyword(
-            keyword, page, size);
+            keyword, cursor, page, size);
 
         log.info("실시간 게시판의 게시글 목록 검색 완료, 검색어: {}", keyword);
 
@@ -58,16 +67,20 @@ public class SearchController {
             .body(SearchResponseDto.of(REALTIME_POST_SEARCH_SUCCESS, realtimePostsByKeyword));
     }
 
-    @Operation(summary = "검색어에 따른 고정 게시판의 게시글 조회", description = "검색어에 해당하는 고정 게시판의 게시글 목록을 조회합니다.")
+    @Operation(summary = "검색어에 따른 고정 게시판의 게시글 조회", description = "검색어에 해당하는 고정 게시판의 게시글 목록을 최신순으로 조회합니다. 다음 목록은 응답의 nextCursor를 cursor로 전달하여 조회합니다.")
     @GetMapping("/fixedPosts")
     public ResponseEntity<SearchResponseDto> findFixedPosts(
         @RequestParam String keyword,
         @RequestParam Long boardId,
-        @RequestParam(required = false, defaultValue = "1") int page,
-        @RequestParam(required = false, defaultValue = "10") int size) {
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "cursor 도입 이전 클라이언트를 위한 페이지 번호 (다음 릴리스에서 제거 예정)", deprecated = true)
+        @RequestParam(required = false) Integer page,
+        @RequestParam(required = false, defaultValue = "10")
+        @Min(value = 1, message = INVALID_POST_SEARCH_SIZE)
+        @Max(value = MAX_POST_SEARCH_SIZE, message = INVALID_POST_SEARCH_SIZE) int size) {
 
         FixedPostSearchDto freePostsByKeyword = searchService.findFixedPostsByKeyword(
-            keyword, boardId, page, size);
+            keyword, boardId, cursor, page, size);
 
         log.info("고정 게시판의 게시글 목록 검색 완료, 검색어: {}", keyword);
 
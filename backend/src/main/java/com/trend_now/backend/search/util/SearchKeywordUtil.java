@@ -1,5 +1,7 @@
 package com.trend_now.backend.search.util;
 
+import java.util.Arrays;
+import java.util.Map;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -34,6 +36,20 @@ public class SearchKeywordUtil {
         'ㅆ', 'ㅇ', 'ㅈ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
     };
 
+    /**
+     * 두벌식 자판에서 두 번의 입력으로 만들어지는 겹모음, 겹받침을 입력 순서대로 나눈 값
+     * - 입력 중인 "고"가 "과"로, "달"이 "닭"으로 이어지도록 자동완성 색인과 검색어 모두 이 단위로 분해한다
+     */
+    private static final Map<Character, String> COMPOUND_JAMO_KEYSTROKES = Map.ofEntries(
+        Map.entry('ㅘ', "ㅗㅏ"), Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"),
+        Map.entry('ㅝ', "ㅜㅓ"), Map.entry('ㅞ', "ㅜㅔ"), Map.entry('ㅟ', "ㅜㅣ"),
+        Map.entry('ㅢ', "ㅡㅣ"),
+        Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"),
+        Map.entry('ㄺ', "ㄹㄱ"), Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"),
+        Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"), Map.entry('ㄿ', "ㄹㅍ"),
+        Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ")
+    );
+
     public String disassembleText(String text) {
         StringBuilder initial = new StringBuilder();
 
@@ -62,7 +78,73 @@ public class SearchKeywordUtil {
         return initial.toString();
     }
 
-    private boolean isHangul(char c) {
+    /**
+     * 한 글자를 자판 입력 단위의 자모로 분해하여 추가 (겹모음, 겹받침도 나눈다)
+     * - 한글이 아니면 그대로 추가
+     */
+    public static void appendKeystrokes(char c, StringBuilder keystrokes) {
+        if (!isHangul(c)) {
+            appendJamoKeystrokes(c, keystrokes);
+            return;
+        }
+        int unicodeValue = c - KOREAN_UNICODE_START;
+        int jongsungIndex = unicodeValue % JONGSUNG_COUNT;
+        keystrokes.append(CHOSUNG[unicodeValue / (JUNGSUNG_COUNT * JONGSUNG_COUNT)]);
+        appendJamoKeystrokes(
+            JUNGSUNG[(unicodeValue % (JUNGSUNG_COUNT * JONGSUNG_COUNT)) / JONGSUNG_COUNT],
+            keystrokes);
+        if (jongsungIndex > 0) {
+            appendJamoKeystrokes(JONGSUNG[jongsungIndex], keystrokes);
+        }
+    }
+
+    /**
+     * 문자열을 자판 입력 단위의 자모로 분해
+     * ex) "닭갈비" -> "ㄷㅏㄹㄱㄱㅏㄹㅂㅣ"
+     */
+    public static String disassembleToKeystrokes(CharSequence text) {
+        StringBuilder keystrokes = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            appendKeystrokes(text.charAt(i), keystrokes);
+        }
+        return keystrokes.toString();
+    }
+
+    /**
+     * 한 글자의 초성 (한글이 아니면 그대로 반환)
+     */
+    public static char toChosung(char c) {
+        if (!isHangul(c)) {
+            return c;
+        }
+        return CHOSUNG[(c - KOREAN_UNICODE_START) / (JUNGSUNG_COUNT * JONGSUNG_COUNT)];
+    }
+
+    /**
+     * 문자열이 초성으로 쓰일 수 있는 자음으로만 이루어져 있는지 확인 (ex. "ㅇㅅ")
+     */
+    public static boolean isChosungOnly(CharSequence text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (Arrays.binarySearch(CHOSUNG, text.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void appendJamoKeystrokes(char jamo, StringBuilder keystrokes) {
+        String compound = COMPOUND_JAMO_KEYSTROKES.get(jamo);
+        if (compound == null) {
+            keystrokes.append(jamo);
+        } else {
+            keystrokes.append(compound);
+        }
+    }
+
+    private static boolean isHangul(char c) {
         return c >= KOREAN_UNICODE_START && c <= KOREAN_UNICODE_END;
     }
 }
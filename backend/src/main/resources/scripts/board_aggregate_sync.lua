@@ -0,0 +1,21 @@
+-- 게시판 집계 Hash에서 DB에 반영된 증감분을 DB 집계값 필드로 옮기는 스크립트 (동기화 트랜잭션 커밋 후 실행)
+-- KEYS[i] : 게시판 집계 Hash (board_aggregate:{boardId})
+-- ARGV[1] : 미반영 증감분 필드 (views / likes)
+-- ARGV[2] : DB 집계값 필드 (synced_views / synced_likes)
+-- ARGV[i + 2] : KEYS[i] 게시판에서 DB에 반영된 증감분
+-- 반환값 : 옮긴 게시판 수
+
+local movedCount = 0
+for i, key in ipairs(KEYS) do
+    -- 만료된 Hash는 다음 조회 시 DB 집계값(이번 반영분 포함)으로 다시 채워지므로 새로 만들지 않는다
+    if redis.call('EXISTS', key) == 1 then
+        local count = tonumber(ARGV[i + 2])
+        redis.call('HINCRBY', key, ARGV[1], -count)
+        -- DB 집계값이 아직 채워지지 않았다면, 채울 때 이번 반영분이 포함되므로 증감분만 차감한다
+        if redis.call('HEXISTS', key, ARGV[2]) == 1 then
+            redis.call('HINCRBY', key, ARGV[2], count)
+        end
+        movedCount = movedCount + 1
+    end
+end
+return movedCount
@@ -0,0 +1,17 @@
+-- 게시판 게시글 수 감소 스크립트 (실시간 게시판 게시글 수, 게시판 전체 게시글 수를 원자적으로 감소)
+-- KEYS[1] : 실시간 게시판 키 ({boardName}:{boardId})
+-- KEYS[2] : 게시판 전체 게시글 수 카운터 (board_post_count:{boardId})
+-- 반환값 : { 실시간 게시판 게시글 수 (실시간 게시판이 아니라면 -1), 전체 게시글 수 (카운터가 없다면 -1) }
+
+-- 키가 없을 때 DECR하면 TTL 없는 -1 키가 만들어지므로, 존재하는 키만 감소시킨다 (DECR은 키의 TTL을 유지한다)
+local postCount = -1
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    postCount = redis.call('DECR', KEYS[1])
+end
+
+local totalCount = -1
+if redis.call('EXISTS', KEYS[2]) == 1 then
+    totalCount = redis.call('DECR', KEYS[2])
+end
+
+return { postCount, totalCount }
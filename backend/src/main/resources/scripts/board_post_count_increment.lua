@@ -0,0 +1,61 @@
+-- 실시간 게시판 게시글 수 증가 스크립트 (게시글 수 증가, 게시판 시간 증가를 원자적으로 처리)
+-- KEYS[1] : 실시간 게시판 키 ({boardName}:{boardId})
+-- KEYS[2] : 게시판 시간 증가 임계점 Set (board_threshold)
+-- KEYS[3] : 실시간 게시판 순위 ZSet (board_rank)
+-- KEYS[4] : 게시판 전체 게시글 수 카운터 (board_post_count:{boardId})
+-- ARGV[1] : 첫 번째 임계점 게시글 수 (50)
+-- ARGV[2] : 반복 임계점 게시글 수 (100)
+-- ARGV[3] : 첫 번째 임계점 도달 시 증가하는 시간 (초)
+-- ARGV[4] : 반복 임계점 도달 시 증가하는 시간 (초)
+-- ARGV[5] : 게시판 시간 증가 이벤트 채널 (게시판별 채널)
+-- ARGV[6] : 첫 번째 임계점 도달 시 발행할 이벤트 메시지
+-- ARGV[7] : 반복 임계점 도달 시 발행할 이벤트 메시지
+-- 반환값 : { 게시글 수, 게시판의 남은 시간(초), 증가한 시간(초) }
+
+-- 전체 게시글 수 카운터는 실시간 게시판 여부와 관계없이 증가시킨다
+-- 카운터가 없다면 게시글 목록 조회 시 DB의 게시글 수로 초기화되므로 여기서 만들지 않는다
+if redis.call('EXISTS', KEYS[4]) == 1 then
+    redis.call('INCR', KEYS[4])
+end
+
+-- 실시간 게시판이 아니라면 게시판 시간은 변경하지 않는다
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return { -1, -2, 0 }
+end
+
+-- INCR은 키의 TTL을 유지한다
+local postCount = redis.call('INCR', KEYS[1])
+local firstThreshold = tonumber(ARGV[1])
+local repeatThreshold = tonumber(ARGV[2])
+
+local boardTtl = redis.call('TTL', KEYS[1])
+
+-- SADD의 반환값으로 임계점 도달 여부를 확인하고 등록하여, 같은 임계점에서 시간이 한 번만 증가하도록 한다
+-- 만료 시간이 없거나 만료된 게시판은 시간을 증가시키지 않으므로 임계점도 등록하지 않는다
+local timeUp = 0
+local message
+if boardTtl > 0 then
+    if postCount == firstThreshold then
+        if redis.call('SADD', KEYS[2], KEYS[1] .. ':' .. firstThreshold) == 1 then
+            timeUp = tonumber(ARGV[3])
+            message = ARGV[6]
+        end
+    elseif postCount % repeatThreshold == 0 then
+        if redis.call('SADD', KEYS[2], KEYS[1] .. ':' .. postCount) == 1 then
+            timeUp = tonumber(ARGV[4])
+            message = ARGV[7]
+        end
+    end
+end
+
+if timeUp > 0 then
+    boardTtl = boardTtl + timeUp
+    redis.call('EXPIRE', KEYS[1], boardTtl)
+    -- board_rank의 score는 (만료 시각 * -1)이므로, 증가한 시간만큼 score를 감소
+    if redis.call('ZSCORE', KEYS[3], KEYS[1]) then
+        redis.call('ZINCRBY', KEYS[3], -timeUp * 1000, KEYS[1])
+    end
+    redis.call('PUBLISH', ARGV[5], message)
+end
+
+return { postCount, boardTtl, timeUp }
@@ -0,0 +1,48 @@
+-- 게시글 좋아요 토글 스크립트 (좋아요 추가/취소, 게시판 시간 증가를 원자적으로 처리)
+-- KEYS[1] : 게시글 좋아요 회원 Set (post_like_member:{boardId}:{postId})
+-- KEYS[2] : 게시글 시간 증가 여부 플래그 (post_like_time_up:{boardId}:{postId})
+-- KEYS[3] : 실시간 게시판 키 ({boardName}:{boardId})
+-- KEYS[4] : 실시간 게시판 순위 ZSet (board_rank)
+-- KEYS[5] : 좋아요 DB 동기화 대상 Set (post_like_dirty)
+-- KEYS[6] : 게시판 집계 Hash (board_aggregate:{boardId})
+-- ARGV[1] : 회원 이름
+-- ARGV[2] : DB 동기화 대상 값 ({boardId}:{postId})
+-- ARGV[3] : 게시판 시간이 증가하는 좋아요 개수
+-- ARGV[4] : 증가하는 게시판 시간 (초)
+-- ARGV[5] : 게시판 집계 Hash의 좋아요 필드
+-- ARGV[6] : 게시판 집계 Hash의 만료 시간 (초)
+-- 반환값 : { 좋아요 여부(1/0), 좋아요 개수, 게시판 시간 증가 여부(1/0) }
+
+local liked
+if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then
+    redis.call('SREM', KEYS[1], ARGV[1])
+    redis.call('HINCRBY', KEYS[6], ARGV[5], -1)
+    liked = 0
+else
+    redis.call('SADD', KEYS[1], ARGV[1])
+    redis.call('HINCRBY', KEYS[6], ARGV[5], 1)
+    liked = 1
+end
+redis.call('EXPIRE', KEYS[6], ARGV[6])
+redis.call('SADD', KEYS[5], ARGV[2])
+
+local likeCount = redis.call('SCARD', KEYS[1])
+local timeUp = 0
+if liked == 1 and likeCount >= tonumber(ARGV[3]) and redis.call('EXISTS', KEYS[2]) == 0 then
+    local boardTtl = redis.call('TTL', KEYS[3])
+    -- 실시간 게시판이 아니거나 이미 만료된 경우에는 시간을 증가시키지 않는다
+    if boardTtl > 0 then
+        local timeUpSeconds = tonumber(ARGV[4])
+        local newTtl = boardTtl + timeUpSeconds
+        redis.call('EXPIRE', KEYS[3], newTtl)
+        -- 게시글당 한 번만 시간이 증가하도록 게시판이 살아있는 동안 플래그를 유지
+        redis.call('SET', KEYS[2], '1', 'EX', newTtl)
+        -- board_rank의 score는 (만료 시각 * -1)이므로, 증가한 시간만큼 score를 감소
+        if redis.call('ZSCORE', KEYS[4], KEYS[3]) then
+            redis.call('ZINCRBY', KEYS[4], -timeUpSeconds * 1000, KEYS[3])
+        end
+        timeUp = 1
+    end
+end
+
+return { liked, likeCount, timeUp }
@@ -0,0 +1,12 @@
+-- 실시간 검색어 순위 리스트 세대 교체 스크립트 (리스트 교체, 마지막 갱신 시간, 세대 번호 증가를 원자적으로 처리)
+-- KEYS[1] : 다음 세대 실시간 검색어 순위 리스트 (realtime_keywords:staging)
+-- KEYS[2] : 실시간 검색어 순위 리스트 (realtime_keywords)
+-- KEYS[3] : 마지막 갱신 시간 (realtime_keywords:last_updated)
+-- KEYS[4] : 세대 번호 (realtime_keywords:generation)
+-- ARGV[1] : 마지막 갱신 시간
+-- 반환값 : 새로운 세대 번호
+
+-- 스테이징 리스트가 없다면 RENAME이 실패하여 스크립트 전체가 오류로 반환된다
+redis.call('RENAME', KEYS[1], KEYS[2])
+redis.call('SET', KEYS[3], ARGV[1])
+return redis.call('INCR', KEYS[4])
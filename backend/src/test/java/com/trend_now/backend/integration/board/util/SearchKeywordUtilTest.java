@@ -39,4 +39,21 @@ class SearchKeywordUtilTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    void 자판_입력_단위_분해와_초성_추출() {
+        // given
+        String text = "닭갈비 과자";
+
+        // when
+        String keystrokes = SearchKeywordUtil.disassembleToKeystrokes(text);
+        StringBuilder chosung = new StringBuilder();
+        text.chars().forEach(c -> chosung.append(SearchKeywordUtil.toChosung((char) c)));
+
+        // then
+        assertEquals("ㄷㅏㄹㄱㄱㅏㄹㅂㅣ ㄱㅗㅏㅈㅏ", keystrokes);
+        assertEquals("ㄷㄱㅂ ㄱㅈ", chosung.toString());
+        assertTrue(SearchKeywordUtil.isChosungOnly("ㄷㄱㅂ"));
+        assertFalse(SearchKeywordUtil.isChosungOnly("ㄷㄱ비"));
+    }
+
+}
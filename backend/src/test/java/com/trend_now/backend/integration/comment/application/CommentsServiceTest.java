@@ -19,7 +19,9 @@ import com.trend_now.backend.exception.customException.InvalidRequestException;
 import com.trend_now.backend.member.domain.Members;
 import com.trend_now.backend.member.domain.Provider;
 import com.trend_now.backend.member.repository.MemberRepository;
+import com.trend_now.backend.post.application.PostsService;
 import com.trend_now.backend.post.domain.Posts;
+import com.trend_now.backend.post.dto.PostsUpdateRequestDto;
 import com.trend_now.backend.post.repository.PostsRepository;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
@@ -54,6 +56,9 @@ class CommentsServiceTest {
     @Autowired
     private BoardService boardService;
 
+    @Autowired
+    private PostsService postsService;
+
     @Autowired
     private CommentsRepository commentsRepository;
 
@@ -101,6 +106,53 @@ class CommentsServiceTest {
         em.clear();
     }
 
+    @Test
+    @DisplayName("댓글을 작성하거나 삭제하면 게시글의 댓글 수가 함께 변경된다.")
+    void 댓글_작성_삭제시_게시글_댓글수_변경() {
+        // given
+        String key = testBoards.getName() + BOARD_KEY_DELIMITER + testBoards.getId();
+        redisTemplate.opsForValue().set(key, "실시간 게시판");
+        SaveCommentsDto testSaveCommentsDto =
+            SaveCommentsDto.of(testBoards.getId(), testPost.getId(), testBoards.getName(),
+                "testContent");
+
+        // when
+        Comments comments = commentsService.saveComments(testMembers, testSaveCommentsDto);
+        commentsService.saveComments(testMembers, testSaveCommentsDto);
+        commentsService.deleteCommentsByCommentId(testMembers, DeleteCommentsDto.of(
+            testBoards.getId(), testPost.getId(), testBoards.getName(), comments.getId()));
+        em.flush();
+        em.clear();
+
+        // then
+        assertThat(postsRepository.findById(testPost.getId()).orElseThrow().getCommentCount())
+            .isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("댓글이 작성된 후 게시글을 수정해도 게시글의 댓글 수가 유지된다.")
+    void 댓글_작성후_게시글_수정시_댓글수_유지() {
+        // given
+        String key = testBoards.getName() + BOARD_KEY_DELIMITER + testBoards.getId();
+        redisTemplate.opsForValue().set(key, "실시간 게시판");
+        // 댓글 수 증가(UPDATE 쿼리) 이전의 게시글을 영속성 컨텍스트에 올려둔다
+        postsRepository.findById(testPost.getId()).orElseThrow();
+        commentsService.saveComments(testMembers, SaveCommentsDto.of(testBoards.getId(),
+            testPost.getId(), testBoards.getName(), "testContent"));
+
+        // when
+        postsService.updatePostsById(
+            PostsUpdateRequestDto.of("updatedTitle", "updatedContent", null, null),
+            testBoards.getId(), testPost.getId(), testMembers.getId(), testMembers.getName());
+        em.flush();
+        em.clear();
+
+        // then
+        Posts updatedPost = postsRepository.findById(testPost.getId()).orElseThrow();
+        assertThat(updatedPost.getTitle()).isEqualTo("updatedTitle");
+        assertThat(updatedPost.getCommentCount()).isEqualTo(1L);
+    }
+
     @Test
     @DisplayName("자신이 작성한 댓글만 수정 또는 삭제를 할 수 있다.")
     void 댓글_작성자만_수정_또는_삭제_가능() {
@@ -0,0 +1,85 @@
+package com.trend_now.backend.integration.config.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.trend_now.backend.integration.annotation.WithMockCustomUser;
+import com.trend_now.backend.opensearch.service.PostSearchReindexService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(locations = "classpath:application-test.yml")
+public class ActuatorAuthorizationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private PostSearchReindexService postSearchReindexService;
+
+    @WithMockCustomUser
+    @Test
+    @DisplayName("일반 회원은 게시글 전체 재색인 Actuator 엔드포인트를 호출할 수 없다")
+    public void 일반회원_재색인_요청_거부() throws Exception {
+        mockMvc.perform(post("/actuator/reindexposts")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"recreate\": true}"))
+            .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/reindexposts"))
+            .andExpect(status().isForbidden());
+
+        verify(postSearchReindexService, never()).reindexAll(anyBoolean());
+    }
+
+    @WithMockCustomUser
+    @Test
+    @DisplayName("일반 회원은 지표 Actuator 엔드포인트를 조회할 수 없다")
+    public void 일반회원_지표_조회_거부() throws Exception {
+        mockMvc.perform(get("/actuator/metrics"))
+            .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("인증되지 않은 요청도 헬스 체크 Actuator 엔드포인트는 조회할 수 있다")
+    public void 비회원_헬스체크_허용() throws Exception {
+        // 의존 서비스 상태에 따라 DOWN(503)일 수 있으므로 인증/인가 거부가 아닌지만 확인한다
+        mockMvc.perform(get("/actuator/health"))
+            .andExpect(result -> assertThat(result.getResponse().getStatus())
+                .isNotIn(HttpStatus.UNAUTHORIZED.value(), HttpStatus.FORBIDDEN.value()));
+        mockMvc.perform(get("/actuator/health/ping"))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("인증되지 않은 요청은 지표와 재색인 Actuator 엔드포인트를 호출할 수 없다")
+    public void 비회원_지표_재색인_거부() throws Exception {
+        mockMvc.perform(get("/actuator/metrics"))
+            .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/actuator/reindexposts")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"recreate\": true}"))
+            .andExpect(status().isUnauthorized());
+
+        verify(postSearchReindexService, never()).reindexAll(anyBoolean());
+    }
+}
@@ -112,7 +112,7 @@ public class PostLikesConcurrencyTest {
                     members.get(idx).getName(), boards.getId(), posts.getId());
             executorService.submit(() -> {
                 try {
-                    postLikesService.increaseLikeLock(postLikesIncrementDto);
+                    postLikesService.toggleLike(postLikesIncrementDto);
                 } catch (Exception e) {
                     e.printStackTrace();
                 } finally {
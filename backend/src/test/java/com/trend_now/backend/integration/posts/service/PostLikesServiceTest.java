@@ -117,7 +117,7 @@ public class PostLikesServiceTest {
             PostLikesIncrementDto postLikesIncrementDto = PostLikesIncrementDto.of(
                     members.get(i).getName(), boards.getId(),
                     posts.getId());
-            postLikesService.increaseLikeLock(postLikesIncrementDto);
+            postLikesService.toggleLike(postLikesIncrementDto);
         }
         postLikesService.syncLikesToDatabase();
 
@@ -138,7 +138,7 @@ public class PostLikesServiceTest {
             PostLikesIncrementDto postLikesIncrementDto = PostLikesIncrementDto.of(
                     members.get(i).getName(), boards.getId(),
                     posts.getId());
-            postLikesService.increaseLikeLock(postLikesIncrementDto);
+            postLikesService.toggleLike(postLikesIncrementDto);
         }
         postLikesService.syncLikesToDatabase();
 
@@ -1,42 +1,56 @@
 package com.trend_now.backend.integration.posts.service;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyList;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.trend_now.backend.board.application.BoardAggregateService;
 import com.trend_now.backend.board.domain.BoardCategory;
 import com.trend_now.backend.board.domain.Boards;
+import com.trend_now.backend.board.repository.BoardRepository;
 import com.trend_now.backend.member.domain.Members;
 import com.trend_now.backend.member.domain.Provider;
 import com.trend_now.backend.member.repository.MemberRepository;
 import com.trend_now.backend.post.application.PostLikesService;
-import com.trend_now.backend.post.domain.PostLikes;
+import com.trend_now.backend.post.domain.PostLikesAction;
 import com.trend_now.backend.post.domain.Posts;
+import com.trend_now.backend.post.dto.PostLikeKeyDto;
+import com.trend_now.backend.post.dto.PostLikesIncrementDto;
+import com.trend_now.backend.post.dto.PostLikesToggleDto;
+import com.trend_now.backend.post.repository.PostLikesJdbcRepository;
 import com.trend_now.backend.post.repository.PostLikesRepository;
 import com.trend_now.backend.post.repository.PostsRepository;
-import java.util.Optional;
+import java.util.List;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.SetOperations;
-import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @ExtendWith(MockitoExtension.class)
 @ActiveProfiles("test")
@@ -48,6 +62,13 @@ public class PostLikesServiceUnitTest {
     private static final String REDIS_LIKE_BOARD_KEY_DELIMITER = ":";
     private static final String BOARD_KEY_DELIMITER = ":";
     private static final String REDIS_LIKE_TIME_UP_PREFIX = "post_like_time_up:";
+    private static final String REDIS_LIKE_DIRTY_KEY = "post_like_dirty";
+    private static final String BOARD_RANK_KEY = "board_rank";
+    private static final String BOARD_AGGREGATE_KEY_PREFIX = "board_aggregate:";
+    private static final String LIKE_COUNT_FIELD = "likes";
+    private static final String AGGREGATE_TTL = "7201";
+    private static final String LIKE_TIME_UP_LIMIT = "100";
+    private static final String POST_LIKES_TIME_UP = "301";
 
     @InjectMocks
     private PostLikesService postLikesService;
@@ -65,10 +86,20 @@ public class PostLikesServiceUnitTest {
     private PostLikesRepository postLikesRepository;
 
     @Mock
-    private SetOperations<String, String> setOperations;
+    private PostLikesJdbcRepository postLikesJdbcRepository;
+
+    @Mock
+    private BoardAggregateService boardAggregateService;
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    @Mock
+    @SuppressWarnings("rawtypes")
+    private RedisScript<List> postLikeToggleScript;
 
     @Mock
-    private ZSetOperations<String, String> zSetOperations;
+    private SetOperations<String, String> setOperations;
 
     @Spy
     private Members members;
@@ -81,6 +112,8 @@ public class PostLikesServiceUnitTest {
 
     @BeforeEach
     public void beforeEach() {
+        // 동기화 메서드는 트랜잭션 완료 콜백을 등록하므로 트랜잭션 동기화를 활성화한다
+        TransactionSynchronizationManager.initSynchronization();
         members = spy(Members.builder()
                 .name("testUser")
                 .email("testEmail")
@@ -102,50 +135,116 @@ public class PostLikesServiceUnitTest {
                 .boards(boards)
                 .members(members)
                 .build());
+    }
 
-        when(redisMembersTemplate.opsForSet()).thenReturn(setOperations);
+    @AfterEach
+    public void afterEach() {
+        TransactionSynchronizationManager.clearSynchronization();
     }
 
     @Test
     @DisplayName("사용자가 좋아요를 누르지 않은 게시글일 경우에는 좋아요가 추가된다")
     public void 좋아요_추가() throws Exception {
         //given
-        when(postsRepository.findById(any(Long.class))).thenReturn(Optional.of(posts));
-        when(memberRepository.findByName(any(String.class))).thenReturn(Optional.of(members));
-
-        String redisKey =
-                REDIS_LIKE_USER_KEY_PREFIX + boards.getId() + REDIS_LIKE_BOARD_KEY_DELIMITER
-                        + posts.getId();
+        givenExistingPostAndMember();
         String memberName = members.getName();
-        when(setOperations.isMember(eq(redisKey), eq(memberName))).thenReturn(false);
+        when(redisMembersTemplate.execute(eq(postLikeToggleScript), anyList(), eq(memberName),
+                eq(boardPostKey()), eq(LIKE_TIME_UP_LIMIT), eq(POST_LIKES_TIME_UP),
+                eq(LIKE_COUNT_FIELD), eq(AGGREGATE_TTL))).thenReturn(List.of(1L, 1L, 0L));
 
         //when
-        postLikesService.doLike(boards.getName(), boards.getId(), posts.getId(), members.getName());
+        PostLikesToggleDto result = postLikesService.toggleLike(
+                PostLikesIncrementDto.of(memberName, boards.getId(), posts.getId()));
 
         //then
-        verify(setOperations, times(1)).add(eq(redisKey), eq(memberName));
-        verify(setOperations, never()).remove(eq(redisKey), eq(memberName));
+        assertThat(result.getPostLikesAction()).isEqualTo(PostLikesAction.LIKED);
+        assertThat(result.getLikeCount()).isEqualTo(1);
     }
 
     @Test
     @DisplayName("사용자가 좋아요를 누른 게시글일 경우에는 좋아요가 삭제된다")
     public void 좋아요_삭제() throws Exception {
         //given
-        when(postsRepository.findById(any(Long.class))).thenReturn(Optional.of(posts));
-        when(memberRepository.findByName(any(String.class))).thenReturn(Optional.of(members));
+        givenExistingPostAndMember();
+        String memberName = members.getName();
+        when(redisMembersTemplate.execute(eq(postLikeToggleScript), anyList(), eq(memberName),
+                eq(boardPostKey()), eq(LIKE_TIME_UP_LIMIT), eq(POST_LIKES_TIME_UP),
+                eq(LIKE_COUNT_FIELD), eq(AGGREGATE_TTL))).thenReturn(List.of(0L, 0L, 0L));
+
+        //when
+        PostLikesToggleDto result = postLikesService.toggleLike(
+                PostLikesIncrementDto.of(memberName, boards.getId(), posts.getId()));
+
+        //then
+        assertThat(result.getPostLikesAction()).isEqualTo(PostLikesAction.UNLIKED);
+        assertThat(result.getLikeCount()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("게시글과 회원의 존재 여부는 캐싱되어 반복된 좋아요 요청에서 DB를 다시 조회하지 않는다")
+    public void 좋아요_존재여부_캐시() throws Exception {
+        //given
+        givenExistingPostAndMember();
+        String memberName = members.getName();
+        when(redisMembersTemplate.execute(eq(postLikeToggleScript), anyList(), eq(memberName),
+                eq(boardPostKey()), eq(LIKE_TIME_UP_LIMIT), eq(POST_LIKES_TIME_UP),
+                eq(LIKE_COUNT_FIELD), eq(AGGREGATE_TTL)))
+                .thenReturn(List.of(1L, 1L, 0L), List.of(0L, 0L, 0L));
+        PostLikesIncrementDto postLikesIncrementDto = PostLikesIncrementDto.of(memberName,
+                boards.getId(), posts.getId());
 
-        String redisKey =
-                REDIS_LIKE_USER_KEY_PREFIX + boards.getId() + REDIS_LIKE_BOARD_KEY_DELIMITER
-                        + posts.getId();
+        //when
+        postLikesService.toggleLike(postLikesIncrementDto);
+        postLikesService.toggleLike(postLikesIncrementDto);
+
+        //then
+        verify(postsRepository, times(1)).existsById(eq(posts.getId()));
+        verify(memberRepository, times(1)).existsByName(eq(memberName));
+        verify(boardRepository, times(1)).findNameById(eq(boards.getId()));
+    }
+
+    @Test
+    @DisplayName("게시판 이름 캐시가 제거되면 변경된 게시판 이름으로 board_rank 키를 만든다")
+    public void 좋아요_게시판이름_캐시제거() throws Exception {
+        //given
+        givenExistingPostAndMember();
         String memberName = members.getName();
-        when(setOperations.isMember(eq(redisKey), eq(memberName))).thenReturn(true);
+        String renamedBoardName = "renamedBoard";
+        when(boardRepository.findNameById(eq(boards.getId())))
+                .thenReturn(boards.getName(), renamedBoardName);
+        when(redisMembersTemplate.execute(eq(postLikeToggleScript), anyList(), eq(memberName),
+                eq(boardPostKey()), eq(LIKE_TIME_UP_LIMIT), eq(POST_LIKES_TIME_UP),
+                eq(LIKE_COUNT_FIELD), eq(AGGREGATE_TTL)))
+                .thenReturn(List.of(1L, 1L, 0L), List.of(0L, 0L, 0L));
+        PostLikesIncrementDto postLikesIncrementDto = PostLikesIncrementDto.of(memberName,
+                boards.getId(), posts.getId());
 
         //when
-        postLikesService.doLike(boards.getName(), boards.getId(), posts.getId(), members.getName());
+        postLikesService.toggleLike(postLikesIncrementDto);
+        postLikesService.evictBoardNameCache(List.of(boards.getId()));
+        postLikesService.toggleLike(postLikesIncrementDto);
 
         //then
-        verify(setOperations, times(1)).remove(eq(redisKey), eq(memberName));
-        verify(setOperations, never()).add(eq(redisKey), eq(memberName));
+        ArgumentCaptor<List<String>> keysCaptor = ArgumentCaptor.forClass(List.class);
+        verify(redisMembersTemplate, times(2)).execute(eq(postLikeToggleScript),
+                keysCaptor.capture(), any(Object[].class));
+        assertThat(keysCaptor.getAllValues()).extracting(keys -> keys.get(2))
+                .containsExactly(boards.getName() + BOARD_KEY_DELIMITER + boards.getId(),
+                        renamedBoardName + BOARD_KEY_DELIMITER + boards.getId());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 게시글에 좋아요를 누르면 예외가 발생한다")
+    public void 좋아요_게시글_없음() throws Exception {
+        //given
+        when(postsRepository.existsById(any(Long.class))).thenReturn(false);
+
+        //when & then
+        assertThatThrownBy(() -> postLikesService.toggleLike(
+                PostLikesIncrementDto.of(members.getName(), boards.getId(), posts.getId())))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(redisMembersTemplate, never()).execute(eq(postLikeToggleScript), anyList(),
+                any(Object[].class));
     }
 
     @Test
@@ -154,32 +253,50 @@ public class PostLikesServiceUnitTest {
         //given
         Long boardId = boards.getId();
         Long postId = posts.getId();
+        Long memberId = 1L;
+        doReturn(memberId).when(members).getId();
 
-        String redisKey =
-                REDIS_LIKE_USER_KEY_PREFIX + boardId + REDIS_LIKE_BOARD_KEY_DELIMITER + postId;
-        Set<String> keys = Set.of(redisKey);
-        when(redisMembersTemplate.keys(anyString())).thenReturn(keys);
+        String boardPostKey = boardId + REDIS_LIKE_BOARD_KEY_DELIMITER + postId;
+        when(redisMembersTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.size(eq(REDIS_LIKE_DIRTY_KEY))).thenReturn(1L);
+        when(setOperations.pop(eq(REDIS_LIKE_DIRTY_KEY), anyLong())).thenReturn(
+                List.of(boardPostKey));
+        when(postsRepository.findIdsByIdIn(anyCollection())).thenReturn(List.of(postId));
 
         String memberName = members.getName();
         Set<String> names = Set.of(memberName);
-        when(setOperations.members(any(String.class))).thenReturn(names);
+        when(redisMembersTemplate.executePipelined(any(SessionCallback.class))).thenReturn(
+                List.of(names));
+        when(memberRepository.findAllByNameIn(anyCollection())).thenReturn(List.of(members));
+        when(postLikesRepository.findLikeKeysByPostsIdIn(anyCollection())).thenReturn(List.of());
 
-        Set<String> dbNames = Set.of();
-        when(postLikesRepository.findMembersNameByPostsId(any(Long.class))).thenReturn(dbNames);
+        //when
+        postLikesService.syncLikesToDatabase();
 
-        Long memberId = members.getId();
-        when(memberRepository.findByName(eq(memberName))).thenReturn(Optional.of(members));
-        when(postLikesRepository.existsByPostsIdAndMembersId(eq(postId), eq(memberId))).thenReturn(
-                false);
+        //then
+        verify(postLikesJdbcRepository, times(1)).batchInsert(
+                eq(List.of(new PostLikeKeyDto(postId, memberId))));
+        verify(postLikesJdbcRepository, times(1)).batchDelete(eq(List.of()));
+    }
 
-        when(postsRepository.findById(postId)).thenReturn(Optional.of(posts));
+    @Test
+    @DisplayName("동기화 트랜잭션이 롤백되면 꺼낸 게시글을 post_like_dirty에 다시 등록한다")
+    public void 좋아요_DB_동기화_롤백() throws Exception {
+        //given
+        String boardPostKey = boards.getId() + REDIS_LIKE_BOARD_KEY_DELIMITER + posts.getId();
+        when(redisMembersTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.size(eq(REDIS_LIKE_DIRTY_KEY))).thenReturn(1L);
+        when(setOperations.pop(eq(REDIS_LIKE_DIRTY_KEY), anyLong())).thenReturn(
+                List.of(boardPostKey));
+        when(postsRepository.findIdsByIdIn(anyCollection())).thenReturn(List.of());
+        postLikesService.syncLikesToDatabase();
 
         //when
-        postLikesService.syncLikesToDatabase();
+        TransactionSynchronizationManager.getSynchronizations().forEach(synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
 
         //then
-        verify(postLikesRepository, times(1)).saveAll(anyList());
-        verify(postLikesRepository, never()).delete(any());
+        verify(setOperations, times(1)).add(REDIS_LIKE_DIRTY_KEY, boardPostKey);
     }
 
     @Test
@@ -188,66 +305,64 @@ public class PostLikesServiceUnitTest {
         //given
         Long boardId = boards.getId();
         Long postId = posts.getId();
+        Long memberId = 1L;
 
-        String redisKey =
-                REDIS_LIKE_USER_KEY_PREFIX + boardId + REDIS_LIKE_BOARD_KEY_DELIMITER + postId;
-        Set<String> keys = Set.of(redisKey);
-        when(redisMembersTemplate.keys(anyString())).thenReturn(keys);
+        String boardPostKey = boardId + REDIS_LIKE_BOARD_KEY_DELIMITER + postId;
+        when(redisMembersTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.size(eq(REDIS_LIKE_DIRTY_KEY))).thenReturn(1L);
+        when(setOperations.pop(eq(REDIS_LIKE_DIRTY_KEY), anyLong())).thenReturn(
+                List.of(boardPostKey));
+        when(postsRepository.findIdsByIdIn(anyCollection())).thenReturn(List.of(postId));
 
         Set<String> names = Set.of();
-        when(setOperations.members(any(String.class))).thenReturn(names);
-
-        String memberName = members.getName();
-        Set<String> dbNames = Set.of(memberName);
-        when(postLikesRepository.findMembersNameByPostsId(any(Long.class))).thenReturn(dbNames);
-
-        Long memberId = members.getId();
-        when(memberRepository.findByName(eq(memberName))).thenReturn(Optional.of(members));
-
-        PostLikes postLikes = PostLikes.builder()
-                .posts(posts)
-                .members(members)
-                .build();
-        when(postLikesRepository.findByPostsIdAndMembersId(eq(postId), eq(memberId))).thenReturn(
-                Optional.of(postLikes));
+        when(redisMembersTemplate.executePipelined(any(SessionCallback.class))).thenReturn(
+                List.of(names));
+        when(memberRepository.findAllByNameIn(anyCollection())).thenReturn(List.of());
+        when(postLikesRepository.findLikeKeysByPostsIdIn(anyCollection())).thenReturn(
+                List.of(new PostLikeKeyDto(postId, memberId)));
 
         //when
         postLikesService.syncLikesToDatabase();
 
         //then
-        verify(postLikesRepository, times(1)).delete(any(PostLikes.class));
+        verify(postLikesJdbcRepository, times(1)).batchInsert(eq(List.of()));
+        verify(postLikesJdbcRepository, times(1)).batchDelete(
+                eq(List.of(new PostLikeKeyDto(postId, memberId))));
     }
 
     @Test
     @DisplayName("한 게시글의 좋아요가 100개 이상될 때 게시판의 남은 시간이 5분 추가된다")
     public void 좋아요_게시판_시간_추가() throws Exception {
         //given
-        when(postsRepository.findById(any(Long.class))).thenReturn(Optional.of(posts));
-        when(memberRepository.findByName(any(String.class))).thenReturn(Optional.of(members));
-        when(redisMembersTemplate.opsForZSet()).thenReturn(zSetOperations);
-
-        String redisKey =
-                REDIS_LIKE_USER_KEY_PREFIX + boards.getId() + REDIS_LIKE_BOARD_KEY_DELIMITER
-                        + posts.getId();
+        givenExistingPostAndMember();
         String memberName = members.getName();
-        String timeUpFlagKey =
-                REDIS_LIKE_TIME_UP_PREFIX + boards.getId() + REDIS_LIKE_BOARD_KEY_DELIMITER
-                        + posts.getId();
-        String boardKey = boards.getName() + BOARD_KEY_DELIMITER + boards.getId();
-
-        when(setOperations.isMember(eq(redisKey), eq(memberName))).thenReturn(false);
-        when(setOperations.size(eq(redisKey))).thenReturn((long) 100);
-        when(redisMembersTemplate.hasKey(eq(timeUpFlagKey))).thenReturn(false);
-        when(redisMembersTemplate.getExpire(eq(boardKey), eq(TimeUnit.SECONDS))).thenReturn(301L);
+        when(redisMembersTemplate.execute(eq(postLikeToggleScript), anyList(), eq(memberName),
+                eq(boardPostKey()), eq(LIKE_TIME_UP_LIMIT), eq(POST_LIKES_TIME_UP),
+                eq(LIKE_COUNT_FIELD), eq(AGGREGATE_TTL))).thenReturn(List.of(1L, 100L, 1L));
 
         //when
-        postLikesService.doLike(boards.getName(), boards.getId(), posts.getId(), members.getName());
+        PostLikesToggleDto result = postLikesService.toggleLike(
+                PostLikesIncrementDto.of(memberName, boards.getId(), posts.getId()));
 
         //then
-        verify(setOperations, times(1)).add(eq(redisKey), eq(memberName));
-        verify(setOperations, never()).remove(eq(redisKey), eq(memberName));
-        verify(redisMembersTemplate, times(1)).expire(eq(boardKey), eq(301L + 301L),
-                eq(TimeUnit.SECONDS));
+        String redisKey = REDIS_LIKE_USER_KEY_PREFIX + boardPostKey();
+        String timeUpFlagKey = REDIS_LIKE_TIME_UP_PREFIX + boardPostKey();
+        String boardKey = boards.getName() + BOARD_KEY_DELIMITER + boards.getId();
+        verify(redisMembersTemplate, times(1)).execute(eq(postLikeToggleScript),
+                eq(List.of(redisKey, timeUpFlagKey, boardKey, BOARD_RANK_KEY, REDIS_LIKE_DIRTY_KEY,
+                        BOARD_AGGREGATE_KEY_PREFIX + boards.getId())),
+                eq(memberName), eq(boardPostKey()), eq(LIKE_TIME_UP_LIMIT), eq(POST_LIKES_TIME_UP),
+                eq(LIKE_COUNT_FIELD), eq(AGGREGATE_TTL));
+        assertThat(result.getLikeCount()).isEqualTo(100);
     }
 
+    private void givenExistingPostAndMember() {
+        when(postsRepository.existsById(eq(posts.getId()))).thenReturn(true);
+        when(memberRepository.existsByName(eq(members.getName()))).thenReturn(true);
+        when(boardRepository.findNameById(eq(boards.getId()))).thenReturn(boards.getName());
+    }
+
+    private String boardPostKey() {
+        return boards.getId() + REDIS_LIKE_BOARD_KEY_DELIMITER + posts.getId();
+    }
 }
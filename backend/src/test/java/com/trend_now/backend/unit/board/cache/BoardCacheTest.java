@@ -0,0 +1,84 @@
+package com.trend_now.backend.unit.board.cache;
+
+import com.trend_now.backend.board.cache.BoardCache;
+import com.trend_now.backend.board.repository.BoardRepository;
+import com.trend_now.backend.search.dto.BoardRedisKey;
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class BoardCacheTest {
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private BoardCache boardCache;
+
+    @BeforeEach
+    void setUp() {
+        boardCache = new BoardCache(boardRepository, redisTemplate);
+        boardCache.addRealtimeBoardCaches(List.of(
+            new BoardRedisKey(1L, "이순신 장군"),
+            new BoardRedisKey(2L, "오늘의 운세"),
+            new BoardRedisKey(3L, "손흥민"),
+            new BoardRedisKey(4L, "한국 축구"),
+            new BoardRedisKey(5L, "대한국인"),
+            new BoardRedisKey(6L, "한국"),
+            new BoardRedisKey(7L, "닭갈비"),
+            new BoardRedisKey(8L, "달리기")));
+    }
+
+    @Test
+    @DisplayName("자음으로만 이루어진 검색어는 게시판 이름의 초성과 일치하는 게시판을 찾는다")
+    void autocompleteRealtimeBoards_chosung() {
+        // when
+        List<BoardRedisKey> result = boardCache.autocompleteRealtimeBoards("ㅇㅅ",
+            Integer.MAX_VALUE);
+
+        // then
+        Assertions.assertThat(result).extracting(BoardRedisKey::getBoardId)
+            .containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("마지막 글자를 입력 중인 검색어는 자판 입력 단위로 일치하는 게시판을 찾는다")
+    void autocompleteRealtimeBoards_composing() {
+        // when
+        List<BoardRedisKey> koreaResult = boardCache.autocompleteRealtimeBoards("한구",
+            Integer.MAX_VALUE);
+        // "닭"의 겹받침 ㄺ은 ㄹ, ㄱ 순서로 입력되므로 "달ㄱ"과 일치한다
+        List<BoardRedisKey> chickenResult = boardCache.autocompleteRealtimeBoards("달ㄱ",
+            Integer.MAX_VALUE);
+
+        // then
+        Assertions.assertThat(koreaResult).extracting(BoardRedisKey::getBoardName)
+            .containsExactlyInAnyOrder("한국", "한국 축구", "대한국인");
+        Assertions.assertThat(chickenResult).extracting(BoardRedisKey::getBoardName)
+            .containsExactly("닭갈비");
+    }
+
+    @Test
+    @DisplayName("일치 위치가 앞일수록, 같은 위치라면 이름이 짧을수록 먼저 조회하고 limit개까지만 조회한다")
+    void autocompleteRealtimeBoards_ranking() {
+        // when
+        List<BoardRedisKey> result = boardCache.autocompleteRealtimeBoards("한 국",
+            Integer.MAX_VALUE);
+        List<BoardRedisKey> limitedResult = boardCache.autocompleteRealtimeBoards("한국", 2);
+
+        // then
+        Assertions.assertThat(result).extracting(BoardRedisKey::getBoardId)
+            .containsExactly(6L, 4L, 5L);
+        Assertions.assertThat(limitedResult).extracting(BoardRedisKey::getBoardId)
+            .containsExactly(6L, 4L);
+    }
+}
@@ -0,0 +1,48 @@
+package com.trend_now.backend.unit.board.repository;
+
+import com.trend_now.backend.board.repository.SseEmitterRepository;
+import java.util.Set;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class SseEmitterRepositoryTest {
+
+    private final SseEmitterRepository sseEmitterRepository = new SseEmitterRepository();
+
+    @Test
+    @DisplayName("모든 게시판을 구독한 clientId가 특정 게시판으로 다시 구독하면 다른 게시판의 이벤트는 받지 않는다")
+    void save_resubscribe() {
+        // given
+        sseEmitterRepository.save("client", new SseEmitter(), Set.of());
+
+        // when
+        sseEmitterRepository.save("client", new SseEmitter(), Set.of(1L));
+
+        // then
+        Assertions.assertThat(sseEmitterRepository.findClientIdsByBoardId(1L))
+            .containsExactly("client");
+        Assertions.assertThat(sseEmitterRepository.findClientIdsByBoardId(2L)).isEmpty();
+        Assertions.assertThat(sseEmitterRepository.isSubscribedBoard("client", 2L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("이전 SSE를 삭제해도 같은 clientId로 재연결한 SSE는 유지된다")
+    void deleteById_reconnected() {
+        // given
+        SseEmitter previous = new SseEmitter();
+        SseEmitter reconnected = new SseEmitter();
+        sseEmitterRepository.save("client", previous, Set.of(1L));
+        sseEmitterRepository.save("client", reconnected, Set.of(1L));
+
+        // when
+        boolean deleted = sseEmitterRepository.deleteById("client", previous);
+
+        // then
+        Assertions.assertThat(deleted).isFalse();
+        Assertions.assertThat(sseEmitterRepository.findById("client")).contains(reconnected);
+        Assertions.assertThat(sseEmitterRepository.findClientIdsByBoardId(1L))
+            .containsExactly("client");
+    }
+}
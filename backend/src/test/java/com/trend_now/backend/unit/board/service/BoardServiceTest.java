@@ -0,0 +1,100 @@
+package com.trend_now.backend.unit.board.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.trend_now.backend.board.application.BoardService;
+import com.trend_now.backend.board.cache.BoardCache;
+import com.trend_now.backend.board.domain.BoardCategory;
+import com.trend_now.backend.board.domain.Boards;
+import com.trend_now.backend.board.dto.SignalKeywordPlan;
+import com.trend_now.backend.board.dto.SignalKeywordPlan.KeywordCase;
+import com.trend_now.backend.board.repository.BoardRepository;
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class BoardServiceTest {
+
+    @Mock
+    private BoardRepository boardRepository;
+
+    @Mock
+    private BoardCache boardCache;
+
+    @InjectMocks
+    private BoardService boardService;
+
+    @Test
+    @DisplayName("두 키워드가 같은 기존 게시판으로 매칭되면, 이름이 같은 게시판을 새로 저장하지 않고 기존 게시판을 사용한다")
+    void applySignalKeywordPlans_sameExistingBoard() {
+        // given
+        Boards existingBoard = Boards.builder()
+            .id(1L)
+            .name("손흥민")
+            .boardCategory(BoardCategory.REALTIME)
+            .build();
+        // 1위 키워드는 유사도로 기존 게시판에 매칭되어 이름을 변경하고, 3위 키워드는 기존 게시판과 이름이 같다
+        SignalKeywordPlan similarPlan = SignalKeywordPlan.builder()
+            .rank(1)
+            .boardName("손흥민 해트트릭")
+            .boardId(1L)
+            .keywordCase(KeywordCase.REALTIME)
+            .previousBoardName("손흥민")
+            .build();
+        SignalKeywordPlan sameNamePlan = SignalKeywordPlan.builder()
+            .rank(3)
+            .boardName("손흥민")
+            .keywordCase(KeywordCase.NEW)
+            .build();
+        when(boardRepository.findByIdIn(anyList())).thenReturn(List.of(existingBoard));
+        when(boardRepository.findByNameIn(anyList())).thenReturn(List.of(existingBoard));
+
+        // when
+        List<SignalKeywordPlan> appliedPlans = boardService.applySignalKeywordPlans(
+            List.of(similarPlan, sameNamePlan));
+
+        // then
+        verify(boardRepository, never()).save(any(Boards.class));
+        Assertions.assertThat(appliedPlans).containsExactly(similarPlan);
+        Assertions.assertThat(existingBoard.getName()).isEqualTo("손흥민 해트트릭");
+    }
+
+    @Test
+    @DisplayName("삭제된 게시판과 이름이 같은 새 키워드는 새로 저장하지 않고 삭제된 게시판을 복원한다")
+    void applySignalKeywordPlans_deletedBoardWithSameName() {
+        // given
+        Boards deletedBoard = Boards.builder()
+            .id(2L)
+            .name("월드컵")
+            .boardCategory(BoardCategory.REALTIME)
+            .deleted(true)
+            .build();
+        SignalKeywordPlan newPlan = SignalKeywordPlan.builder()
+            .rank(1)
+            .boardName("월드컵")
+            .keywordCase(KeywordCase.NEW)
+            .build();
+        when(boardRepository.findByIdIn(anyList())).thenReturn(List.of());
+        when(boardRepository.findByNameIn(anyList())).thenReturn(List.of(deletedBoard));
+
+        // when
+        List<SignalKeywordPlan> appliedPlans = boardService.applySignalKeywordPlans(
+            List.of(newPlan));
+
+        // then
+        verify(boardRepository, never()).save(any(Boards.class));
+        Assertions.assertThat(appliedPlans).containsExactly(newPlan);
+        Assertions.assertThat(newPlan.getBoardId()).isEqualTo(2L);
+        Assertions.assertThat(deletedBoard.isDeleted()).isFalse();
+    }
+}
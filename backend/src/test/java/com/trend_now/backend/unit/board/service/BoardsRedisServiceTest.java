@@ -1,6 +1,7 @@
 package com.trend_now.backend.unit.board.service;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.contains;
@@ -17,6 +18,7 @@ import com.trend_now.backend.board.cache.BoardCache;
 import com.trend_now.backend.board.cache.BoardCacheEntry;
 import com.trend_now.backend.board.dto.BoardPagingRequestDto;
 import com.trend_now.backend.board.dto.BoardPagingResponseDto;
+import com.trend_now.backend.board.dto.RealTimeBoardTimeUpEvent;
 import com.trend_now.backend.board.dto.RealtimeBoardDto;
 import com.trend_now.backend.board.repository.BoardRepository;
 import com.trend_now.backend.post.application.PostLikesService;
@@ -45,6 +47,7 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.SetOperations;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
 
@@ -55,7 +58,10 @@ public class BoardsRedisServiceTest {
 
     private static final String BOARD_RANK_KEY = "board_rank";
     private static final String BOARD_THRESHOLD_KEY = "board_threshold";
+    private static final String BOARD_POST_TOTAL_COUNT_KEY = "board_post_count:";
     public static final String BOARD_KEY_DELIMITER = ":";
+    private static final String TIME_UP_CHANNEL = "realtime-board-timeup-events";
+    private static final String TIME_UP_MESSAGE = "timeUpMessage";
 
     @InjectMocks
     private BoardRedisService boardRedisService;
@@ -63,24 +69,12 @@ public class BoardsRedisServiceTest {
     @Mock
     private RedisTemplate<String, String> redisTemplate;
 
-    @Mock
-    private ValueOperations<String, String> valueOps;
-
-    @Mock
-    private SetOperations<String, String> setOps;
-
-    @Mock
-    private ZSetOperations<String, String> zSetOps;
-
     @Mock
     private RedisPublisher redisPublisher;
 
-    @BeforeEach
-    void setUp() {
-        when(redisTemplate.opsForValue()).thenReturn(valueOps);
-        when(redisTemplate.opsForSet()).thenReturn(setOps);
-        when(redisTemplate.opsForZSet()).thenReturn(zSetOps);
-    }
+    @Mock
+    @SuppressWarnings("rawtypes")
+    private RedisScript<List> boardPostCountIncrementScript;
 
     @ParameterizedTest
     @CsvSource({
@@ -95,38 +89,46 @@ public class BoardsRedisServiceTest {
         String boardName = "testBoard";
         String key = boardName + BOARD_KEY_DELIMITER + boardId;
 
-        // 실시간 게시판이면서 현재 남은 시간이 100초일 경우
-        when(redisTemplate.hasKey(key)).thenReturn(true);
-        when(redisTemplate.getExpire(key, TimeUnit.SECONDS)).thenReturn(100L);
-
-        // 현재 게시글의 수가 49개이면서 시간이 증가된 적이 없을 때
-        AtomicLong postCount = new AtomicLong(initialCount);
-        doAnswer(invocation -> {
-            // Mock을 사용하면 updatePostCountAndExpireTime()에서 increment()가 실행되어도 postCount가 증가하지 않음
-            // 1. mock은 실제 구현을 호출하지 않음
-            // 2. 내부 상태가 없음
-            // 3. 호출 사이의 인과관계가 자동으로 생기지 않음
-
-            // doAnswer()을 사용해 Mock에서도 postCount를 증가시킨다
-            Long delta = invocation.getArgument(1);
-            return postCount.addAndGet(delta);
-        }).when(valueOps).increment(anyString(), anyLong());
-        when(valueOps.get(anyString())).thenAnswer(invocation -> String.valueOf(postCount.get()));
-        when(setOps.isMember(anyString(), anyString())).thenReturn(false);
-        double currentScoreMillis = Instant.now().toEpochMilli();
-        when(zSetOps.score(anyString(), eq(key))).thenReturn(currentScoreMillis);
+        // 실시간 게시판이면서 현재 남은 시간이 100초이고, 게시글 작성으로 임계점에 도달했을 때
+        givenTimeUpEventMessage();
+        when(redisTemplate.execute(eq(boardPostCountIncrementScript),
+                eq(List.of(key, BOARD_THRESHOLD_KEY, BOARD_RANK_KEY, BOARD_POST_TOTAL_COUNT_KEY + boardId)),
+                eq("50"), eq("100"),
+                eq("300"), eq("600"), eq(TIME_UP_CHANNEL), eq(TIME_UP_MESSAGE),
+                eq(TIME_UP_MESSAGE)))
+                .thenReturn(List.of(initialCount + 1L, 100L + expectedTimeUp, expectedTimeUp));
 
         //when
-        boardRedisService.updatePostCountAndExpireTime(boardId, boardName);
+        long boardTtl = boardRedisService.updatePostCountAndExpireTime(boardId, boardName);
 
         //then
-        verify(valueOps).increment(key, 1);
-        verify(redisTemplate).expire(key, 100L + expectedTimeUp, TimeUnit.SECONDS);
+        Assertions.assertThat(initialCount + 1).isEqualTo(threshold);
+        Assertions.assertThat(boardTtl).isEqualTo(100L + expectedTimeUp);
+        verify(redisPublisher).toRealTimeBoardTimeUpMessage(
+                eq(RealTimeBoardTimeUpEvent.from(boardId, boardName, 300L)));
+        verify(redisPublisher).toRealTimeBoardTimeUpMessage(
+                eq(RealTimeBoardTimeUpEvent.from(boardId, boardName, 600L)));
+    }
+
+    @Test
+    @DisplayName("실시간 게시판이 아니라면 게시글 수와 남은 시간이 변경되지 않는다")
+    public void 실시간게시판아님_남은시간미변경() throws Exception {
+        //given
+        givenTimeUpEventMessage();
+        when(redisTemplate.execute(eq(boardPostCountIncrementScript), anyList(),
+                any(Object[].class))).thenReturn(List.of(-1L, -2L, 0L));
+
+        //when
+        long boardTtl = boardRedisService.updatePostCountAndExpireTime(1L, "testBoard");
+
+        //then
+        Assertions.assertThat(boardTtl).isEqualTo(-2L);
+    }
 
-        Instant expectedScore = Instant.ofEpochMilli((long) currentScoreMillis)
-                .plus(expectedTimeUp, ChronoUnit.SECONDS);
-        verify(zSetOps).add(eq(BOARD_RANK_KEY), eq(key), eq((double) expectedScore.toEpochMilli()));
-        verify(setOps).add(eq(BOARD_THRESHOLD_KEY), contains(String.valueOf(threshold)));
+    private void givenTimeUpEventMessage() {
+        when(redisPublisher.getRealTimeBoardTimeUpChannel(anyLong())).thenReturn(TIME_UP_CHANNEL);
+        when(redisPublisher.toRealTimeBoardTimeUpMessage(any(RealTimeBoardTimeUpEvent.class)))
+                .thenReturn(TIME_UP_MESSAGE);
     }
 
 //    @Test
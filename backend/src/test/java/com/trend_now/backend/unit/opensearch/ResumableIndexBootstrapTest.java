@@ -0,0 +1,110 @@
+package com.trend_now.backend.unit.opensearch;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.trend_now.backend.config.RedissonConfig;
+import com.trend_now.backend.opensearch.service.ResumableIndexBootstrap;
+import com.trend_now.backend.opensearch.service.ResumableIndexBootstrap.IndexedBatch;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+@ExtendWith(MockitoExtension.class)
+class ResumableIndexBootstrapTest {
+
+    private static final String CURSOR_KEY = "test_reindex_cursor";
+    private static final String DONE_KEY = "test_reindexed";
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedissonConfig redissonConfig;
+
+    private final List<Long> requestedLastIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(3).run();
+            return true;
+        }).when(redissonConfig).tryExecute(eq("test_reindex_lock"), anyLong(), anyLong(),
+            any(Runnable.class));
+    }
+
+    @Test
+    @DisplayName("Redis에 저장된 커서 이후부터 이어서 색인하고, 마지막 묶음이 끝나면 완료를 기록한다")
+    void run_resumeFromCursor() {
+        // given
+        when(valueOperations.get(CURSOR_KEY)).thenReturn("10");
+        ResumableIndexBootstrap indexBootstrap = createIndexBootstrap(false);
+
+        // when
+        indexBootstrap.run();
+
+        // then
+        Assertions.assertThat(requestedLastIds).containsExactly(10L, 12L);
+        verify(valueOperations).set(CURSOR_KEY, "12");
+        verify(valueOperations).set(CURSOR_KEY, "13");
+        verify(valueOperations).set(DONE_KEY, "13");
+        Assertions.assertThat(indexBootstrap.isReady()).isTrue();
+    }
+
+    @Test
+    @DisplayName("인덱스를 새로 만든 경우 이전 색인 기록을 지우고 처음부터 색인한다")
+    void run_indexCreated() {
+        // given
+        when(valueOperations.get(CURSOR_KEY)).thenReturn(null);
+        ResumableIndexBootstrap indexBootstrap = createIndexBootstrap(true);
+
+        // when
+        indexBootstrap.run();
+
+        // then
+        verify(redisTemplate).delete(List.of(DONE_KEY, CURSOR_KEY));
+        Assertions.assertThat(requestedLastIds).containsExactly(0L, 2L, 4L);
+        verify(valueOperations).set(DONE_KEY, "5");
+    }
+
+    /**
+     * ID 1~13 중 lastId 이후의 데이터를 batchSize개씩 색인하는 것처럼 동작한다
+     */
+    private ResumableIndexBootstrap createIndexBootstrap(boolean indexCreated) {
+        long maxId = indexCreated ? 5L : 13L;
+        return ResumableIndexBootstrap.builder()
+            .indexName("test")
+            .keyPrefix("test")
+            .metricPrefix("test.reindex")
+            .batchSize(BATCH_SIZE)
+            .indexInitializer(() -> indexCreated)
+            .batchIndexer((lastId, batchSize) -> {
+                requestedLastIds.add(lastId);
+                int size = (int) Math.min(batchSize, maxId - lastId);
+                return size <= 0 ? null : new IndexedBatch(size, lastId + size, size);
+            })
+            .totalCounter(() -> maxId)
+            .redisTemplate(redisTemplate)
+            .redissonConfig(redissonConfig)
+            .meterRegistry(new SimpleMeterRegistry())
+            .build();
+    }
+}
@@ -0,0 +1,120 @@
+package com.trend_now.backend.unit.opensearch;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.trend_now.backend.board.cache.BoardCache;
+import com.trend_now.backend.opensearch.dto.SimilarKeywordResult;
+import com.trend_now.backend.opensearch.service.KeywordIndexBootstrapService;
+import com.trend_now.backend.opensearch.service.OpenSearchService;
+import com.trend_now.backend.opensearch.service.SimilarKeywordLookupService;
+import com.trend_now.backend.search.dto.BoardRedisKey;
+import java.util.List;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SimilarKeywordLookupServiceTest {
+
+    @Mock
+    private OpenSearchService openSearchService;
+
+    @Mock
+    private BoardCache boardCache;
+
+    @Mock
+    private KeywordIndexBootstrapService keywordIndexBootstrapService;
+
+    @InjectMocks
+    private SimilarKeywordLookupService similarKeywordLookupService;
+
+    @Test
+    @DisplayName("한 번 조회한 키워드는 유사한 게시판이 없는 결과까지 캐시에서 반환하고 OpenSearch를 다시 호출하지 않는다")
+    void findSimilarKeywords_cached() {
+        // given
+        BoardRedisKey similarBoard = new BoardRedisKey(1L, "손흥민 골");
+        when(keywordIndexBootstrapService.isReady()).thenReturn(true);
+        when(openSearchService.findSimilarKeywords(List.of("손흥민 해트트릭", "새 키워드")))
+            .thenReturn(List.of(SimilarKeywordResult.of(similarBoard),
+                SimilarKeywordResult.of(null)));
+        similarKeywordLookupService.findSimilarKeywords(List.of("손흥민 해트트릭", "새 키워드"));
+
+        // when
+        List<BoardRedisKey> result = similarKeywordLookupService.findSimilarKeywords(
+            List.of(" 손흥민  해트트릭", "새 키워드"));
+
+        // then
+        Assertions.assertThat(result).containsExactly(similarBoard, null);
+        verify(openSearchService, times(1)).findSimilarKeywords(anyList());
+    }
+
+    @Test
+    @DisplayName("OpenSearch 조회에 실패하면 인메모리 게시판 캐시의 유사도 검색 결과를 반환한다")
+    void findSimilarKeywords_fallback() {
+        // given
+        BoardRedisKey similarBoard = new BoardRedisKey(1L, "손흥민 골");
+        when(openSearchService.findSimilarKeywords(anyList()))
+            .thenThrow(new RuntimeException("OpenSearch 연결에 실패했습니다."));
+        when(boardCache.findKeywordSimilarity("손흥민 해트트릭")).thenReturn(similarBoard);
+        when(boardCache.findKeywordSimilarity("새 키워드"))
+            .thenReturn(new BoardRedisKey(null, "새 키워드"));
+
+        // when
+        List<BoardRedisKey> result = similarKeywordLookupService.findSimilarKeywords(
+            List.of("손흥민 해트트릭", "새 키워드"));
+
+        // then
+        Assertions.assertThat(result).containsExactly(similarBoard, null);
+    }
+
+    @Test
+    @DisplayName("msearch 중 일부 키워드의 검색이 실패하면 해당 키워드만 인메모리 게시판 캐시로 조회하고 결과를 캐시에 저장하지 않는다")
+    void findSimilarKeywords_itemFailure() {
+        // given
+        BoardRedisKey similarBoard = new BoardRedisKey(1L, "손흥민 골");
+        BoardRedisKey fallbackBoard = new BoardRedisKey(2L, "월드컵 예선");
+        when(keywordIndexBootstrapService.isReady()).thenReturn(true);
+        when(openSearchService.findSimilarKeywords(List.of("손흥민 해트트릭", "월드컵")))
+            .thenReturn(List.of(SimilarKeywordResult.of(similarBoard),
+                SimilarKeywordResult.failure()));
+        when(openSearchService.findSimilarKeywords(List.of("월드컵")))
+            .thenReturn(List.of(SimilarKeywordResult.of(fallbackBoard)));
+        when(boardCache.findKeywordSimilarity("월드컵")).thenReturn(fallbackBoard);
+
+        // when
+        List<BoardRedisKey> result = similarKeywordLookupService.findSimilarKeywords(
+            List.of("손흥민 해트트릭", "월드컵"));
+        similarKeywordLookupService.findSimilarKeywords(List.of("손흥민 해트트릭", "월드컵"));
+
+        // then
+        Assertions.assertThat(result).containsExactly(similarBoard, fallbackBoard);
+        verify(openSearchService, times(1)).findSimilarKeywords(List.of("월드컵"));
+    }
+
+    @Test
+    @DisplayName("기존 게시판 색인 전에 인덱스가 없다면 OpenSearch에 색인하지 않고 캐시만 갱신한다")
+    void saveKeywords_indexNotCreated() {
+        // given
+        BoardRedisKey savedBoard = new BoardRedisKey(1L, "손흥민 골");
+        when(keywordIndexBootstrapService.isReady()).thenReturn(false);
+        when(openSearchService.indexExists()).thenReturn(false);
+
+        // when
+        similarKeywordLookupService.saveKeywords(List.of(savedBoard));
+        List<BoardRedisKey> result = similarKeywordLookupService.findSimilarKeywords(
+            List.of("손흥민 골"));
+
+        // then
+        Assertions.assertThat(result).containsExactly(savedBoard);
+        verify(openSearchService, never()).saveKeywords(anyList());
+        verify(openSearchService, never()).findSimilarKeywords(anyList());
+    }
+}
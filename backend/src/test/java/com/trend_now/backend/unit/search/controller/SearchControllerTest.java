@@ -0,0 +1,90 @@
+package com.trend_now.backend.unit.search.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.trend_now.backend.config.auth.CustomUserDetailsService;
+import com.trend_now.backend.config.auth.JwtTokenFilter;
+import com.trend_now.backend.config.auth.JwtTokenProvider;
+import com.trend_now.backend.member.application.MemberRedisService;
+import com.trend_now.backend.search.aplication.SearchService;
+import com.trend_now.backend.search.presentation.SearchController;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(controllers = SearchController.class)
+@AutoConfigureMockMvc(addFilters = false)
+public class SearchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private SearchService searchService;
+
+    @MockitoBean
+    private CustomUserDetailsService customUserDetailsService;
+
+    @MockitoBean
+    private MemberRedisService memberRedisService;
+
+    @MockitoBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockitoBean
+    private JwtTokenFilter jwtTokenFilter;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1", "100"})
+    @DisplayName("게시글 검색 조회 개수가 1 이상 100 이하면 검색에 성공한다")
+    public void findRealtimePosts_SizeWithinRange_Success(String size) throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/v1/search/realtimePosts")
+                .param("keyword", "손흥민")
+                .param("size", size))
+            .andExpect(status().isOk())
+            .andDo(print());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "-1", "101"})
+    @DisplayName("실시간 게시판의 게시글 검색 조회 개수가 범위를 벗어나면 400을 반환하고 검색하지 않는다")
+    public void findRealtimePosts_SizeOutOfRange_BadRequest(String size) throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/v1/search/realtimePosts")
+                .param("keyword", "손흥민")
+                .param("size", size))
+            .andExpect(status().isBadRequest())
+            .andDo(print());
+        verify(searchService, never()).findRealtimePostsByKeyword(anyString(), any(), any(),
+            anyInt());
+    }
+
+    @Test
+    @DisplayName("고정 게시판의 게시글 검색 조회 개수가 0이면 400을 반환하고 검색하지 않는다")
+    public void findFixedPosts_SizeZero_BadRequest() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/v1/search/fixedPosts")
+                .param("keyword", "자유")
+                .param("boardId", "1")
+                .param("size", "0"))
+            .andExpect(status().isBadRequest())
+            .andDo(print());
+        verify(searchService, never()).findFixedPostsByKeyword(anyString(), anyLong(), any(),
+            any(), anyInt());
+    }
+}